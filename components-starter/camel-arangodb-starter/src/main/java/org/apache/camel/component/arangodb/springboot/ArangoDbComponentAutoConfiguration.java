@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,25 @@ public class ArangoDbComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ArangoDbComponent.class)
     public ComponentCustomizer configureArangoDbComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("documentCollection", configuration.getDocumentCollection())
+                        .bind("edgeCollection", configuration.getEdgeCollection())
+                        .bind("graph", configuration.getGraph())
+                        .bind("host", configuration.getHost())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("port", configuration.getPort())
+                        .bind("vertexCollection", configuration.getVertexCollection())
+                        .bind("arangoDB", configuration.getArangoDB())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("password", configuration.getPassword())
+                        .bind("user", configuration.getUser());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
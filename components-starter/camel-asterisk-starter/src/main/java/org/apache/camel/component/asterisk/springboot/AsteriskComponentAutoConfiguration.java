@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,15 @@ public class AsteriskComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(AsteriskComponent.class)
     public ComponentCustomizer configureAsteriskComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
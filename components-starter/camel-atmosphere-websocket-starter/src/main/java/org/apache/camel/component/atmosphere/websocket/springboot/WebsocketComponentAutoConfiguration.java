@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,24 @@ public class WebsocketComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(WebsocketComponent.class)
     public ComponentCustomizer configureWebsocketComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("muteException", configuration.getMuteException())
+                        .bind("servletName", configuration.getServletName())
+                        .bind("attachmentMultipartBinding", configuration.getAttachmentMultipartBinding())
+                        .bind("fileNameExtWhitelist", configuration.getFileNameExtWhitelist())
+                        .bind("httpRegistry", configuration.getHttpRegistry())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("allowJavaSerializedObject", configuration.getAllowJavaSerializedObject())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("httpBinding", configuration.getHttpBinding())
+                        .bind("httpConfiguration", configuration.getHttpConfiguration())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
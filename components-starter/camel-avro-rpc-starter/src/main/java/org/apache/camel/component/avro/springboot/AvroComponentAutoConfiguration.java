@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,22 @@ public class AvroComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(AvroComponent.class)
     public ComponentCustomizer configureAvroComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("protocol", configuration.getProtocol())
+                        .bind("protocolClassName", configuration.getProtocolClassName())
+                        .bind("protocolLocation", configuration.getProtocolLocation())
+                        .bind("reflectionProtocol", configuration.getReflectionProtocol())
+                        .bind("singleParameter", configuration.getSingleParameter())
+                        .bind("uriAuthority", configuration.getUriAuthority())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
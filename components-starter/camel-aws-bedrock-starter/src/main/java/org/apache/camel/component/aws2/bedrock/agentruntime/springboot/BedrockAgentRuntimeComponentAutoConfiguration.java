@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,36 @@ public class BedrockAgentRuntimeComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(BedrockAgentRuntimeComponent.class)
     public ComponentCustomizer configureBedrockAgentRuntimeComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("knowledgeBaseId", configuration.getKnowledgeBaseId())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("modelId", configuration.getModelId())
+                        .bind("operation", configuration.getOperation())
+                        .bind("overrideEndpoint", configuration.getOverrideEndpoint())
+                        .bind("pojoRequest", configuration.getPojoRequest())
+                        .bind("profileCredentialsName", configuration.getProfileCredentialsName())
+                        .bind("region", configuration.getRegion())
+                        .bind("uriEndpointOverride", configuration.getUriEndpointOverride())
+                        .bind("useDefaultCredentialsProvider", configuration.getUseDefaultCredentialsProvider())
+                        .bind("useProfileCredentialsProvider", configuration.getUseProfileCredentialsProvider())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("bedrockAgentRuntimeClient", configuration.getBedrockAgentRuntimeClient())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyProtocol", configuration.getProxyProtocol())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("sessionToken", configuration.getSessionToken())
+                        .bind("trustAllCertificates", configuration.getTrustAllCertificates())
+                        .bind("useSessionCredentials", configuration.getUseSessionCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,34 @@ public class AWSConfigComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(AWSConfigComponent.class)
     public ComponentCustomizer configureAWSConfigComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("overrideEndpoint", configuration.getOverrideEndpoint())
+                        .bind("pojoRequest", configuration.getPojoRequest())
+                        .bind("region", configuration.getRegion())
+                        .bind("uriEndpointOverride", configuration.getUriEndpointOverride())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configClient", configuration.getConfigClient())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyProtocol", configuration.getProxyProtocol())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("profileCredentialsName", configuration.getProfileCredentialsName())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("sessionToken", configuration.getSessionToken())
+                        .bind("trustAllCertificates", configuration.getTrustAllCertificates())
+                        .bind("useDefaultCredentialsProvider", configuration.getUseDefaultCredentialsProvider())
+                        .bind("useProfileCredentialsProvider", configuration.getUseProfileCredentialsProvider())
+                        .bind("useSessionCredentials", configuration.getUseSessionCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
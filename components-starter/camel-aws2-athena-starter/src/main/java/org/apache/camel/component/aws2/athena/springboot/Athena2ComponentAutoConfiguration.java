@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,48 @@ public class Athena2ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Athena2Component.class)
     public ComponentCustomizer configureAthena2Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("database", configuration.getDatabase())
+                        .bind("delay", configuration.getDelay())
+                        .bind("initialDelay", configuration.getInitialDelay())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("maxAttempts", configuration.getMaxAttempts())
+                        .bind("maxResults", configuration.getMaxResults())
+                        .bind("nextToken", configuration.getNextToken())
+                        .bind("operation", configuration.getOperation())
+                        .bind("outputLocation", configuration.getOutputLocation())
+                        .bind("outputType", configuration.getOutputType())
+                        .bind("queryExecutionId", configuration.getQueryExecutionId())
+                        .bind("queryString", configuration.getQueryString())
+                        .bind("region", configuration.getRegion())
+                        .bind("resetWaitTimeoutOnRetry", configuration.getResetWaitTimeoutOnRetry())
+                        .bind("retry", configuration.getRetry())
+                        .bind("waitTimeout", configuration.getWaitTimeout())
+                        .bind("workGroup", configuration.getWorkGroup())
+                        .bind("amazonAthenaClient", configuration.getAmazonAthenaClient())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("clientRequestToken", configuration.getClientRequestToken())
+                        .bind("includeTrace", configuration.getIncludeTrace())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyProtocol", configuration.getProxyProtocol())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("encryptionOption", configuration.getEncryptionOption())
+                        .bind("kmsKey", configuration.getKmsKey())
+                        .bind("profileCredentialsName", configuration.getProfileCredentialsName())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("sessionToken", configuration.getSessionToken())
+                        .bind("useDefaultCredentialsProvider", configuration.getUseDefaultCredentialsProvider())
+                        .bind("useProfileCredentialsProvider", configuration.getUseProfileCredentialsProvider())
+                        .bind("useSessionCredentials", configuration.getUseSessionCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
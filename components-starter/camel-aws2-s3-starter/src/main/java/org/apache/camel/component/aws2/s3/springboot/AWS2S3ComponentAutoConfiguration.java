@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,71 @@ public class AWS2S3ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(AWS2S3Component.class)
     public ComponentCustomizer configureAWS2S3Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("autoCreateBucket", configuration.getAutoCreateBucket())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("delimiter", configuration.getDelimiter())
+                        .bind("forcePathStyle", configuration.getForcePathStyle())
+                        .bind("overrideEndpoint", configuration.getOverrideEndpoint())
+                        .bind("pojoRequest", configuration.getPojoRequest())
+                        .bind("policy", configuration.getPolicy())
+                        .bind("prefix", configuration.getPrefix())
+                        .bind("region", configuration.getRegion())
+                        .bind("uriEndpointOverride", configuration.getUriEndpointOverride())
+                        .bind("customerAlgorithm", configuration.getCustomerAlgorithm())
+                        .bind("customerKeyId", configuration.getCustomerKeyId())
+                        .bind("customerKeyMD5", configuration.getCustomerKeyMD5())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("deleteAfterRead", configuration.getDeleteAfterRead())
+                        .bind("destinationBucket", configuration.getDestinationBucket())
+                        .bind("destinationBucketPrefix", configuration.getDestinationBucketPrefix())
+                        .bind("destinationBucketSuffix", configuration.getDestinationBucketSuffix())
+                        .bind("doneFileName", configuration.getDoneFileName())
+                        .bind("fileName", configuration.getFileName())
+                        .bind("ignoreBody", configuration.getIgnoreBody())
+                        .bind("includeBody", configuration.getIncludeBody())
+                        .bind("includeFolders", configuration.getIncludeFolders())
+                        .bind("moveAfterRead", configuration.getMoveAfterRead())
+                        .bind("autocloseBody", configuration.getAutocloseBody())
+                        .bind("batchMessageNumber", configuration.getBatchMessageNumber())
+                        .bind("batchSize", configuration.getBatchSize())
+                        .bind("bufferSize", configuration.getBufferSize())
+                        .bind("deleteAfterWrite", configuration.getDeleteAfterWrite())
+                        .bind("keyName", configuration.getKeyName())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("multiPartUpload", configuration.getMultiPartUpload())
+                        .bind("namingStrategy", configuration.getNamingStrategy())
+                        .bind("operation", configuration.getOperation())
+                        .bind("partSize", configuration.getPartSize())
+                        .bind("restartingPolicy", configuration.getRestartingPolicy())
+                        .bind("storageClass", configuration.getStorageClass())
+                        .bind("streamingUploadMode", configuration.getStreamingUploadMode())
+                        .bind("streamingUploadTimeout", configuration.getStreamingUploadTimeout())
+                        .bind("awsKMSKeyId", configuration.getAwsKMSKeyId())
+                        .bind("useAwsKMS", configuration.getUseAwsKMS())
+                        .bind("useCustomerKey", configuration.getUseCustomerKey())
+                        .bind("useSSES3", configuration.getUseSSES3())
+                        .bind("amazonS3Client", configuration.getAmazonS3Client())
+                        .bind("amazonS3Presigner", configuration.getAmazonS3Presigner())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyProtocol", configuration.getProxyProtocol())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("profileCredentialsName", configuration.getProfileCredentialsName())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("sessionToken", configuration.getSessionToken())
+                        .bind("trustAllCertificates", configuration.getTrustAllCertificates())
+                        .bind("useDefaultCredentialsProvider", configuration.getUseDefaultCredentialsProvider())
+                        .bind("useProfileCredentialsProvider", configuration.getUseProfileCredentialsProvider())
+                        .bind("useSessionCredentials", configuration.getUseSessionCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,42 @@ public class Sns2ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Sns2Component.class)
     public ComponentCustomizer configureSns2Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("autoCreateTopic", configuration.getAutoCreateTopic())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("kmsMasterKeyId", configuration.getKmsMasterKeyId())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("messageDeduplicationIdStrategy", configuration.getMessageDeduplicationIdStrategy())
+                        .bind("messageGroupIdStrategy", configuration.getMessageGroupIdStrategy())
+                        .bind("messageStructure", configuration.getMessageStructure())
+                        .bind("overrideEndpoint", configuration.getOverrideEndpoint())
+                        .bind("policy", configuration.getPolicy())
+                        .bind("queueArn", configuration.getQueueArn())
+                        .bind("region", configuration.getRegion())
+                        .bind("serverSideEncryptionEnabled", configuration.getServerSideEncryptionEnabled())
+                        .bind("subject", configuration.getSubject())
+                        .bind("subscribeSNStoSQS", configuration.getSubscribeSNStoSQS())
+                        .bind("uriEndpointOverride", configuration.getUriEndpointOverride())
+                        .bind("amazonSNSClient", configuration.getAmazonSNSClient())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyProtocol", configuration.getProxyProtocol())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("profileCredentialsName", configuration.getProfileCredentialsName())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("sessionToken", configuration.getSessionToken())
+                        .bind("trustAllCertificates", configuration.getTrustAllCertificates())
+                        .bind("useDefaultCredentialsProvider", configuration.getUseDefaultCredentialsProvider())
+                        .bind("useProfileCredentialsProvider", configuration.getUseProfileCredentialsProvider())
+                        .bind("useSessionCredentials", configuration.getUseSessionCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
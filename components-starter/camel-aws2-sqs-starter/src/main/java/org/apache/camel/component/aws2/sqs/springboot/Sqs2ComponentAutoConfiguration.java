@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,62 @@ public class Sqs2ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Sqs2Component.class)
     public ComponentCustomizer configureSqs2Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("amazonAWSHost", configuration.getAmazonAWSHost())
+                        .bind("autoCreateQueue", configuration.getAutoCreateQueue())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("overrideEndpoint", configuration.getOverrideEndpoint())
+                        .bind("protocol", configuration.getProtocol())
+                        .bind("queueOwnerAWSAccountId", configuration.getQueueOwnerAWSAccountId())
+                        .bind("region", configuration.getRegion())
+                        .bind("uriEndpointOverride", configuration.getUriEndpointOverride())
+                        .bind("attributeNames", configuration.getAttributeNames())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("concurrentConsumers", configuration.getConcurrentConsumers())
+                        .bind("defaultVisibilityTimeout", configuration.getDefaultVisibilityTimeout())
+                        .bind("deleteAfterRead", configuration.getDeleteAfterRead())
+                        .bind("deleteIfFiltered", configuration.getDeleteIfFiltered())
+                        .bind("extendMessageVisibility", configuration.getExtendMessageVisibility())
+                        .bind("kmsDataKeyReusePeriodSeconds", configuration.getKmsDataKeyReusePeriodSeconds())
+                        .bind("kmsMasterKeyId", configuration.getKmsMasterKeyId())
+                        .bind("messageAttributeNames", configuration.getMessageAttributeNames())
+                        .bind("serverSideEncryptionEnabled", configuration.getServerSideEncryptionEnabled())
+                        .bind("visibilityTimeout", configuration.getVisibilityTimeout())
+                        .bind("waitTimeSeconds", configuration.getWaitTimeSeconds())
+                        .bind("batchSeparator", configuration.getBatchSeparator())
+                        .bind("delaySeconds", configuration.getDelaySeconds())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("messageDeduplicationIdStrategy", configuration.getMessageDeduplicationIdStrategy())
+                        .bind("messageGroupIdStrategy", configuration.getMessageGroupIdStrategy())
+                        .bind("messageHeaderExceededLimit", configuration.getMessageHeaderExceededLimit())
+                        .bind("operation", configuration.getOperation())
+                        .bind("amazonSQSClient", configuration.getAmazonSQSClient())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("delayQueue", configuration.getDelayQueue())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyProtocol", configuration.getProxyProtocol())
+                        .bind("maximumMessageSize", configuration.getMaximumMessageSize())
+                        .bind("messageRetentionPeriod", configuration.getMessageRetentionPeriod())
+                        .bind("policy", configuration.getPolicy())
+                        .bind("queueUrl", configuration.getQueueUrl())
+                        .bind("receiveMessageWaitTimeSeconds", configuration.getReceiveMessageWaitTimeSeconds())
+                        .bind("redrivePolicy", configuration.getRedrivePolicy())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("profileCredentialsName", configuration.getProfileCredentialsName())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("sessionToken", configuration.getSessionToken())
+                        .bind("trustAllCertificates", configuration.getTrustAllCertificates())
+                        .bind("useDefaultCredentialsProvider", configuration.getUseDefaultCredentialsProvider())
+                        .bind("useProfileCredentialsProvider", configuration.getUseProfileCredentialsProvider())
+                        .bind("useSessionCredentials", configuration.getUseSessionCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
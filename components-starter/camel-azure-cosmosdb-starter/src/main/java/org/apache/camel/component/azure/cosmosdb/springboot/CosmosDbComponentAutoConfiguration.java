@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,43 @@ public class CosmosDbComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(CosmosDbComponent.class)
     public ComponentCustomizer configureCosmosDbComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("clientTelemetryEnabled", configuration.getClientTelemetryEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("connectionSharingAcrossClientsEnabled", configuration.getConnectionSharingAcrossClientsEnabled())
+                        .bind("consistencyLevel", configuration.getConsistencyLevel())
+                        .bind("containerPartitionKeyPath", configuration.getContainerPartitionKeyPath())
+                        .bind("contentResponseOnWriteEnabled", configuration.getContentResponseOnWriteEnabled())
+                        .bind("cosmosAsyncClient", configuration.getCosmosAsyncClient())
+                        .bind("createContainerIfNotExists", configuration.getCreateContainerIfNotExists())
+                        .bind("createDatabaseIfNotExists", configuration.getCreateDatabaseIfNotExists())
+                        .bind("databaseEndpoint", configuration.getDatabaseEndpoint())
+                        .bind("multipleWriteRegionsEnabled", configuration.getMultipleWriteRegionsEnabled())
+                        .bind("preferredRegions", configuration.getPreferredRegions())
+                        .bind("readRequestsFallbackEnabled", configuration.getReadRequestsFallbackEnabled())
+                        .bind("throughputProperties", configuration.getThroughputProperties())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("changeFeedProcessorOptions", configuration.getChangeFeedProcessorOptions())
+                        .bind("createLeaseContainerIfNotExists", configuration.getCreateLeaseContainerIfNotExists())
+                        .bind("createLeaseDatabaseIfNotExists", configuration.getCreateLeaseDatabaseIfNotExists())
+                        .bind("hostName", configuration.getHostName())
+                        .bind("leaseContainerName", configuration.getLeaseContainerName())
+                        .bind("leaseDatabaseName", configuration.getLeaseDatabaseName())
+                        .bind("itemId", configuration.getItemId())
+                        .bind("itemPartitionKey", configuration.getItemPartitionKey())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("query", configuration.getQuery())
+                        .bind("queryRequestOptions", configuration.getQueryRequestOptions())
+                        .bind("indexingPolicy", configuration.getIndexingPolicy())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("accountKey", configuration.getAccountKey())
+                        .bind("credentialType", configuration.getCredentialType());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,36 @@ public class EventHubsComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(EventHubsComponent.class)
     public ComponentCustomizer configureEventHubsComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("amqpRetryOptions", configuration.getAmqpRetryOptions())
+                        .bind("amqpTransportType", configuration.getAmqpTransportType())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("blobAccessKey", configuration.getBlobAccessKey())
+                        .bind("blobAccountName", configuration.getBlobAccountName())
+                        .bind("blobContainerName", configuration.getBlobContainerName())
+                        .bind("blobStorageSharedKeyCredential", configuration.getBlobStorageSharedKeyCredential())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("checkpointBatchSize", configuration.getCheckpointBatchSize())
+                        .bind("checkpointBatchTimeout", configuration.getCheckpointBatchTimeout())
+                        .bind("checkpointStore", configuration.getCheckpointStore())
+                        .bind("consumerGroupName", configuration.getConsumerGroupName())
+                        .bind("eventPosition", configuration.getEventPosition())
+                        .bind("prefetchCount", configuration.getPrefetchCount())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("partitionId", configuration.getPartitionId())
+                        .bind("partitionKey", configuration.getPartitionKey())
+                        .bind("producerAsyncClient", configuration.getProducerAsyncClient())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("connectionString", configuration.getConnectionString())
+                        .bind("credentialType", configuration.getCredentialType())
+                        .bind("sharedAccessKey", configuration.getSharedAccessKey())
+                        .bind("sharedAccessName", configuration.getSharedAccessName())
+                        .bind("tokenCredential", configuration.getTokenCredential());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
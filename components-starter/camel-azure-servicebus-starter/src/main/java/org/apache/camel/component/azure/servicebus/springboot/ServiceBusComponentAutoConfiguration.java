@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,40 @@ public class ServiceBusComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ServiceBusComponent.class)
     public ComponentCustomizer configureServiceBusComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("amqpRetryOptions", configuration.getAmqpRetryOptions())
+                        .bind("amqpTransportType", configuration.getAmqpTransportType())
+                        .bind("clientOptions", configuration.getClientOptions())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("proxyOptions", configuration.getProxyOptions())
+                        .bind("serviceBusType", configuration.getServiceBusType())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("consumerOperation", configuration.getConsumerOperation())
+                        .bind("disableAutoComplete", configuration.getDisableAutoComplete())
+                        .bind("maxAutoLockRenewDuration", configuration.getMaxAutoLockRenewDuration())
+                        .bind("peekNumMaxMessages", configuration.getPeekNumMaxMessages())
+                        .bind("prefetchCount", configuration.getPrefetchCount())
+                        .bind("receiverAsyncClient", configuration.getReceiverAsyncClient())
+                        .bind("serviceBusReceiveMode", configuration.getServiceBusReceiveMode())
+                        .bind("subQueue", configuration.getSubQueue())
+                        .bind("subscriptionName", configuration.getSubscriptionName())
+                        .bind("reconnectDelay", configuration.getReconnectDelay())
+                        .bind("binary", configuration.getBinary())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("producerOperation", configuration.getProducerOperation())
+                        .bind("scheduledEnqueueTime", configuration.getScheduledEnqueueTime())
+                        .bind("senderAsyncClient", configuration.getSenderAsyncClient())
+                        .bind("serviceBusTransactionContext", configuration.getServiceBusTransactionContext())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("connectionString", configuration.getConnectionString())
+                        .bind("credentialType", configuration.getCredentialType())
+                        .bind("fullyQualifiedNamespace", configuration.getFullyQualifiedNamespace())
+                        .bind("tokenCredential", configuration.getTokenCredential());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
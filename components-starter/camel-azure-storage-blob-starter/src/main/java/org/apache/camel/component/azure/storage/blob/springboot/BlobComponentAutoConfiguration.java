@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,47 @@ public class BlobComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(BlobComponent.class)
     public ComponentCustomizer configureBlobComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("blobName", configuration.getBlobName())
+                        .bind("blobOffset", configuration.getBlobOffset())
+                        .bind("blobType", configuration.getBlobType())
+                        .bind("closeStreamAfterRead", configuration.getCloseStreamAfterRead())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("credentials", configuration.getCredentials())
+                        .bind("credentialType", configuration.getCredentialType())
+                        .bind("dataCount", configuration.getDataCount())
+                        .bind("fileDir", configuration.getFileDir())
+                        .bind("maxResultsPerPage", configuration.getMaxResultsPerPage())
+                        .bind("maxRetryRequests", configuration.getMaxRetryRequests())
+                        .bind("prefix", configuration.getPrefix())
+                        .bind("regex", configuration.getRegex())
+                        .bind("sasToken", configuration.getSasToken())
+                        .bind("serviceClient", configuration.getServiceClient())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("blobSequenceNumber", configuration.getBlobSequenceNumber())
+                        .bind("blockListType", configuration.getBlockListType())
+                        .bind("changeFeedContext", configuration.getChangeFeedContext())
+                        .bind("changeFeedEndTime", configuration.getChangeFeedEndTime())
+                        .bind("changeFeedStartTime", configuration.getChangeFeedStartTime())
+                        .bind("closeStreamAfterWrite", configuration.getCloseStreamAfterWrite())
+                        .bind("commitBlockListLater", configuration.getCommitBlockListLater())
+                        .bind("createAppendBlob", configuration.getCreateAppendBlob())
+                        .bind("createPageBlob", configuration.getCreatePageBlob())
+                        .bind("downloadLinkExpiration", configuration.getDownloadLinkExpiration())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("pageBlobSize", configuration.getPageBlobSize())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("sourceBlobAccessKey", configuration.getSourceBlobAccessKey());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,50 @@ public class DataLakeComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DataLakeComponent.class)
     public ComponentCustomizer configureDataLakeComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("clientId", configuration.getClientId())
+                        .bind("close", configuration.getClose())
+                        .bind("closeStreamAfterRead", configuration.getCloseStreamAfterRead())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("credentialType", configuration.getCredentialType())
+                        .bind("dataCount", configuration.getDataCount())
+                        .bind("directoryName", configuration.getDirectoryName())
+                        .bind("downloadLinkExpiration", configuration.getDownloadLinkExpiration())
+                        .bind("expression", configuration.getExpression())
+                        .bind("fileDir", configuration.getFileDir())
+                        .bind("fileName", configuration.getFileName())
+                        .bind("fileOffset", configuration.getFileOffset())
+                        .bind("maxResults", configuration.getMaxResults())
+                        .bind("maxRetryRequests", configuration.getMaxRetryRequests())
+                        .bind("openOptions", configuration.getOpenOptions())
+                        .bind("path", configuration.getPath())
+                        .bind("permission", configuration.getPermission())
+                        .bind("position", configuration.getPosition())
+                        .bind("recursive", configuration.getRecursive())
+                        .bind("regex", configuration.getRegex())
+                        .bind("retainUncommitedData", configuration.getRetainUncommitedData())
+                        .bind("serviceClient", configuration.getServiceClient())
+                        .bind("sharedKeyCredential", configuration.getSharedKeyCredential())
+                        .bind("tenantId", configuration.getTenantId())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("umask", configuration.getUmask())
+                        .bind("userPrincipalNameReturned", configuration.getUserPrincipalNameReturned())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("accountKey", configuration.getAccountKey())
+                        .bind("clientSecret", configuration.getClientSecret())
+                        .bind("clientSecretCredential", configuration.getClientSecretCredential())
+                        .bind("sasCredential", configuration.getSasCredential())
+                        .bind("sasSignature", configuration.getSasSignature());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,30 @@ public class QueueComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(QueueComponent.class)
     public ComponentCustomizer configureQueueComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("credentialType", configuration.getCredentialType())
+                        .bind("serviceClient", configuration.getServiceClient())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("createQueue", configuration.getCreateQueue())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("maxMessages", configuration.getMaxMessages())
+                        .bind("messageId", configuration.getMessageId())
+                        .bind("popReceipt", configuration.getPopReceipt())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("timeToLive", configuration.getTimeToLive())
+                        .bind("visibilityTimeout", configuration.getVisibilityTimeout())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("credentials", configuration.getCredentials());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
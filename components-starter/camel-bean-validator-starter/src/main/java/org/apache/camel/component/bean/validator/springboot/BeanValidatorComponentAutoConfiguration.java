@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,20 @@ public class BeanValidatorComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(BeanValidatorComponent.class)
     public ComponentCustomizer configureBeanValidatorComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("ignoreXmlConfiguration", configuration.getIgnoreXmlConfiguration())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("constraintValidatorFactory", configuration.getConstraintValidatorFactory())
+                        .bind("messageInterpolator", configuration.getMessageInterpolator())
+                        .bind("traversableResolver", configuration.getTraversableResolver())
+                        .bind("validationProviderResolver", configuration.getValidationProviderResolver())
+                        .bind("validatorFactory", configuration.getValidatorFactory());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,31 @@ public class BoxComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(BoxComponent.class)
     public ComponentCustomizer configureBoxComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("clientId", configuration.getClientId())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("enterpriseId", configuration.getEnterpriseId())
+                        .bind("userId", configuration.getUserId())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("httpParams", configuration.getHttpParams())
+                        .bind("authenticationType", configuration.getAuthenticationType())
+                        .bind("accessTokenCache", configuration.getAccessTokenCache())
+                        .bind("clientSecret", configuration.getClientSecret())
+                        .bind("encryptionAlgorithm", configuration.getEncryptionAlgorithm())
+                        .bind("maxCacheEntries", configuration.getMaxCacheEntries())
+                        .bind("privateKeyFile", configuration.getPrivateKeyFile())
+                        .bind("privateKeyPassword", configuration.getPrivateKeyPassword())
+                        .bind("publicKeyId", configuration.getPublicKeyId())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("userName", configuration.getUserName())
+                        .bind("userPassword", configuration.getUserPassword());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,28 @@ public class CaffeineCacheComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(CaffeineCacheComponent.class)
     public ComponentCustomizer configureCaffeineCacheComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("action", configuration.getAction())
+                        .bind("createCacheIfNotExist", configuration.getCreateCacheIfNotExist())
+                        .bind("evictionType", configuration.getEvictionType())
+                        .bind("expireAfterAccessTime", configuration.getExpireAfterAccessTime())
+                        .bind("expireAfterWriteTime", configuration.getExpireAfterWriteTime())
+                        .bind("initialCapacity", configuration.getInitialCapacity())
+                        .bind("key", configuration.getKey())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("maximumSize", configuration.getMaximumSize())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("cacheLoader", configuration.getCacheLoader())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("removalListener", configuration.getRemovalListener())
+                        .bind("statsCounter", configuration.getStatsCounter())
+                        .bind("statsEnabled", configuration.getStatsEnabled())
+                        .bind("valueType", configuration.getValueType());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,22 @@ public class CometdComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(CometdComponent.class)
     public ComponentCustomizer configureCometdComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("extensions", configuration.getExtensions())
+                        .bind("securityPolicy", configuration.getSecurityPolicy())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("sslKeyPassword", configuration.getSslKeyPassword())
+                        .bind("sslKeystore", configuration.getSslKeystore())
+                        .bind("sslPassword", configuration.getSslPassword())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
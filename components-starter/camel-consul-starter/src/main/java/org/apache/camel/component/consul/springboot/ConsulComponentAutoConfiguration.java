@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,38 @@ public class ConsulComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ConsulComponent.class)
     public ComponentCustomizer configureConsulComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("connectTimeout", configuration.getConnectTimeout())
+                        .bind("consulClient", configuration.getConsulClient())
+                        .bind("key", configuration.getKey())
+                        .bind("pingInstance", configuration.getPingInstance())
+                        .bind("readTimeout", configuration.getReadTimeout())
+                        .bind("tags", configuration.getTags())
+                        .bind("url", configuration.getUrl())
+                        .bind("writeTimeout", configuration.getWriteTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("action", configuration.getAction())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("valueAsString", configuration.getValueAsString())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("consistencyMode", configuration.getConsistencyMode())
+                        .bind("datacenter", configuration.getDatacenter())
+                        .bind("nearNode", configuration.getNearNode())
+                        .bind("nodeMeta", configuration.getNodeMeta())
+                        .bind("aclToken", configuration.getAclToken())
+                        .bind("password", configuration.getPassword())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters())
+                        .bind("userName", configuration.getUserName())
+                        .bind("blockSeconds", configuration.getBlockSeconds())
+                        .bind("firstIndex", configuration.getFirstIndex())
+                        .bind("recursive", configuration.getRecursive());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,33 @@ public class DigitalSignatureComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DigitalSignatureComponent.class)
     public ComponentCustomizer configureDigitalSignatureComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("algorithm", configuration.getAlgorithm())
+                        .bind("alias", configuration.getAlias())
+                        .bind("certificateName", configuration.getCertificateName())
+                        .bind("keystore", configuration.getKeystore())
+                        .bind("keystoreName", configuration.getKeystoreName())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("privateKey", configuration.getPrivateKey())
+                        .bind("privateKeyName", configuration.getPrivateKeyName())
+                        .bind("provider", configuration.getProvider())
+                        .bind("publicKeyName", configuration.getPublicKeyName())
+                        .bind("secureRandomName", configuration.getSecureRandomName())
+                        .bind("signatureHeaderName", configuration.getSignatureHeaderName())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("bufferSize", configuration.getBufferSize())
+                        .bind("certificate", configuration.getCertificate())
+                        .bind("clearHeaders", configuration.getClearHeaders())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("keyStoreParameters", configuration.getKeyStoreParameters())
+                        .bind("publicKey", configuration.getPublicKey())
+                        .bind("secureRandom", configuration.getSecureRandom())
+                        .bind("password", configuration.getPassword());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,18 @@ public class CxfComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(CxfComponent.class)
     public ComponentCustomizer configureCxfComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("allowStreaming", configuration.getAllowStreaming())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,81 @@ public class DebeziumDb2ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DebeziumDb2Component.class)
     public ComponentCustomizer configureDebeziumDb2Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("additionalProperties", configuration.getAdditionalProperties())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("internalKeyConverter", configuration.getInternalKeyConverter())
+                        .bind("internalValueConverter", configuration.getInternalValueConverter())
+                        .bind("offsetCommitPolicy", configuration.getOffsetCommitPolicy())
+                        .bind("offsetCommitTimeoutMs", configuration.getOffsetCommitTimeoutMs())
+                        .bind("offsetFlushIntervalMs", configuration.getOffsetFlushIntervalMs())
+                        .bind("offsetStorage", configuration.getOffsetStorage())
+                        .bind("offsetStorageFileName", configuration.getOffsetStorageFileName())
+                        .bind("offsetStoragePartitions", configuration.getOffsetStoragePartitions())
+                        .bind("offsetStorageReplicationFactor", configuration.getOffsetStorageReplicationFactor())
+                        .bind("offsetStorageTopic", configuration.getOffsetStorageTopic())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("columnExcludeList", configuration.getColumnExcludeList())
+                        .bind("columnIncludeList", configuration.getColumnIncludeList())
+                        .bind("columnPropagateSourceType", configuration.getColumnPropagateSourceType())
+                        .bind("converters", configuration.getConverters())
+                        .bind("customMetricTags", configuration.getCustomMetricTags())
+                        .bind("databaseDbname", configuration.getDatabaseDbname())
+                        .bind("databaseHostname", configuration.getDatabaseHostname())
+                        .bind("databasePassword", configuration.getDatabasePassword())
+                        .bind("databasePort", configuration.getDatabasePort())
+                        .bind("databaseUser", configuration.getDatabaseUser())
+                        .bind("datatypePropagateSourceType", configuration.getDatatypePropagateSourceType())
+                        .bind("decimalHandlingMode", configuration.getDecimalHandlingMode())
+                        .bind("errorsMaxRetries", configuration.getErrorsMaxRetries())
+                        .bind("eventProcessingFailureHandlingMode", configuration.getEventProcessingFailureHandlingMode())
+                        .bind("heartbeatIntervalMs", configuration.getHeartbeatIntervalMs())
+                        .bind("heartbeatTopicsPrefix", configuration.getHeartbeatTopicsPrefix())
+                        .bind("includeSchemaChanges", configuration.getIncludeSchemaChanges())
+                        .bind("incrementalSnapshotChunkSize", configuration.getIncrementalSnapshotChunkSize())
+                        .bind("incrementalSnapshotWatermarkingStrategy", configuration.getIncrementalSnapshotWatermarkingStrategy())
+                        .bind("maxBatchSize", configuration.getMaxBatchSize())
+                        .bind("maxQueueSize", configuration.getMaxQueueSize())
+                        .bind("maxQueueSizeInBytes", configuration.getMaxQueueSizeInBytes())
+                        .bind("messageKeyColumns", configuration.getMessageKeyColumns())
+                        .bind("notificationEnabledChannels", configuration.getNotificationEnabledChannels())
+                        .bind("notificationSinkTopicName", configuration.getNotificationSinkTopicName())
+                        .bind("pollIntervalMs", configuration.getPollIntervalMs())
+                        .bind("postProcessors", configuration.getPostProcessors())
+                        .bind("provideTransactionMetadata", configuration.getProvideTransactionMetadata())
+                        .bind("queryFetchSize", configuration.getQueryFetchSize())
+                        .bind("retriableRestartConnectorWaitMs", configuration.getRetriableRestartConnectorWaitMs())
+                        .bind("schemaHistoryInternal", configuration.getSchemaHistoryInternal())
+                        .bind("schemaHistoryInternalFileFilename", configuration.getSchemaHistoryInternalFileFilename())
+                        .bind("schemaHistoryInternalSkipUnparseableDdl", configuration.getSchemaHistoryInternalSkipUnparseableDdl())
+                        .bind("schemaHistoryInternalStoreOnlyCapturedDatabasesDdl", configuration.getSchemaHistoryInternalStoreOnlyCapturedDatabasesDdl())
+                        .bind("schemaHistoryInternalStoreOnlyCapturedTablesDdl", configuration.getSchemaHistoryInternalStoreOnlyCapturedTablesDdl())
+                        .bind("schemaNameAdjustmentMode", configuration.getSchemaNameAdjustmentMode())
+                        .bind("signalDataCollection", configuration.getSignalDataCollection())
+                        .bind("signalEnabledChannels", configuration.getSignalEnabledChannels())
+                        .bind("signalPollIntervalMs", configuration.getSignalPollIntervalMs())
+                        .bind("skippedOperations", configuration.getSkippedOperations())
+                        .bind("snapshotDelayMs", configuration.getSnapshotDelayMs())
+                        .bind("snapshotFetchSize", configuration.getSnapshotFetchSize())
+                        .bind("snapshotIncludeCollectionList", configuration.getSnapshotIncludeCollectionList())
+                        .bind("snapshotLockTimeoutMs", configuration.getSnapshotLockTimeoutMs())
+                        .bind("snapshotMode", configuration.getSnapshotMode())
+                        .bind("snapshotSelectStatementOverrides", configuration.getSnapshotSelectStatementOverrides())
+                        .bind("snapshotTablesOrderByRowCount", configuration.getSnapshotTablesOrderByRowCount())
+                        .bind("sourceinfoStructMaker", configuration.getSourceinfoStructMaker())
+                        .bind("tableExcludeList", configuration.getTableExcludeList())
+                        .bind("tableIgnoreBuiltin", configuration.getTableIgnoreBuiltin())
+                        .bind("tableIncludeList", configuration.getTableIncludeList())
+                        .bind("timePrecisionMode", configuration.getTimePrecisionMode())
+                        .bind("tombstonesOnDelete", configuration.getTombstonesOnDelete())
+                        .bind("topicNamingStrategy", configuration.getTopicNamingStrategy())
+                        .bind("topicPrefix", configuration.getTopicPrefix());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
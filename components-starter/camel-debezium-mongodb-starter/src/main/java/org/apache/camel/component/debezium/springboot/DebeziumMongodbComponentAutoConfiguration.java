@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,79 @@ public class DebeziumMongodbComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DebeziumMongodbComponent.class)
     public ComponentCustomizer configureDebeziumMongodbComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("additionalProperties", configuration.getAdditionalProperties())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("internalKeyConverter", configuration.getInternalKeyConverter())
+                        .bind("internalValueConverter", configuration.getInternalValueConverter())
+                        .bind("offsetCommitPolicy", configuration.getOffsetCommitPolicy())
+                        .bind("offsetCommitTimeoutMs", configuration.getOffsetCommitTimeoutMs())
+                        .bind("offsetFlushIntervalMs", configuration.getOffsetFlushIntervalMs())
+                        .bind("offsetStorage", configuration.getOffsetStorage())
+                        .bind("offsetStorageFileName", configuration.getOffsetStorageFileName())
+                        .bind("offsetStoragePartitions", configuration.getOffsetStoragePartitions())
+                        .bind("offsetStorageReplicationFactor", configuration.getOffsetStorageReplicationFactor())
+                        .bind("offsetStorageTopic", configuration.getOffsetStorageTopic())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("captureMode", configuration.getCaptureMode())
+                        .bind("collectionExcludeList", configuration.getCollectionExcludeList())
+                        .bind("collectionIncludeList", configuration.getCollectionIncludeList())
+                        .bind("converters", configuration.getConverters())
+                        .bind("cursorMaxAwaitTimeMs", configuration.getCursorMaxAwaitTimeMs())
+                        .bind("customMetricTags", configuration.getCustomMetricTags())
+                        .bind("databaseExcludeList", configuration.getDatabaseExcludeList())
+                        .bind("databaseIncludeList", configuration.getDatabaseIncludeList())
+                        .bind("errorsMaxRetries", configuration.getErrorsMaxRetries())
+                        .bind("eventProcessingFailureHandlingMode", configuration.getEventProcessingFailureHandlingMode())
+                        .bind("fieldExcludeList", configuration.getFieldExcludeList())
+                        .bind("fieldRenames", configuration.getFieldRenames())
+                        .bind("heartbeatIntervalMs", configuration.getHeartbeatIntervalMs())
+                        .bind("heartbeatTopicsPrefix", configuration.getHeartbeatTopicsPrefix())
+                        .bind("incrementalSnapshotWatermarkingStrategy", configuration.getIncrementalSnapshotWatermarkingStrategy())
+                        .bind("maxBatchSize", configuration.getMaxBatchSize())
+                        .bind("maxQueueSize", configuration.getMaxQueueSize())
+                        .bind("maxQueueSizeInBytes", configuration.getMaxQueueSizeInBytes())
+                        .bind("mongodbAuthsource", configuration.getMongodbAuthsource())
+                        .bind("mongodbConnectionMode", configuration.getMongodbConnectionMode())
+                        .bind("mongodbConnectionString", configuration.getMongodbConnectionString())
+                        .bind("mongodbConnectTimeoutMs", configuration.getMongodbConnectTimeoutMs())
+                        .bind("mongodbHeartbeatFrequencyMs", configuration.getMongodbHeartbeatFrequencyMs())
+                        .bind("mongodbPassword", configuration.getMongodbPassword())
+                        .bind("mongodbPollIntervalMs", configuration.getMongodbPollIntervalMs())
+                        .bind("mongodbServerSelectionTimeoutMs", configuration.getMongodbServerSelectionTimeoutMs())
+                        .bind("mongodbSocketTimeoutMs", configuration.getMongodbSocketTimeoutMs())
+                        .bind("mongodbSslEnabled", configuration.getMongodbSslEnabled())
+                        .bind("mongodbSslInvalidHostnameAllowed", configuration.getMongodbSslInvalidHostnameAllowed())
+                        .bind("mongodbUser", configuration.getMongodbUser())
+                        .bind("notificationEnabledChannels", configuration.getNotificationEnabledChannels())
+                        .bind("notificationSinkTopicName", configuration.getNotificationSinkTopicName())
+                        .bind("pollIntervalMs", configuration.getPollIntervalMs())
+                        .bind("postProcessors", configuration.getPostProcessors())
+                        .bind("provideTransactionMetadata", configuration.getProvideTransactionMetadata())
+                        .bind("queryFetchSize", configuration.getQueryFetchSize())
+                        .bind("retriableRestartConnectorWaitMs", configuration.getRetriableRestartConnectorWaitMs())
+                        .bind("schemaHistoryInternalFileFilename", configuration.getSchemaHistoryInternalFileFilename())
+                        .bind("schemaNameAdjustmentMode", configuration.getSchemaNameAdjustmentMode())
+                        .bind("signalDataCollection", configuration.getSignalDataCollection())
+                        .bind("signalEnabledChannels", configuration.getSignalEnabledChannels())
+                        .bind("signalPollIntervalMs", configuration.getSignalPollIntervalMs())
+                        .bind("skippedOperations", configuration.getSkippedOperations())
+                        .bind("snapshotCollectionFilterOverrides", configuration.getSnapshotCollectionFilterOverrides())
+                        .bind("snapshotDelayMs", configuration.getSnapshotDelayMs())
+                        .bind("snapshotFetchSize", configuration.getSnapshotFetchSize())
+                        .bind("snapshotIncludeCollectionList", configuration.getSnapshotIncludeCollectionList())
+                        .bind("snapshotMaxThreads", configuration.getSnapshotMaxThreads())
+                        .bind("snapshotMode", configuration.getSnapshotMode())
+                        .bind("sourceinfoStructMaker", configuration.getSourceinfoStructMaker())
+                        .bind("tombstonesOnDelete", configuration.getTombstonesOnDelete())
+                        .bind("topicNamingStrategy", configuration.getTopicNamingStrategy())
+                        .bind("topicPrefix", configuration.getTopicPrefix());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
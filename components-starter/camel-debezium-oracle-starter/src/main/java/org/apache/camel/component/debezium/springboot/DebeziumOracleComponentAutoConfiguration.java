@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,125 @@ public class DebeziumOracleComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DebeziumOracleComponent.class)
     public ComponentCustomizer configureDebeziumOracleComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("additionalProperties", configuration.getAdditionalProperties())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("internalKeyConverter", configuration.getInternalKeyConverter())
+                        .bind("internalValueConverter", configuration.getInternalValueConverter())
+                        .bind("offsetCommitPolicy", configuration.getOffsetCommitPolicy())
+                        .bind("offsetCommitTimeoutMs", configuration.getOffsetCommitTimeoutMs())
+                        .bind("offsetFlushIntervalMs", configuration.getOffsetFlushIntervalMs())
+                        .bind("offsetStorage", configuration.getOffsetStorage())
+                        .bind("offsetStorageFileName", configuration.getOffsetStorageFileName())
+                        .bind("offsetStoragePartitions", configuration.getOffsetStoragePartitions())
+                        .bind("offsetStorageReplicationFactor", configuration.getOffsetStorageReplicationFactor())
+                        .bind("offsetStorageTopic", configuration.getOffsetStorageTopic())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("binaryHandlingMode", configuration.getBinaryHandlingMode())
+                        .bind("columnExcludeList", configuration.getColumnExcludeList())
+                        .bind("columnIncludeList", configuration.getColumnIncludeList())
+                        .bind("columnPropagateSourceType", configuration.getColumnPropagateSourceType())
+                        .bind("converters", configuration.getConverters())
+                        .bind("customMetricTags", configuration.getCustomMetricTags())
+                        .bind("databaseConnectionAdapter", configuration.getDatabaseConnectionAdapter())
+                        .bind("databaseDbname", configuration.getDatabaseDbname())
+                        .bind("databaseHostname", configuration.getDatabaseHostname())
+                        .bind("databaseOutServerName", configuration.getDatabaseOutServerName())
+                        .bind("databasePassword", configuration.getDatabasePassword())
+                        .bind("databasePdbName", configuration.getDatabasePdbName())
+                        .bind("databasePort", configuration.getDatabasePort())
+                        .bind("databaseUrl", configuration.getDatabaseUrl())
+                        .bind("databaseUser", configuration.getDatabaseUser())
+                        .bind("datatypePropagateSourceType", configuration.getDatatypePropagateSourceType())
+                        .bind("decimalHandlingMode", configuration.getDecimalHandlingMode())
+                        .bind("errorsMaxRetries", configuration.getErrorsMaxRetries())
+                        .bind("eventProcessingFailureHandlingMode", configuration.getEventProcessingFailureHandlingMode())
+                        .bind("heartbeatActionQuery", configuration.getHeartbeatActionQuery())
+                        .bind("heartbeatIntervalMs", configuration.getHeartbeatIntervalMs())
+                        .bind("heartbeatTopicsPrefix", configuration.getHeartbeatTopicsPrefix())
+                        .bind("includeSchemaChanges", configuration.getIncludeSchemaChanges())
+                        .bind("includeSchemaComments", configuration.getIncludeSchemaComments())
+                        .bind("incrementalSnapshotWatermarkingStrategy", configuration.getIncrementalSnapshotWatermarkingStrategy())
+                        .bind("intervalHandlingMode", configuration.getIntervalHandlingMode())
+                        .bind("lobEnabled", configuration.getLobEnabled())
+                        .bind("logMiningArchiveDestinationName", configuration.getLogMiningArchiveDestinationName())
+                        .bind("logMiningArchiveLogHours", configuration.getLogMiningArchiveLogHours())
+                        .bind("logMiningArchiveLogOnlyMode", configuration.getLogMiningArchiveLogOnlyMode())
+                        .bind("logMiningArchiveLogOnlyScnPollIntervalMs", configuration.getLogMiningArchiveLogOnlyScnPollIntervalMs())
+                        .bind("logMiningBatchSizeDefault", configuration.getLogMiningBatchSizeDefault())
+                        .bind("logMiningBatchSizeMax", configuration.getLogMiningBatchSizeMax())
+                        .bind("logMiningBatchSizeMin", configuration.getLogMiningBatchSizeMin())
+                        .bind("logMiningBufferDropOnStop", configuration.getLogMiningBufferDropOnStop())
+                        .bind("logMiningBufferInfinispanCacheEvents", configuration.getLogMiningBufferInfinispanCacheEvents())
+                        .bind("logMiningBufferInfinispanCacheGlobal", configuration.getLogMiningBufferInfinispanCacheGlobal())
+                        .bind("logMiningBufferInfinispanCacheProcessedTransactions", configuration.getLogMiningBufferInfinispanCacheProcessedTransactions())
+                        .bind("logMiningBufferInfinispanCacheSchemaChanges", configuration.getLogMiningBufferInfinispanCacheSchemaChanges())
+                        .bind("logMiningBufferInfinispanCacheTransactions", configuration.getLogMiningBufferInfinispanCacheTransactions())
+                        .bind("logMiningBufferTransactionEventsThreshold", configuration.getLogMiningBufferTransactionEventsThreshold())
+                        .bind("logMiningBufferType", configuration.getLogMiningBufferType())
+                        .bind("logMiningFlushTableName", configuration.getLogMiningFlushTableName())
+                        .bind("logMiningQueryFilterMode", configuration.getLogMiningQueryFilterMode())
+                        .bind("logMiningRestartConnection", configuration.getLogMiningRestartConnection())
+                        .bind("logMiningScnGapDetectionGapSizeMin", configuration.getLogMiningScnGapDetectionGapSizeMin())
+                        .bind("logMiningScnGapDetectionTimeIntervalMaxMs", configuration.getLogMiningScnGapDetectionTimeIntervalMaxMs())
+                        .bind("logMiningSessionMaxMs", configuration.getLogMiningSessionMaxMs())
+                        .bind("logMiningSleepTimeDefaultMs", configuration.getLogMiningSleepTimeDefaultMs())
+                        .bind("logMiningSleepTimeIncrementMs", configuration.getLogMiningSleepTimeIncrementMs())
+                        .bind("logMiningSleepTimeMaxMs", configuration.getLogMiningSleepTimeMaxMs())
+                        .bind("logMiningSleepTimeMinMs", configuration.getLogMiningSleepTimeMinMs())
+                        .bind("logMiningStrategy", configuration.getLogMiningStrategy())
+                        .bind("logMiningTransactionRetentionMs", configuration.getLogMiningTransactionRetentionMs())
+                        .bind("logMiningUsernameExcludeList", configuration.getLogMiningUsernameExcludeList())
+                        .bind("logMiningUsernameIncludeList", configuration.getLogMiningUsernameIncludeList())
+                        .bind("maxBatchSize", configuration.getMaxBatchSize())
+                        .bind("maxQueueSize", configuration.getMaxQueueSize())
+                        .bind("maxQueueSizeInBytes", configuration.getMaxQueueSizeInBytes())
+                        .bind("messageKeyColumns", configuration.getMessageKeyColumns())
+                        .bind("notificationEnabledChannels", configuration.getNotificationEnabledChannels())
+                        .bind("notificationSinkTopicName", configuration.getNotificationSinkTopicName())
+                        .bind("openlogreplicatorHost", configuration.getOpenlogreplicatorHost())
+                        .bind("openlogreplicatorPort", configuration.getOpenlogreplicatorPort())
+                        .bind("openlogreplicatorSource", configuration.getOpenlogreplicatorSource())
+                        .bind("pollIntervalMs", configuration.getPollIntervalMs())
+                        .bind("postProcessors", configuration.getPostProcessors())
+                        .bind("provideTransactionMetadata", configuration.getProvideTransactionMetadata())
+                        .bind("queryFetchSize", configuration.getQueryFetchSize())
+                        .bind("racNodes", configuration.getRacNodes())
+                        .bind("retriableRestartConnectorWaitMs", configuration.getRetriableRestartConnectorWaitMs())
+                        .bind("schemaHistoryInternal", configuration.getSchemaHistoryInternal())
+                        .bind("schemaHistoryInternalFileFilename", configuration.getSchemaHistoryInternalFileFilename())
+                        .bind("schemaHistoryInternalSkipUnparseableDdl", configuration.getSchemaHistoryInternalSkipUnparseableDdl())
+                        .bind("schemaHistoryInternalStoreOnlyCapturedDatabasesDdl", configuration.getSchemaHistoryInternalStoreOnlyCapturedDatabasesDdl())
+                        .bind("schemaHistoryInternalStoreOnlyCapturedTablesDdl", configuration.getSchemaHistoryInternalStoreOnlyCapturedTablesDdl())
+                        .bind("schemaNameAdjustmentMode", configuration.getSchemaNameAdjustmentMode())
+                        .bind("signalDataCollection", configuration.getSignalDataCollection())
+                        .bind("signalEnabledChannels", configuration.getSignalEnabledChannels())
+                        .bind("signalPollIntervalMs", configuration.getSignalPollIntervalMs())
+                        .bind("skippedOperations", configuration.getSkippedOperations())
+                        .bind("snapshotDelayMs", configuration.getSnapshotDelayMs())
+                        .bind("snapshotEnhancePredicateScn", configuration.getSnapshotEnhancePredicateScn())
+                        .bind("snapshotFetchSize", configuration.getSnapshotFetchSize())
+                        .bind("snapshotIncludeCollectionList", configuration.getSnapshotIncludeCollectionList())
+                        .bind("snapshotLockingMode", configuration.getSnapshotLockingMode())
+                        .bind("snapshotLockTimeoutMs", configuration.getSnapshotLockTimeoutMs())
+                        .bind("snapshotMaxThreads", configuration.getSnapshotMaxThreads())
+                        .bind("snapshotMode", configuration.getSnapshotMode())
+                        .bind("snapshotSelectStatementOverrides", configuration.getSnapshotSelectStatementOverrides())
+                        .bind("snapshotTablesOrderByRowCount", configuration.getSnapshotTablesOrderByRowCount())
+                        .bind("sourceinfoStructMaker", configuration.getSourceinfoStructMaker())
+                        .bind("tableExcludeList", configuration.getTableExcludeList())
+                        .bind("tableIncludeList", configuration.getTableIncludeList())
+                        .bind("timePrecisionMode", configuration.getTimePrecisionMode())
+                        .bind("tombstonesOnDelete", configuration.getTombstonesOnDelete())
+                        .bind("topicNamingStrategy", configuration.getTopicNamingStrategy())
+                        .bind("topicPrefix", configuration.getTopicPrefix())
+                        .bind("unavailableValuePlaceholder", configuration.getUnavailableValuePlaceholder());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
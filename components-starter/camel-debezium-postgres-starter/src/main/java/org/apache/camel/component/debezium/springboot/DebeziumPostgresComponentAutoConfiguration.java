@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,110 @@ public class DebeziumPostgresComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DebeziumPostgresComponent.class)
     public ComponentCustomizer configureDebeziumPostgresComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("additionalProperties", configuration.getAdditionalProperties())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("internalKeyConverter", configuration.getInternalKeyConverter())
+                        .bind("internalValueConverter", configuration.getInternalValueConverter())
+                        .bind("offsetCommitPolicy", configuration.getOffsetCommitPolicy())
+                        .bind("offsetCommitTimeoutMs", configuration.getOffsetCommitTimeoutMs())
+                        .bind("offsetFlushIntervalMs", configuration.getOffsetFlushIntervalMs())
+                        .bind("offsetStorage", configuration.getOffsetStorage())
+                        .bind("offsetStorageFileName", configuration.getOffsetStorageFileName())
+                        .bind("offsetStoragePartitions", configuration.getOffsetStoragePartitions())
+                        .bind("offsetStorageReplicationFactor", configuration.getOffsetStorageReplicationFactor())
+                        .bind("offsetStorageTopic", configuration.getOffsetStorageTopic())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("binaryHandlingMode", configuration.getBinaryHandlingMode())
+                        .bind("columnExcludeList", configuration.getColumnExcludeList())
+                        .bind("columnIncludeList", configuration.getColumnIncludeList())
+                        .bind("columnPropagateSourceType", configuration.getColumnPropagateSourceType())
+                        .bind("converters", configuration.getConverters())
+                        .bind("customMetricTags", configuration.getCustomMetricTags())
+                        .bind("databaseDbname", configuration.getDatabaseDbname())
+                        .bind("databaseHostname", configuration.getDatabaseHostname())
+                        .bind("databaseInitialStatements", configuration.getDatabaseInitialStatements())
+                        .bind("databasePassword", configuration.getDatabasePassword())
+                        .bind("databasePort", configuration.getDatabasePort())
+                        .bind("databaseSslcert", configuration.getDatabaseSslcert())
+                        .bind("databaseSslfactory", configuration.getDatabaseSslfactory())
+                        .bind("databaseSslkey", configuration.getDatabaseSslkey())
+                        .bind("databaseSslmode", configuration.getDatabaseSslmode())
+                        .bind("databaseSslpassword", configuration.getDatabaseSslpassword())
+                        .bind("databaseSslrootcert", configuration.getDatabaseSslrootcert())
+                        .bind("databaseTcpkeepalive", configuration.getDatabaseTcpkeepalive())
+                        .bind("databaseUser", configuration.getDatabaseUser())
+                        .bind("datatypePropagateSourceType", configuration.getDatatypePropagateSourceType())
+                        .bind("decimalHandlingMode", configuration.getDecimalHandlingMode())
+                        .bind("errorsMaxRetries", configuration.getErrorsMaxRetries())
+                        .bind("eventProcessingFailureHandlingMode", configuration.getEventProcessingFailureHandlingMode())
+                        .bind("flushLsnSource", configuration.getFlushLsnSource())
+                        .bind("heartbeatActionQuery", configuration.getHeartbeatActionQuery())
+                        .bind("heartbeatIntervalMs", configuration.getHeartbeatIntervalMs())
+                        .bind("heartbeatTopicsPrefix", configuration.getHeartbeatTopicsPrefix())
+                        .bind("hstoreHandlingMode", configuration.getHstoreHandlingMode())
+                        .bind("includeSchemaComments", configuration.getIncludeSchemaComments())
+                        .bind("includeUnknownDatatypes", configuration.getIncludeUnknownDatatypes())
+                        .bind("incrementalSnapshotChunkSize", configuration.getIncrementalSnapshotChunkSize())
+                        .bind("incrementalSnapshotWatermarkingStrategy", configuration.getIncrementalSnapshotWatermarkingStrategy())
+                        .bind("intervalHandlingMode", configuration.getIntervalHandlingMode())
+                        .bind("maxBatchSize", configuration.getMaxBatchSize())
+                        .bind("maxQueueSize", configuration.getMaxQueueSize())
+                        .bind("maxQueueSizeInBytes", configuration.getMaxQueueSizeInBytes())
+                        .bind("messageKeyColumns", configuration.getMessageKeyColumns())
+                        .bind("messagePrefixExcludeList", configuration.getMessagePrefixExcludeList())
+                        .bind("messagePrefixIncludeList", configuration.getMessagePrefixIncludeList())
+                        .bind("notificationEnabledChannels", configuration.getNotificationEnabledChannels())
+                        .bind("notificationSinkTopicName", configuration.getNotificationSinkTopicName())
+                        .bind("pluginName", configuration.getPluginName())
+                        .bind("pollIntervalMs", configuration.getPollIntervalMs())
+                        .bind("postProcessors", configuration.getPostProcessors())
+                        .bind("provideTransactionMetadata", configuration.getProvideTransactionMetadata())
+                        .bind("publicationAutocreateMode", configuration.getPublicationAutocreateMode())
+                        .bind("publicationName", configuration.getPublicationName())
+                        .bind("queryFetchSize", configuration.getQueryFetchSize())
+                        .bind("replicaIdentityAutosetValues", configuration.getReplicaIdentityAutosetValues())
+                        .bind("retriableRestartConnectorWaitMs", configuration.getRetriableRestartConnectorWaitMs())
+                        .bind("schemaExcludeList", configuration.getSchemaExcludeList())
+                        .bind("schemaHistoryInternalFileFilename", configuration.getSchemaHistoryInternalFileFilename())
+                        .bind("schemaIncludeList", configuration.getSchemaIncludeList())
+                        .bind("schemaNameAdjustmentMode", configuration.getSchemaNameAdjustmentMode())
+                        .bind("schemaRefreshMode", configuration.getSchemaRefreshMode())
+                        .bind("signalDataCollection", configuration.getSignalDataCollection())
+                        .bind("signalEnabledChannels", configuration.getSignalEnabledChannels())
+                        .bind("signalPollIntervalMs", configuration.getSignalPollIntervalMs())
+                        .bind("skippedOperations", configuration.getSkippedOperations())
+                        .bind("slotDropOnStop", configuration.getSlotDropOnStop())
+                        .bind("slotMaxRetries", configuration.getSlotMaxRetries())
+                        .bind("slotName", configuration.getSlotName())
+                        .bind("slotRetryDelayMs", configuration.getSlotRetryDelayMs())
+                        .bind("slotStreamParams", configuration.getSlotStreamParams())
+                        .bind("snapshotCustomClass", configuration.getSnapshotCustomClass())
+                        .bind("snapshotDelayMs", configuration.getSnapshotDelayMs())
+                        .bind("snapshotFetchSize", configuration.getSnapshotFetchSize())
+                        .bind("snapshotIncludeCollectionList", configuration.getSnapshotIncludeCollectionList())
+                        .bind("snapshotLockTimeoutMs", configuration.getSnapshotLockTimeoutMs())
+                        .bind("snapshotMaxThreads", configuration.getSnapshotMaxThreads())
+                        .bind("snapshotMode", configuration.getSnapshotMode())
+                        .bind("snapshotSelectStatementOverrides", configuration.getSnapshotSelectStatementOverrides())
+                        .bind("snapshotTablesOrderByRowCount", configuration.getSnapshotTablesOrderByRowCount())
+                        .bind("sourceinfoStructMaker", configuration.getSourceinfoStructMaker())
+                        .bind("statusUpdateIntervalMs", configuration.getStatusUpdateIntervalMs())
+                        .bind("tableExcludeList", configuration.getTableExcludeList())
+                        .bind("tableIgnoreBuiltin", configuration.getTableIgnoreBuiltin())
+                        .bind("tableIncludeList", configuration.getTableIncludeList())
+                        .bind("timePrecisionMode", configuration.getTimePrecisionMode())
+                        .bind("tombstonesOnDelete", configuration.getTombstonesOnDelete())
+                        .bind("topicNamingStrategy", configuration.getTopicNamingStrategy())
+                        .bind("topicPrefix", configuration.getTopicPrefix())
+                        .bind("unavailableValuePlaceholder", configuration.getUnavailableValuePlaceholder())
+                        .bind("xminFetchIntervalMs", configuration.getXminFetchIntervalMs());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
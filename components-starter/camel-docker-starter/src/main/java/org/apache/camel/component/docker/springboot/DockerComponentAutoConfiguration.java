@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,33 @@ public class DockerComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(DockerComponent.class)
     public ComponentCustomizer configureDockerComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("email", configuration.getEmail())
+                        .bind("host", configuration.getHost())
+                        .bind("port", configuration.getPort())
+                        .bind("requestTimeout", configuration.getRequestTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("cmdExecFactory", configuration.getCmdExecFactory())
+                        .bind("followRedirectFilter", configuration.getFollowRedirectFilter())
+                        .bind("loggingFilter", configuration.getLoggingFilter())
+                        .bind("maxPerRouteConnections", configuration.getMaxPerRouteConnections())
+                        .bind("maxTotalConnections", configuration.getMaxTotalConnections())
+                        .bind("parameters", configuration.getParameters())
+                        .bind("serverAddress", configuration.getServerAddress())
+                        .bind("socket", configuration.getSocket())
+                        .bind("certPath", configuration.getCertPath())
+                        .bind("password", configuration.getPassword())
+                        .bind("secure", configuration.getSecure())
+                        .bind("tlsVerify", configuration.getTlsVerify())
+                        .bind("username", configuration.getUsername());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,28 @@ public class EhcacheComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(EhcacheComponent.class)
     public ComponentCustomizer configureEhcacheComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("cacheManager", configuration.getCacheManager())
+                        .bind("cacheManagerConfiguration", configuration.getCacheManagerConfiguration())
+                        .bind("configurationUri", configuration.getConfigurationUri())
+                        .bind("createCacheIfNotExist", configuration.getCreateCacheIfNotExist())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("eventFiring", configuration.getEventFiring())
+                        .bind("eventOrdering", configuration.getEventOrdering())
+                        .bind("eventTypes", configuration.getEventTypes())
+                        .bind("action", configuration.getAction())
+                        .bind("key", configuration.getKey())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("configurations", configuration.getConfigurations())
+                        .bind("keyType", configuration.getKeyType())
+                        .bind("valueType", configuration.getValueType());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
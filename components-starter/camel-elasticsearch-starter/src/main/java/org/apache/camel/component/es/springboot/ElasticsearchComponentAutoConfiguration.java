@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,27 @@ public class ElasticsearchComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ElasticsearchComponent.class)
     public ComponentCustomizer configureElasticsearchComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("connectionTimeout", configuration.getConnectionTimeout())
+                        .bind("enableDocumentOnlyMode", configuration.getEnableDocumentOnlyMode())
+                        .bind("hostAddresses", configuration.getHostAddresses())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("maxRetryTimeout", configuration.getMaxRetryTimeout())
+                        .bind("socketTimeout", configuration.getSocketTimeout())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("client", configuration.getClient())
+                        .bind("enableSniffer", configuration.getEnableSniffer())
+                        .bind("sniffAfterFailureDelay", configuration.getSniffAfterFailureDelay())
+                        .bind("snifferInterval", configuration.getSnifferInterval())
+                        .bind("certificatePath", configuration.getCertificatePath())
+                        .bind("enableSSL", configuration.getEnableSSL())
+                        .bind("password", configuration.getPassword())
+                        .bind("user", configuration.getUser());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
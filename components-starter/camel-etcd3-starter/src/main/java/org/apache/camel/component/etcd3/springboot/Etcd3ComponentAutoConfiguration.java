@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,37 @@ public class Etcd3ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Etcd3Component.class)
     public ComponentCustomizer configureEtcd3Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("endpoints", configuration.getEndpoints())
+                        .bind("keyCharset", configuration.getKeyCharset())
+                        .bind("namespace", configuration.getNamespace())
+                        .bind("prefix", configuration.getPrefix())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("fromIndex", configuration.getFromIndex())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("valueCharset", configuration.getValueCharset())
+                        .bind("authHeaders", configuration.getAuthHeaders())
+                        .bind("authority", configuration.getAuthority())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("connectionTimeout", configuration.getConnectionTimeout())
+                        .bind("headers", configuration.getHeaders())
+                        .bind("keepAliveTime", configuration.getKeepAliveTime())
+                        .bind("keepAliveTimeout", configuration.getKeepAliveTimeout())
+                        .bind("loadBalancerPolicy", configuration.getLoadBalancerPolicy())
+                        .bind("maxInboundMessageSize", configuration.getMaxInboundMessageSize())
+                        .bind("retryDelay", configuration.getRetryDelay())
+                        .bind("retryMaxDelay", configuration.getRetryMaxDelay())
+                        .bind("retryMaxDuration", configuration.getRetryMaxDuration())
+                        .bind("servicePath", configuration.getServicePath())
+                        .bind("password", configuration.getPassword())
+                        .bind("sslContext", configuration.getSslContext())
+                        .bind("userName", configuration.getUserName());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,39 @@ public class FhirComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(FhirComponent.class)
     public ComponentCustomizer configureFhirComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("encoding", configuration.getEncoding())
+                        .bind("fhirVersion", configuration.getFhirVersion())
+                        .bind("log", configuration.getLog())
+                        .bind("prettyPrint", configuration.getPrettyPrint())
+                        .bind("serverUrl", configuration.getServerUrl())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("client", configuration.getClient())
+                        .bind("clientFactory", configuration.getClientFactory())
+                        .bind("compress", configuration.getCompress())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("connectionTimeout", configuration.getConnectionTimeout())
+                        .bind("deferModelScanning", configuration.getDeferModelScanning())
+                        .bind("fhirContext", configuration.getFhirContext())
+                        .bind("forceConformanceCheck", configuration.getForceConformanceCheck())
+                        .bind("sessionCookie", configuration.getSessionCookie())
+                        .bind("socketTimeout", configuration.getSocketTimeout())
+                        .bind("summary", configuration.getSummary())
+                        .bind("validationMode", configuration.getValidationMode())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPassword", configuration.getProxyPassword())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyUser", configuration.getProxyUser())
+                        .bind("accessToken", configuration.getAccessToken())
+                        .bind("password", configuration.getPassword())
+                        .bind("username", configuration.getUsername());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
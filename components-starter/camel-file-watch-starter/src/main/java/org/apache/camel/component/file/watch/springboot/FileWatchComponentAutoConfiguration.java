@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,19 @@ public class FileWatchComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(FileWatchComponent.class)
     public ComponentCustomizer configureFileWatchComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("useFileHashing", configuration.getUseFileHashing())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("concurrentConsumers", configuration.getConcurrentConsumers())
+                        .bind("fileHasher", configuration.getFileHasher())
+                        .bind("pollThreads", configuration.getPollThreads())
+                        .bind("queueSize", configuration.getQueueSize());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
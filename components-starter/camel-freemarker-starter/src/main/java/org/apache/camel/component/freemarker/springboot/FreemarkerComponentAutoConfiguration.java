@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,18 @@ public class FreemarkerComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(FreemarkerComponent.class)
     public ComponentCustomizer configureFreemarkerComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("allowContextMapAll", configuration.getAllowContextMapAll())
+                        .bind("allowTemplateFromHeader", configuration.getAllowTemplateFromHeader())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("localizedLookup", configuration.getLocalizedLookup())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
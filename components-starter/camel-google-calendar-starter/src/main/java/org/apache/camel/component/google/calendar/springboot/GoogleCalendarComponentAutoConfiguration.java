@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,28 @@ public class GoogleCalendarComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(GoogleCalendarComponent.class)
     public ComponentCustomizer configureGoogleCalendarComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("applicationName", configuration.getApplicationName())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("delegate", configuration.getDelegate())
+                        .bind("scopes", configuration.getScopes())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("clientFactory", configuration.getClientFactory())
+                        .bind("accessToken", configuration.getAccessToken())
+                        .bind("clientSecret", configuration.getClientSecret())
+                        .bind("emailAddress", configuration.getEmailAddress())
+                        .bind("p12FileName", configuration.getP12FileName())
+                        .bind("refreshToken", configuration.getRefreshToken())
+                        .bind("serviceAccountKey", configuration.getServiceAccountKey())
+                        .bind("user", configuration.getUser());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,25 @@ public class GoogleDriveComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(GoogleDriveComponent.class)
     public ComponentCustomizer configureGoogleDriveComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("applicationName", configuration.getApplicationName())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("delegate", configuration.getDelegate())
+                        .bind("scopes", configuration.getScopes())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("clientFactory", configuration.getClientFactory())
+                        .bind("accessToken", configuration.getAccessToken())
+                        .bind("clientSecret", configuration.getClientSecret())
+                        .bind("refreshToken", configuration.getRefreshToken())
+                        .bind("serviceAccountKey", configuration.getServiceAccountKey());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,31 @@ public class GoogleMailStreamComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(GoogleMailStreamComponent.class)
     public ComponentCustomizer configureGoogleMailStreamComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("applicationName", configuration.getApplicationName())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("delegate", configuration.getDelegate())
+                        .bind("labels", configuration.getLabels())
+                        .bind("markAsRead", configuration.getMarkAsRead())
+                        .bind("maxResults", configuration.getMaxResults())
+                        .bind("query", configuration.getQuery())
+                        .bind("raw", configuration.getRaw())
+                        .bind("scopes", configuration.getScopes())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("clientFactory", configuration.getClientFactory())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("accessToken", configuration.getAccessToken())
+                        .bind("clientSecret", configuration.getClientSecret())
+                        .bind("refreshToken", configuration.getRefreshToken())
+                        .bind("serviceAccountKey", configuration.getServiceAccountKey());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
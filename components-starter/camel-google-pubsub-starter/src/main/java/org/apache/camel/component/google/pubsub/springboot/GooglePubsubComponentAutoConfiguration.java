@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,22 @@ public class GooglePubsubComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(GooglePubsubComponent.class)
     public ComponentCustomizer configureGooglePubsubComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("authenticate", configuration.getAuthenticate())
+                        .bind("endpoint", configuration.getEndpoint())
+                        .bind("serviceAccountKey", configuration.getServiceAccountKey())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("synchronousPullRetryableCodes", configuration.getSynchronousPullRetryableCodes())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("publisherCacheSize", configuration.getPublisherCacheSize())
+                        .bind("publisherCacheTimeout", configuration.getPublisherCacheTimeout())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("publisherTerminationTimeout", configuration.getPublisherTerminationTimeout());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
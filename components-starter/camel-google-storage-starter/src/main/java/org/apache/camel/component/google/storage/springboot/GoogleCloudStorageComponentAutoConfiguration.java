@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,32 @@ public class GoogleCloudStorageComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(GoogleCloudStorageComponent.class)
     public ComponentCustomizer configureGoogleCloudStorageComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("autoCreateBucket", configuration.getAutoCreateBucket())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("serviceAccountKey", configuration.getServiceAccountKey())
+                        .bind("storageClass", configuration.getStorageClass())
+                        .bind("storageClient", configuration.getStorageClient())
+                        .bind("storageLocation", configuration.getStorageLocation())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("deleteAfterRead", configuration.getDeleteAfterRead())
+                        .bind("destinationBucket", configuration.getDestinationBucket())
+                        .bind("downloadFileName", configuration.getDownloadFileName())
+                        .bind("filter", configuration.getFilter())
+                        .bind("includeBody", configuration.getIncludeBody())
+                        .bind("includeFolders", configuration.getIncludeFolders())
+                        .bind("moveAfterRead", configuration.getMoveAfterRead())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("objectName", configuration.getObjectName())
+                        .bind("operation", configuration.getOperation())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
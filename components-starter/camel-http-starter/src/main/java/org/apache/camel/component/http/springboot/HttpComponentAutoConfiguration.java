@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,52 @@ public class HttpComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(HttpComponent.class)
     public ComponentCustomizer configureHttpComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("skipRequestHeaders", configuration.getSkipRequestHeaders())
+                        .bind("skipResponseHeaders", configuration.getSkipResponseHeaders())
+                        .bind("cookieStore", configuration.getCookieStore())
+                        .bind("copyHeaders", configuration.getCopyHeaders())
+                        .bind("followRedirects", configuration.getFollowRedirects())
+                        .bind("responsePayloadStreamingThreshold", configuration.getResponsePayloadStreamingThreshold())
+                        .bind("allowJavaSerializedObject", configuration.getAllowJavaSerializedObject())
+                        .bind("authCachingDisabled", configuration.getAuthCachingDisabled())
+                        .bind("automaticRetriesDisabled", configuration.getAutomaticRetriesDisabled())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("clientConnectionManager", configuration.getClientConnectionManager())
+                        .bind("connectionsPerRoute", configuration.getConnectionsPerRoute())
+                        .bind("connectionStateDisabled", configuration.getConnectionStateDisabled())
+                        .bind("connectionTimeToLive", configuration.getConnectionTimeToLive())
+                        .bind("contentCompressionDisabled", configuration.getContentCompressionDisabled())
+                        .bind("cookieManagementDisabled", configuration.getCookieManagementDisabled())
+                        .bind("defaultUserAgentDisabled", configuration.getDefaultUserAgentDisabled())
+                        .bind("httpBinding", configuration.getHttpBinding())
+                        .bind("httpClientConfigurer", configuration.getHttpClientConfigurer())
+                        .bind("httpConfiguration", configuration.getHttpConfiguration())
+                        .bind("httpContext", configuration.getHttpContext())
+                        .bind("maxTotalConnections", configuration.getMaxTotalConnections())
+                        .bind("redirectHandlingDisabled", configuration.getRedirectHandlingDisabled())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("proxyAuthDomain", configuration.getProxyAuthDomain())
+                        .bind("proxyAuthHost", configuration.getProxyAuthHost())
+                        .bind("proxyAuthMethod", configuration.getProxyAuthMethod())
+                        .bind("proxyAuthNtHost", configuration.getProxyAuthNtHost())
+                        .bind("proxyAuthPassword", configuration.getProxyAuthPassword())
+                        .bind("proxyAuthPort", configuration.getProxyAuthPort())
+                        .bind("proxyAuthScheme", configuration.getProxyAuthScheme())
+                        .bind("proxyAuthUsername", configuration.getProxyAuthUsername())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters())
+                        .bind("x509HostnameVerifier", configuration.getX509HostnameVerifier())
+                        .bind("connectionRequestTimeout", configuration.getConnectionRequestTimeout())
+                        .bind("connectTimeout", configuration.getConnectTimeout())
+                        .bind("responseTimeout", configuration.getResponseTimeout())
+                        .bind("soTimeout", configuration.getSoTimeout());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
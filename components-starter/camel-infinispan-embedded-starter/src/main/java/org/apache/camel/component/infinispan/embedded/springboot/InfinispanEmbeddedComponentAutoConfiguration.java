@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,32 @@ public class InfinispanEmbeddedComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(InfinispanEmbeddedComponent.class)
     public ComponentCustomizer configureInfinispanEmbeddedComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("queryBuilder", configuration.getQueryBuilder())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("clusteredListener", configuration.getClusteredListener())
+                        .bind("customListener", configuration.getCustomListener())
+                        .bind("eventTypes", configuration.getEventTypes())
+                        .bind("sync", configuration.getSync())
+                        .bind("defaultValue", configuration.getDefaultValue())
+                        .bind("key", configuration.getKey())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("oldValue", configuration.getOldValue())
+                        .bind("operation", configuration.getOperation())
+                        .bind("value", configuration.getValue())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("cacheContainer", configuration.getCacheContainer())
+                        .bind("cacheContainerConfiguration", configuration.getCacheContainerConfiguration())
+                        .bind("configurationUri", configuration.getConfigurationUri())
+                        .bind("flags", configuration.getFlags())
+                        .bind("remappingFunction", configuration.getRemappingFunction())
+                        .bind("resultHeader", configuration.getResultHeader());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
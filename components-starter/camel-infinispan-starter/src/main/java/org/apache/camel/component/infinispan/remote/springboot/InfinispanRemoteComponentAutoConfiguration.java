@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,38 @@ public class InfinispanRemoteComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(InfinispanRemoteComponent.class)
     public ComponentCustomizer configureInfinispanRemoteComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("hosts", configuration.getHosts())
+                        .bind("queryBuilder", configuration.getQueryBuilder())
+                        .bind("secure", configuration.getSecure())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("customListener", configuration.getCustomListener())
+                        .bind("eventTypes", configuration.getEventTypes())
+                        .bind("defaultValue", configuration.getDefaultValue())
+                        .bind("key", configuration.getKey())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("oldValue", configuration.getOldValue())
+                        .bind("operation", configuration.getOperation())
+                        .bind("value", configuration.getValue())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("cacheContainer", configuration.getCacheContainer())
+                        .bind("cacheContainerConfiguration", configuration.getCacheContainerConfiguration())
+                        .bind("configurationProperties", configuration.getConfigurationProperties())
+                        .bind("configurationUri", configuration.getConfigurationUri())
+                        .bind("flags", configuration.getFlags())
+                        .bind("remappingFunction", configuration.getRemappingFunction())
+                        .bind("resultHeader", configuration.getResultHeader())
+                        .bind("password", configuration.getPassword())
+                        .bind("saslMechanism", configuration.getSaslMechanism())
+                        .bind("securityRealm", configuration.getSecurityRealm())
+                        .bind("securityServerName", configuration.getSecurityServerName())
+                        .bind("username", configuration.getUsername());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,20 @@ public class JCacheComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(JCacheComponent.class)
     public ComponentCustomizer configureJCacheComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("cacheConfiguration", configuration.getCacheConfiguration())
+                        .bind("cacheConfigurationProperties", configuration.getCacheConfigurationProperties())
+                        .bind("cacheConfigurationPropertiesRef", configuration.getCacheConfigurationPropertiesRef())
+                        .bind("cachingProvider", configuration.getCachingProvider())
+                        .bind("configurationUri", configuration.getConfigurationUri())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
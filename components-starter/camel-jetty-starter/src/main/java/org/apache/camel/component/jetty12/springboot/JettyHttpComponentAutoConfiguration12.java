@@ -62,7 +62,43 @@ public class JettyHttpComponentAutoConfiguration12 {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("continuationTimeout", configuration.getContinuationTimeout())
+                        .bind("enableJmx", configuration.getEnableJmx())
+                        .bind("maxThreads", configuration.getMaxThreads())
+                        .bind("minThreads", configuration.getMinThreads())
+                        .bind("muteException", configuration.getMuteException())
+                        .bind("requestBufferSize", configuration.getRequestBufferSize())
+                        .bind("requestHeaderSize", configuration.getRequestHeaderSize())
+                        .bind("responseBufferSize", configuration.getResponseBufferSize())
+                        .bind("responseHeaderSize", configuration.getResponseHeaderSize())
+                        .bind("sendServerVersion", configuration.getSendServerVersion())
+                        .bind("useContinuation", configuration.getUseContinuation())
+                        .bind("useXForwardedForHeader", configuration.getUseXForwardedForHeader())
+                        .bind("fileSizeThreshold", configuration.getFileSizeThreshold())
+                        .bind("filesLocation", configuration.getFilesLocation())
+                        .bind("maxFileSize", configuration.getMaxFileSize())
+                        .bind("maxRequestSize", configuration.getMaxRequestSize())
+                        .bind("threadPool", configuration.getThreadPool())
+                        .bind("allowJavaSerializedObject", configuration.getAllowJavaSerializedObject())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("errorHandler", configuration.getErrorHandler())
+                        .bind("httpBinding", configuration.getHttpBinding())
+                        .bind("httpConfiguration", configuration.getHttpConfiguration())
+                        .bind("mbContainer", configuration.getMbContainer())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("keystore", configuration.getKeystore())
+                        .bind("socketConnectorProperties", configuration.getSocketConnectorProperties())
+                        .bind("socketConnectors", configuration.getSocketConnectors())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("sslKeyPassword", configuration.getSslKeyPassword())
+                        .bind("sslPassword", configuration.getSslPassword())
+                        .bind("sslSocketConnectorProperties", configuration.getSslSocketConnectorProperties())
+                        .bind("sslSocketConnectors", configuration.getSslSocketConnectors())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,26 @@ public class JiraComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(JiraComponent.class)
     public ComponentCustomizer configureJiraComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("delay", configuration.getDelay())
+                        .bind("jiraUrl", configuration.getJiraUrl())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("accessToken", configuration.getAccessToken())
+                        .bind("consumerKey", configuration.getConsumerKey())
+                        .bind("password", configuration.getPassword())
+                        .bind("privateKey", configuration.getPrivateKey())
+                        .bind("username", configuration.getUsername())
+                        .bind("verificationCode", configuration.getVerificationCode());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,113 @@ public class JmsComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(JmsComponent.class)
     public ComponentCustomizer configureJmsComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("clientId", configuration.getClientId())
+                        .bind("connectionFactory", configuration.getConnectionFactory())
+                        .bind("disableReplyTo", configuration.getDisableReplyTo())
+                        .bind("durableSubscriptionName", configuration.getDurableSubscriptionName())
+                        .bind("jmsMessageType", configuration.getJmsMessageType())
+                        .bind("replyTo", configuration.getReplyTo())
+                        .bind("testConnectionOnStartup", configuration.getTestConnectionOnStartup())
+                        .bind("acknowledgementModeName", configuration.getAcknowledgementModeName())
+                        .bind("artemisConsumerPriority", configuration.getArtemisConsumerPriority())
+                        .bind("asyncConsumer", configuration.getAsyncConsumer())
+                        .bind("autoStartup", configuration.getAutoStartup())
+                        .bind("cacheLevel", configuration.getCacheLevel())
+                        .bind("cacheLevelName", configuration.getCacheLevelName())
+                        .bind("concurrentConsumers", configuration.getConcurrentConsumers())
+                        .bind("maxConcurrentConsumers", configuration.getMaxConcurrentConsumers())
+                        .bind("replyToDeliveryPersistent", configuration.getReplyToDeliveryPersistent())
+                        .bind("selector", configuration.getSelector())
+                        .bind("subscriptionDurable", configuration.getSubscriptionDurable())
+                        .bind("subscriptionName", configuration.getSubscriptionName())
+                        .bind("subscriptionShared", configuration.getSubscriptionShared())
+                        .bind("acceptMessagesWhileStopping", configuration.getAcceptMessagesWhileStopping())
+                        .bind("allowReplyManagerQuickStop", configuration.getAllowReplyManagerQuickStop())
+                        .bind("consumerType", configuration.getConsumerType())
+                        .bind("defaultTaskExecutorType", configuration.getDefaultTaskExecutorType())
+                        .bind("eagerLoadingOfProperties", configuration.getEagerLoadingOfProperties())
+                        .bind("eagerPoisonBody", configuration.getEagerPoisonBody())
+                        .bind("exposeListenerSession", configuration.getExposeListenerSession())
+                        .bind("replyToConsumerType", configuration.getReplyToConsumerType())
+                        .bind("replyToSameDestinationAllowed", configuration.getReplyToSameDestinationAllowed())
+                        .bind("taskExecutor", configuration.getTaskExecutor())
+                        .bind("deliveryDelay", configuration.getDeliveryDelay())
+                        .bind("deliveryMode", configuration.getDeliveryMode())
+                        .bind("deliveryPersistent", configuration.getDeliveryPersistent())
+                        .bind("explicitQosEnabled", configuration.getExplicitQosEnabled())
+                        .bind("formatDateHeadersToIso8601", configuration.getFormatDateHeadersToIso8601())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("preserveMessageQos", configuration.getPreserveMessageQos())
+                        .bind("priority", configuration.getPriority())
+                        .bind("replyToConcurrentConsumers", configuration.getReplyToConcurrentConsumers())
+                        .bind("replyToMaxConcurrentConsumers", configuration.getReplyToMaxConcurrentConsumers())
+                        .bind("replyToOnTimeoutMaxConcurrentConsumers", configuration.getReplyToOnTimeoutMaxConcurrentConsumers())
+                        .bind("replyToOverride", configuration.getReplyToOverride())
+                        .bind("replyToType", configuration.getReplyToType())
+                        .bind("requestTimeout", configuration.getRequestTimeout())
+                        .bind("timeToLive", configuration.getTimeToLive())
+                        .bind("allowAdditionalHeaders", configuration.getAllowAdditionalHeaders())
+                        .bind("allowNullBody", configuration.getAllowNullBody())
+                        .bind("alwaysCopyMessage", configuration.getAlwaysCopyMessage())
+                        .bind("correlationProperty", configuration.getCorrelationProperty())
+                        .bind("disableTimeToLive", configuration.getDisableTimeToLive())
+                        .bind("forceSendOriginalMessage", configuration.getForceSendOriginalMessage())
+                        .bind("includeSentJMSMessageID", configuration.getIncludeSentJMSMessageID())
+                        .bind("replyToCacheLevelName", configuration.getReplyToCacheLevelName())
+                        .bind("replyToDestinationSelectorName", configuration.getReplyToDestinationSelectorName())
+                        .bind("streamMessageTypeEnabled", configuration.getStreamMessageTypeEnabled())
+                        .bind("allowAutoWiredConnectionFactory", configuration.getAllowAutoWiredConnectionFactory())
+                        .bind("allowAutoWiredDestinationResolver", configuration.getAllowAutoWiredDestinationResolver())
+                        .bind("allowSerializedHeaders", configuration.getAllowSerializedHeaders())
+                        .bind("artemisStreamingEnabled", configuration.getArtemisStreamingEnabled())
+                        .bind("asyncStartListener", configuration.getAsyncStartListener())
+                        .bind("asyncStopListener", configuration.getAsyncStopListener())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("destinationResolver", configuration.getDestinationResolver())
+                        .bind("errorHandler", configuration.getErrorHandler())
+                        .bind("exceptionListener", configuration.getExceptionListener())
+                        .bind("idleConsumerLimit", configuration.getIdleConsumerLimit())
+                        .bind("idleTaskExecutionLimit", configuration.getIdleTaskExecutionLimit())
+                        .bind("includeAllJMSXProperties", configuration.getIncludeAllJMSXProperties())
+                        .bind("includeCorrelationIDAsBytes", configuration.getIncludeCorrelationIDAsBytes())
+                        .bind("jmsKeyFormatStrategy", configuration.getJmsKeyFormatStrategy())
+                        .bind("mapJmsMessage", configuration.getMapJmsMessage())
+                        .bind("maxMessagesPerTask", configuration.getMaxMessagesPerTask())
+                        .bind("messageConverter", configuration.getMessageConverter())
+                        .bind("messageCreatedStrategy", configuration.getMessageCreatedStrategy())
+                        .bind("messageIdEnabled", configuration.getMessageIdEnabled())
+                        .bind("messageListenerContainerFactory", configuration.getMessageListenerContainerFactory())
+                        .bind("messageTimestampEnabled", configuration.getMessageTimestampEnabled())
+                        .bind("pubSubNoLocal", configuration.getPubSubNoLocal())
+                        .bind("queueBrowseStrategy", configuration.getQueueBrowseStrategy())
+                        .bind("receiveTimeout", configuration.getReceiveTimeout())
+                        .bind("recoveryInterval", configuration.getRecoveryInterval())
+                        .bind("requestTimeoutCheckerInterval", configuration.getRequestTimeoutCheckerInterval())
+                        .bind("synchronous", configuration.getSynchronous())
+                        .bind("temporaryQueueResolver", configuration.getTemporaryQueueResolver())
+                        .bind("transferException", configuration.getTransferException())
+                        .bind("transferExchange", configuration.getTransferExchange())
+                        .bind("useMessageIDAsCorrelationID", configuration.getUseMessageIDAsCorrelationID())
+                        .bind("waitForProvisionCorrelationToBeUpdatedCounter", configuration.getWaitForProvisionCorrelationToBeUpdatedCounter())
+                        .bind("waitForProvisionCorrelationToBeUpdatedThreadSleepingTime", configuration.getWaitForProvisionCorrelationToBeUpdatedThreadSleepingTime())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("errorHandlerLoggingLevel", configuration.getErrorHandlerLoggingLevel())
+                        .bind("errorHandlerLogStackTrace", configuration.getErrorHandlerLogStackTrace())
+                        .bind("password", configuration.getPassword())
+                        .bind("username", configuration.getUsername())
+                        .bind("transacted", configuration.getTransacted())
+                        .bind("transactedInOut", configuration.getTransactedInOut())
+                        .bind("lazyCreateTransactionManager", configuration.getLazyCreateTransactionManager())
+                        .bind("transactionManager", configuration.getTransactionManager())
+                        .bind("transactionName", configuration.getTransactionName())
+                        .bind("transactionTimeout", configuration.getTransactionTimeout());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,19 @@ public class JteComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(JteComponent.class)
     public ComponentCustomizer configureJteComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("allowContextMapAll", configuration.getAllowContextMapAll())
+                        .bind("allowTemplateFromHeader", configuration.getAllowTemplateFromHeader())
+                        .bind("contentType", configuration.getContentType())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("preCompile", configuration.getPreCompile())
+                        .bind("workDir", configuration.getWorkDir())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,126 @@ public class KafkaComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(KafkaComponent.class)
     public ComponentCustomizer configureKafkaComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("additionalProperties", configuration.getAdditionalProperties())
+                        .bind("brokers", configuration.getBrokers())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("reconnectBackoffMaxMs", configuration.getReconnectBackoffMaxMs())
+                        .bind("shutdownTimeout", configuration.getShutdownTimeout())
+                        .bind("allowManualCommit", configuration.getAllowManualCommit())
+                        .bind("autoCommitEnable", configuration.getAutoCommitEnable())
+                        .bind("autoCommitIntervalMs", configuration.getAutoCommitIntervalMs())
+                        .bind("autoOffsetReset", configuration.getAutoOffsetReset())
+                        .bind("batching", configuration.getBatching())
+                        .bind("breakOnFirstError", configuration.getBreakOnFirstError())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("checkCrcs", configuration.getCheckCrcs())
+                        .bind("commitTimeoutMs", configuration.getCommitTimeoutMs())
+                        .bind("consumerRequestTimeoutMs", configuration.getConsumerRequestTimeoutMs())
+                        .bind("consumersCount", configuration.getConsumersCount())
+                        .bind("fetchMaxBytes", configuration.getFetchMaxBytes())
+                        .bind("fetchMinBytes", configuration.getFetchMinBytes())
+                        .bind("fetchWaitMaxMs", configuration.getFetchWaitMaxMs())
+                        .bind("groupId", configuration.getGroupId())
+                        .bind("groupInstanceId", configuration.getGroupInstanceId())
+                        .bind("headerDeserializer", configuration.getHeaderDeserializer())
+                        .bind("heartbeatIntervalMs", configuration.getHeartbeatIntervalMs())
+                        .bind("keyDeserializer", configuration.getKeyDeserializer())
+                        .bind("maxPartitionFetchBytes", configuration.getMaxPartitionFetchBytes())
+                        .bind("maxPollIntervalMs", configuration.getMaxPollIntervalMs())
+                        .bind("maxPollRecords", configuration.getMaxPollRecords())
+                        .bind("offsetRepository", configuration.getOffsetRepository())
+                        .bind("partitionAssignor", configuration.getPartitionAssignor())
+                        .bind("pollOnError", configuration.getPollOnError())
+                        .bind("pollTimeoutMs", configuration.getPollTimeoutMs())
+                        .bind("preValidateHostAndPort", configuration.getPreValidateHostAndPort())
+                        .bind("seekTo", configuration.getSeekTo())
+                        .bind("sessionTimeoutMs", configuration.getSessionTimeoutMs())
+                        .bind("specificAvroReader", configuration.getSpecificAvroReader())
+                        .bind("topicIsPattern", configuration.getTopicIsPattern())
+                        .bind("valueDeserializer", configuration.getValueDeserializer())
+                        .bind("createConsumerBackoffInterval", configuration.getCreateConsumerBackoffInterval())
+                        .bind("createConsumerBackoffMaxAttempts", configuration.getCreateConsumerBackoffMaxAttempts())
+                        .bind("isolationLevel", configuration.getIsolationLevel())
+                        .bind("kafkaManualCommitFactory", configuration.getKafkaManualCommitFactory())
+                        .bind("pollExceptionStrategy", configuration.getPollExceptionStrategy())
+                        .bind("subscribeConsumerBackoffInterval", configuration.getSubscribeConsumerBackoffInterval())
+                        .bind("subscribeConsumerBackoffMaxAttempts", configuration.getSubscribeConsumerBackoffMaxAttempts())
+                        .bind("batchWithIndividualHeaders", configuration.getBatchWithIndividualHeaders())
+                        .bind("bufferMemorySize", configuration.getBufferMemorySize())
+                        .bind("compressionCodec", configuration.getCompressionCodec())
+                        .bind("connectionMaxIdleMs", configuration.getConnectionMaxIdleMs())
+                        .bind("deliveryTimeoutMs", configuration.getDeliveryTimeoutMs())
+                        .bind("enableIdempotence", configuration.getEnableIdempotence())
+                        .bind("headerSerializer", configuration.getHeaderSerializer())
+                        .bind("key", configuration.getKey())
+                        .bind("keySerializer", configuration.getKeySerializer())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("lingerMs", configuration.getLingerMs())
+                        .bind("maxBlockMs", configuration.getMaxBlockMs())
+                        .bind("maxInFlightRequest", configuration.getMaxInFlightRequest())
+                        .bind("maxRequestSize", configuration.getMaxRequestSize())
+                        .bind("metadataMaxAgeMs", configuration.getMetadataMaxAgeMs())
+                        .bind("metricReporters", configuration.getMetricReporters())
+                        .bind("metricsSampleWindowMs", configuration.getMetricsSampleWindowMs())
+                        .bind("noOfMetricsSample", configuration.getNoOfMetricsSample())
+                        .bind("partitioner", configuration.getPartitioner())
+                        .bind("partitionerIgnoreKeys", configuration.getPartitionerIgnoreKeys())
+                        .bind("partitionKey", configuration.getPartitionKey())
+                        .bind("producerBatchSize", configuration.getProducerBatchSize())
+                        .bind("queueBufferingMaxMessages", configuration.getQueueBufferingMaxMessages())
+                        .bind("receiveBufferBytes", configuration.getReceiveBufferBytes())
+                        .bind("reconnectBackoffMs", configuration.getReconnectBackoffMs())
+                        .bind("recordMetadata", configuration.getRecordMetadata())
+                        .bind("requestRequiredAcks", configuration.getRequestRequiredAcks())
+                        .bind("requestTimeoutMs", configuration.getRequestTimeoutMs())
+                        .bind("retries", configuration.getRetries())
+                        .bind("retryBackoffMs", configuration.getRetryBackoffMs())
+                        .bind("sendBufferBytes", configuration.getSendBufferBytes())
+                        .bind("valueSerializer", configuration.getValueSerializer())
+                        .bind("workerPool", configuration.getWorkerPool())
+                        .bind("workerPoolCoreSize", configuration.getWorkerPoolCoreSize())
+                        .bind("workerPoolMaxSize", configuration.getWorkerPoolMaxSize())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("kafkaClientFactory", configuration.getKafkaClientFactory())
+                        .bind("synchronous", configuration.getSynchronous())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("interceptorClasses", configuration.getInterceptorClasses())
+                        .bind("schemaRegistryURL", configuration.getSchemaRegistryURL())
+                        .bind("kerberosBeforeReloginMinTime", configuration.getKerberosBeforeReloginMinTime())
+                        .bind("kerberosConfigLocation", configuration.getKerberosConfigLocation())
+                        .bind("kerberosInitCmd", configuration.getKerberosInitCmd())
+                        .bind("kerberosPrincipalToLocalRules", configuration.getKerberosPrincipalToLocalRules())
+                        .bind("kerberosRenewJitter", configuration.getKerberosRenewJitter())
+                        .bind("kerberosRenewWindowFactor", configuration.getKerberosRenewWindowFactor())
+                        .bind("saslJaasConfig", configuration.getSaslJaasConfig())
+                        .bind("saslKerberosServiceName", configuration.getSaslKerberosServiceName())
+                        .bind("saslMechanism", configuration.getSaslMechanism())
+                        .bind("securityProtocol", configuration.getSecurityProtocol())
+                        .bind("sslCipherSuites", configuration.getSslCipherSuites())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("sslEnabledProtocols", configuration.getSslEnabledProtocols())
+                        .bind("sslEndpointAlgorithm", configuration.getSslEndpointAlgorithm())
+                        .bind("sslKeymanagerAlgorithm", configuration.getSslKeymanagerAlgorithm())
+                        .bind("sslKeyPassword", configuration.getSslKeyPassword())
+                        .bind("sslKeystoreLocation", configuration.getSslKeystoreLocation())
+                        .bind("sslKeystorePassword", configuration.getSslKeystorePassword())
+                        .bind("sslKeystoreType", configuration.getSslKeystoreType())
+                        .bind("sslProtocol", configuration.getSslProtocol())
+                        .bind("sslProvider", configuration.getSslProvider())
+                        .bind("sslTrustmanagerAlgorithm", configuration.getSslTrustmanagerAlgorithm())
+                        .bind("sslTruststoreLocation", configuration.getSslTruststoreLocation())
+                        .bind("sslTruststorePassword", configuration.getSslTruststorePassword())
+                        .bind("sslTruststoreType", configuration.getSslTruststoreType())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,22 @@ public class KameletComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(KameletComponent.class)
     public ComponentCustomizer configureKameletComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("location", configuration.getLocation())
+                        .bind("routeProperties", configuration.getRouteProperties())
+                        .bind("templateProperties", configuration.getTemplateProperties())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("block", configuration.getBlock())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("noErrorHandler", configuration.getNoErrorHandler())
+                        .bind("routeTemplateLoaderListener", configuration.getRouteTemplateLoaderListener());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
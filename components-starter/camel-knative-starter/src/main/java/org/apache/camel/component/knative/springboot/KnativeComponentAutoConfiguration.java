@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,34 @@ public class KnativeComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(KnativeComponent.class)
     public ComponentCustomizer configureKnativeComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("ceOverride", configuration.getCeOverride())
+                        .bind("cloudEventsSpecVersion", configuration.getCloudEventsSpecVersion())
+                        .bind("cloudEventsType", configuration.getCloudEventsType())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("consumerFactory", configuration.getConsumerFactory())
+                        .bind("environment", configuration.getEnvironment())
+                        .bind("environmentPath", configuration.getEnvironmentPath())
+                        .bind("filters", configuration.getFilters())
+                        .bind("producerFactory", configuration.getProducerFactory())
+                        .bind("sinkBinding", configuration.getSinkBinding())
+                        .bind("transportOptions", configuration.getTransportOptions())
+                        .bind("typeId", configuration.getTypeId())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("replyWithCloudEvent", configuration.getReplyWithCloudEvent())
+                        .bind("reply", configuration.getReply())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("apiVersion", configuration.getApiVersion())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("kind", configuration.getKind())
+                        .bind("name", configuration.getName())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
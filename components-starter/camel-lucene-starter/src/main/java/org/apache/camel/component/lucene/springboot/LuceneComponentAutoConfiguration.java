@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,19 @@ public class LuceneComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(LuceneComponent.class)
     public ComponentCustomizer configureLuceneComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("analyzer", configuration.getAnalyzer())
+                        .bind("indexDir", configuration.getIndexDir())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("maxHits", configuration.getMaxHits())
+                        .bind("srcDir", configuration.getSrcDir())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("config", configuration.getConfig());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
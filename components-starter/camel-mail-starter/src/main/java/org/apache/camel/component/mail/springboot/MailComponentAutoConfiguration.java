@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,60 @@ public class MailComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(MailComponent.class)
     public ComponentCustomizer configureMailComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("closeFolder", configuration.getCloseFolder())
+                        .bind("copyTo", configuration.getCopyTo())
+                        .bind("decodeFilename", configuration.getDecodeFilename())
+                        .bind("delete", configuration.getDelete())
+                        .bind("disconnect", configuration.getDisconnect())
+                        .bind("handleFailedMessage", configuration.getHandleFailedMessage())
+                        .bind("mimeDecodeHeaders", configuration.getMimeDecodeHeaders())
+                        .bind("moveTo", configuration.getMoveTo())
+                        .bind("peek", configuration.getPeek())
+                        .bind("skipFailedMessage", configuration.getSkipFailedMessage())
+                        .bind("unseen", configuration.getUnseen())
+                        .bind("failOnDuplicateFileAttachment", configuration.getFailOnDuplicateFileAttachment())
+                        .bind("fetchSize", configuration.getFetchSize())
+                        .bind("folderName", configuration.getFolderName())
+                        .bind("generateMissingAttachmentNames", configuration.getGenerateMissingAttachmentNames())
+                        .bind("handleDuplicateAttachmentNames", configuration.getHandleDuplicateAttachmentNames())
+                        .bind("mapMailMessage", configuration.getMapMailMessage())
+                        .bind("bcc", configuration.getBcc())
+                        .bind("cc", configuration.getCc())
+                        .bind("from", configuration.getFrom())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("replyTo", configuration.getReplyTo())
+                        .bind("subject", configuration.getSubject())
+                        .bind("to", configuration.getTo())
+                        .bind("javaMailSender", configuration.getJavaMailSender())
+                        .bind("additionalJavaMailProperties", configuration.getAdditionalJavaMailProperties())
+                        .bind("alternativeBodyHeader", configuration.getAlternativeBodyHeader())
+                        .bind("attachmentsContentTransferEncodingResolver", configuration.getAttachmentsContentTransferEncodingResolver())
+                        .bind("authenticator", configuration.getAuthenticator())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("connectionTimeout", configuration.getConnectionTimeout())
+                        .bind("contentType", configuration.getContentType())
+                        .bind("contentTypeResolver", configuration.getContentTypeResolver())
+                        .bind("debugMode", configuration.getDebugMode())
+                        .bind("ignoreUnsupportedCharset", configuration.getIgnoreUnsupportedCharset())
+                        .bind("ignoreUriScheme", configuration.getIgnoreUriScheme())
+                        .bind("javaMailProperties", configuration.getJavaMailProperties())
+                        .bind("session", configuration.getSession())
+                        .bind("useInlineAttachments", configuration.getUseInlineAttachments())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("password", configuration.getPassword())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters())
+                        .bind("username", configuration.getUsername());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
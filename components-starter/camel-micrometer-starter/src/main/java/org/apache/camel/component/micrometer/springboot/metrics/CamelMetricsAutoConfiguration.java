@@ -29,8 +29,11 @@ import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyNa
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 
 @Conditional(ConditionalOnCamelContextAndAutoConfigurationBeans.class)
@@ -45,6 +48,17 @@ public class CamelMetricsAutoConfiguration {
         }
     }
 
+    /**
+     * The filter is applied by Spring Boot to the meter registries, so it is static to not depend on the
+     * meter registry this configuration is created with.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    static CamelMetricsMeterFilter camelMetricsMeterFilter(
+            ObjectProvider<CamelContext> camelContext, CamelMetricsConfiguration configuration) {
+        return new CamelMetricsMeterFilter(camelContext, configuration);
+    }
+
     private void configureMicrometer(CamelContext camelContext, CamelMetricsConfiguration configuration, MeterRegistry meterRegistry) {
         if (configuration.isEnableRoutePolicy()) {
             MicrometerRoutePolicyFactory factory = new MicrometerRoutePolicyFactory();
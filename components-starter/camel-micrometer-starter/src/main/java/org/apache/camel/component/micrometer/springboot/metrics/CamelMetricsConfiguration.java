@@ -16,6 +16,10 @@
  */
 package org.apache.camel.component.micrometer.springboot.metrics;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.apache.camel.spi.Metadata;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -79,6 +83,41 @@ public class CamelMetricsConfiguration {
      */
     private boolean enableRouteEventNotifier = true;
 
+    /**
+     * Whether the endpointName tag should be included in the captured metrics.
+     *
+     * The endpointName tag holds the endpoint uri, which with dynamic endpoints (such as toD) can lead to
+     * many tags. When disabled, the metrics of all the endpoints are captured together.
+     */
+    private boolean endpointNameTagEnabled = true;
+
+    /**
+     * The maximum number of Camel meters with a routeId, nodeId or endpointName tag. When the maximum is reached,
+     * the new meters are captured in an overflow meter instead, where these tags have the value OVERFLOW.
+     *
+     * This protects the meter registry when there are many (dynamic or templated) routes or endpoints.
+     * The default is 0, which means no limit.
+     */
+    private int maxMeters;
+
+    /**
+     * Pattern for the ids of the routes to capture metrics for. Multiple patterns can be separated by comma.
+     * The pattern can be a wildcard (such as foo*) or a regular expression. By default, all routes are included.
+     */
+    private String includeRoutes;
+
+    /**
+     * Pattern for the ids of the routes to not capture metrics for. Multiple patterns can be separated by comma.
+     * The pattern can be a wildcard (such as foo*) or a regular expression. Exclude takes precedence over include.
+     */
+    private String excludeRoutes;
+
+    /**
+     * The distribution statistics (percentiles, histogram and SLO boundaries) of the route and message history
+     * timers, per route group.
+     */
+    private final Map<String, Distribution> distribution = new LinkedHashMap<>();
+
     public boolean isUriTagEnabled() {
         return uriTagEnabled;
     }
@@ -142,4 +181,83 @@ public class CamelMetricsConfiguration {
     public void setEnableRouteEventNotifier(boolean enableRouteEventNotifier) {
         this.enableRouteEventNotifier = enableRouteEventNotifier;
     }
+
+    public boolean isEndpointNameTagEnabled() {
+        return endpointNameTagEnabled;
+    }
+
+    public void setEndpointNameTagEnabled(boolean endpointNameTagEnabled) {
+        this.endpointNameTagEnabled = endpointNameTagEnabled;
+    }
+
+    public int getMaxMeters() {
+        return maxMeters;
+    }
+
+    public void setMaxMeters(int maxMeters) {
+        this.maxMeters = maxMeters;
+    }
+
+    public String getIncludeRoutes() {
+        return includeRoutes;
+    }
+
+    public void setIncludeRoutes(String includeRoutes) {
+        this.includeRoutes = includeRoutes;
+    }
+
+    public String getExcludeRoutes() {
+        return excludeRoutes;
+    }
+
+    public void setExcludeRoutes(String excludeRoutes) {
+        this.excludeRoutes = excludeRoutes;
+    }
+
+    public Map<String, Distribution> getDistribution() {
+        return distribution;
+    }
+
+    public static class Distribution {
+
+        /**
+         * The percentiles to compute and publish, such as 0.5,0.95,0.99.
+         */
+        private double[] percentiles;
+
+        /**
+         * Whether to publish a histogram suitable for computing aggregable (across dimensions) percentile
+         * approximations.
+         */
+        private Boolean percentilesHistogram;
+
+        /**
+         * The service level objective boundaries to publish, such as 100ms,500ms,1s.
+         */
+        private Duration[] slo;
+
+        public double[] getPercentiles() {
+            return percentiles;
+        }
+
+        public void setPercentiles(double[] percentiles) {
+            this.percentiles = percentiles;
+        }
+
+        public Boolean getPercentilesHistogram() {
+            return percentilesHistogram;
+        }
+
+        public void setPercentilesHistogram(Boolean percentilesHistogram) {
+            this.percentilesHistogram = percentilesHistogram;
+        }
+
+        public Duration[] getSlo() {
+            return slo;
+        }
+
+        public void setSlo(Duration[] slo) {
+            this.slo = slo;
+        }
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.support.PatternHelper;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.apache.camel.component.micrometer.MicrometerConstants.ENDPOINT_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.NODE_ID_TAG;
+import static org.apache.camel.component.micrometer.MicrometerConstants.ROUTE_ID_TAG;
+
+/**
+ * A {@link MeterFilter} to keep the cardinality of the Camel meters under control, and to configure the distribution
+ * statistics of the route timers per route group.
+ * <p/>
+ * The filter is also a {@link MeterBinder}, which Spring Boot binds to the meter registries. The meters count towards
+ * the maximum number of meters once they are added to a registry, so a meter denied by another filter does not count,
+ * and no longer count once they are removed from it (such as the meters of a removed route).
+ *
+ * @see CamelMetricsConfiguration
+ */
+public class CamelMetricsMeterFilter implements MeterFilter, MeterBinder {
+
+    /**
+     * The tag value of the meters captured once the maximum number of meters is reached.
+     */
+    public static final String OVERFLOW = "OVERFLOW";
+
+    private static final List<String> HIGH_CARDINALITY_TAGS = List.of(ROUTE_ID_TAG, NODE_ID_TAG, ENDPOINT_NAME);
+
+    private final ObjectProvider<CamelContext> camelContext;
+    private final CamelMetricsConfiguration configuration;
+    private final String[] includeRoutes;
+    private final String[] excludeRoutes;
+    private final Set<Meter.Id> meters = ConcurrentHashMap.newKeySet();
+
+    public CamelMetricsMeterFilter(ObjectProvider<CamelContext> camelContext, CamelMetricsConfiguration configuration) {
+        this.camelContext = camelContext;
+        this.configuration = configuration;
+        this.includeRoutes = patterns(configuration.getIncludeRoutes());
+        this.excludeRoutes = patterns(configuration.getExcludeRoutes());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registry.config()
+                .onMeterAdded(meter -> {
+                    Meter.Id id = meter.getId();
+                    if (configuration.getMaxMeters() > 0 && isCamelMeter(id) && isHighCardinality(id)
+                            && !OVERFLOW.equals(id.getTag(ROUTE_ID_TAG))) {
+                        meters.add(id);
+                    }
+                })
+                .onMeterRemoved(meter -> meters.remove(meter.getId()));
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        if (!isCamelMeter(id)) {
+            return id;
+        }
+        if (!configuration.isEndpointNameTagEnabled() && id.getTag(ENDPOINT_NAME) != null) {
+            id = id.replaceTags(tagsWithout(id, ENDPOINT_NAME));
+        }
+        if (configuration.getMaxMeters() > 0 && isHighCardinality(id) && !isExcluded(id.getTag(ROUTE_ID_TAG))) {
+            // the meters are counted when they are added to the registry (the check is not atomic so the limit
+            // can be slightly exceeded)
+            if (!meters.contains(id) && meters.size() >= configuration.getMaxMeters()) {
+                id = id.replaceTags(overflowTags(id));
+            }
+        }
+        return id;
+    }
+
+    @Override
+    public MeterFilterReply accept(Meter.Id id) {
+        if (isCamelMeter(id) && isExcluded(id.getTag(ROUTE_ID_TAG))) {
+            return MeterFilterReply.DENY;
+        }
+        return MeterFilterReply.NEUTRAL;
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (id.getType() != Meter.Type.TIMER || configuration.getDistribution().isEmpty() || !isCamelMeter(id)) {
+            return config;
+        }
+        String group = routeGroup(id.getTag(ROUTE_ID_TAG));
+        CamelMetricsConfiguration.Distribution distribution
+                = group != null ? configuration.getDistribution().get(group) : null;
+        if (distribution == null) {
+            return config;
+        }
+        DistributionStatisticConfig.Builder builder = DistributionStatisticConfig.builder()
+                .percentiles(distribution.getPercentiles())
+                .percentilesHistogram(distribution.getPercentilesHistogram());
+        if (distribution.getSlo() != null) {
+            // the distribution of timers is in nanoseconds
+            builder.serviceLevelObjectives(
+                    Arrays.stream(distribution.getSlo()).mapToDouble(Duration::toNanos).toArray());
+        }
+        return builder.build().merge(config);
+    }
+
+    private boolean isExcluded(String routeId) {
+        if (routeId == null || OVERFLOW.equals(routeId)) {
+            return false;
+        }
+        if (includeRoutes != null && !PatternHelper.matchPatterns(routeId, includeRoutes)) {
+            return true;
+        }
+        return excludeRoutes != null && PatternHelper.matchPatterns(routeId, excludeRoutes);
+    }
+
+    private String routeGroup(String routeId) {
+        if (routeId == null) {
+            return null;
+        }
+        CamelContext context = camelContext.getIfAvailable();
+        Route route = context != null ? context.getRoute(routeId) : null;
+        return route != null ? route.getGroup() : null;
+    }
+
+    private static boolean isCamelMeter(Meter.Id id) {
+        // the legacy naming strategy uses camel case names such as CamelRoutePolicy
+        return id.getName().startsWith("camel.") || id.getName().startsWith("Camel");
+    }
+
+    private static boolean isHighCardinality(Meter.Id id) {
+        for (String key : HIGH_CARDINALITY_TAGS) {
+            if (id.getTag(key) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Tag> tagsWithout(Meter.Id id, String key) {
+        List<Tag> answer = new ArrayList<>();
+        for (Tag tag : id.getTagsAsIterable()) {
+            if (!key.equals(tag.getKey())) {
+                answer.add(tag);
+            }
+        }
+        return answer;
+    }
+
+    private static List<Tag> overflowTags(Meter.Id id) {
+        List<Tag> answer = new ArrayList<>();
+        for (Tag tag : id.getTagsAsIterable()) {
+            answer.add(HIGH_CARDINALITY_TAGS.contains(tag.getKey()) ? Tag.of(tag.getKey(), OVERFLOW) : tag);
+        }
+        return answer;
+    }
+
+    private static String[] patterns(String patterns) {
+        return patterns != null && !patterns.isBlank() ? patterns.trim().split("\\s*,\\s*") : null;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.apache.camel.component.micrometer.MicrometerConstants.ENDPOINT_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.ROUTE_ID_TAG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CamelMetricsMeterFilterTest {
+
+    private static final String EXCHANGES = "camel.exchanges.total";
+
+    private final CamelMetricsConfiguration configuration = new CamelMetricsConfiguration();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private CamelContext camelContext;
+
+    @AfterEach
+    public void tearDown() {
+        if (camelContext != null) {
+            camelContext.stop();
+        }
+    }
+
+    @Test
+    public void testMaxMeters() {
+        configuration.setMaxMeters(2);
+        createFilter();
+
+        counter("route1");
+        counter("route2");
+        counter("route3");
+        counter("route4");
+        // the meters without a route, node or endpoint do not count
+        registry.counter(EXCHANGES, "camelContext", "camel-1");
+        registry.counter("jvm.threads.live", ROUTE_ID_TAG, "route5");
+
+        assertNotNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route1").counter());
+        assertNotNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route2").counter());
+        assertNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route3").counter());
+        assertEquals(2, registry.get(EXCHANGES).tag(ROUTE_ID_TAG, CamelMetricsMeterFilter.OVERFLOW).counter().count());
+        assertNotNull(registry.find(EXCHANGES).tag("camelContext", "camel-1").counter());
+        assertNotNull(registry.find("jvm.threads.live").tag(ROUTE_ID_TAG, "route5").counter());
+    }
+
+    @Test
+    public void testRemovedMetersAreNotCounted() {
+        configuration.setMaxMeters(1);
+        createFilter();
+
+        Counter route1 = registry.counter(EXCHANGES, ROUTE_ID_TAG, "route1");
+        counter("route2");
+        assertNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route2").counter());
+
+        registry.remove(route1);
+        counter("route3");
+        assertNotNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route3").counter());
+    }
+
+    @Test
+    public void testDeniedMetersAreNotCounted() {
+        configuration.setMaxMeters(1);
+        createFilter();
+        registry.config().meterFilter(MeterFilter.deny(id -> "route1".equals(id.getTag(ROUTE_ID_TAG))));
+
+        counter("route1");
+        counter("route2");
+        assertNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route1").counter());
+        assertNotNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route2").counter());
+    }
+
+    @Test
+    public void testIncludeAndExcludeRoutes() {
+        configuration.setIncludeRoutes("route*, other1");
+        configuration.setExcludeRoutes("route2");
+        createFilter();
+
+        counter("route1");
+        counter("route2");
+        counter("other1");
+        counter("other2");
+        registry.counter(EXCHANGES, "camelContext", "camel-1");
+
+        assertNotNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route1").counter());
+        assertNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "route2").counter());
+        assertNotNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "other1").counter());
+        assertNull(registry.find(EXCHANGES).tag(ROUTE_ID_TAG, "other2").counter());
+        assertNotNull(registry.find(EXCHANGES).tag("camelContext", "camel-1").counter());
+    }
+
+    @Test
+    public void testEndpointNameTagDisabled() {
+        configuration.setEndpointNameTagEnabled(false);
+        createFilter();
+
+        registry.counter("camel.exchanges.sent", ENDPOINT_NAME, "direct://foo", "eventType", "ExchangeSentEvent");
+
+        Counter counter = registry.get("camel.exchanges.sent").tag("eventType", "ExchangeSentEvent").counter();
+        assertNull(counter.getId().getTag(ENDPOINT_NAME));
+    }
+
+    @Test
+    public void testDistributionPerRouteGroup() throws Exception {
+        camelContext = new DefaultCamelContext();
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:route1").routeId("route1").routeGroup("slow").log("route1");
+                from("direct:route2").routeId("route2").log("route2");
+            }
+        });
+        camelContext.start();
+        CamelMetricsConfiguration.Distribution distribution = new CamelMetricsConfiguration.Distribution();
+        distribution.setPercentiles(new double[] { 0.5, 0.99 });
+        distribution.setSlo(new Duration[] { Duration.ofMillis(100) });
+        configuration.getDistribution().put("slow", distribution);
+        createFilter();
+
+        Timer route1 = registry.timer("camel.route.policy", ROUTE_ID_TAG, "route1");
+        Timer route2 = registry.timer("camel.route.policy", ROUTE_ID_TAG, "route2");
+        route1.record(Duration.ofMillis(10));
+        route2.record(Duration.ofMillis(10));
+
+        assertEquals(2, route1.takeSnapshot().percentileValues().length);
+        assertEquals(1, route1.takeSnapshot().histogramCounts().length);
+        assertEquals(0, route2.takeSnapshot().percentileValues().length);
+        assertEquals(0, route2.takeSnapshot().histogramCounts().length);
+    }
+
+    private void createFilter() {
+        StaticListableBeanFactory beanFactory = camelContext != null
+                ? new StaticListableBeanFactory(Map.of("camelContext", camelContext)) : new StaticListableBeanFactory();
+        ObjectProvider<CamelContext> provider = beanFactory.getBeanProvider(CamelContext.class);
+        CamelMetricsMeterFilter filter = new CamelMetricsMeterFilter(provider, configuration);
+        registry.config().meterFilter(filter);
+        filter.bindTo(registry);
+    }
+
+    private void counter(String routeId) {
+        registry.counter(EXCHANGES, ROUTE_ID_TAG, routeId).increment();
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,39 @@ public class MinaComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(MinaComponent.class)
     public ComponentCustomizer configureMinaComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("disconnect", configuration.getDisconnect())
+                        .bind("minaLogger", configuration.getMinaLogger())
+                        .bind("sync", configuration.getSync())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("writeTimeout", configuration.getWriteTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("clientMode", configuration.getClientMode())
+                        .bind("noReplyLogLevel", configuration.getNoReplyLogLevel())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("cachedAddress", configuration.getCachedAddress())
+                        .bind("lazySessionCreation", configuration.getLazySessionCreation())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("disconnectOnNoReply", configuration.getDisconnectOnNoReply())
+                        .bind("maximumPoolSize", configuration.getMaximumPoolSize())
+                        .bind("orderedThreadPoolExecutor", configuration.getOrderedThreadPoolExecutor())
+                        .bind("transferExchange", configuration.getTransferExchange())
+                        .bind("allowDefaultCodec", configuration.getAllowDefaultCodec())
+                        .bind("codec", configuration.getCodec())
+                        .bind("decoderMaxLineLength", configuration.getDecoderMaxLineLength())
+                        .bind("encoderMaxLineLength", configuration.getEncoderMaxLineLength())
+                        .bind("encoding", configuration.getEncoding())
+                        .bind("filters", configuration.getFilters())
+                        .bind("textline", configuration.getTextline())
+                        .bind("textlineDelimiter", configuration.getTextlineDelimiter())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,61 @@ public class MinioComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(MinioComponent.class)
     public ComponentCustomizer configureMinioComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("autoCreateBucket", configuration.getAutoCreateBucket())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("customHttpClient", configuration.getCustomHttpClient())
+                        .bind("endpoint", configuration.getEndpoint())
+                        .bind("minioClient", configuration.getMinioClient())
+                        .bind("objectLock", configuration.getObjectLock())
+                        .bind("policy", configuration.getPolicy())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("region", configuration.getRegion())
+                        .bind("secure", configuration.getSecure())
+                        .bind("serverSideEncryption", configuration.getServerSideEncryption())
+                        .bind("serverSideEncryptionCustomerKey", configuration.getServerSideEncryptionCustomerKey())
+                        .bind("autoCloseBody", configuration.getAutoCloseBody())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("bypassGovernanceMode", configuration.getBypassGovernanceMode())
+                        .bind("deleteAfterRead", configuration.getDeleteAfterRead())
+                        .bind("delimiter", configuration.getDelimiter())
+                        .bind("destinationBucketName", configuration.getDestinationBucketName())
+                        .bind("destinationObjectName", configuration.getDestinationObjectName())
+                        .bind("includeBody", configuration.getIncludeBody())
+                        .bind("includeFolders", configuration.getIncludeFolders())
+                        .bind("includeUserMetadata", configuration.getIncludeUserMetadata())
+                        .bind("includeVersions", configuration.getIncludeVersions())
+                        .bind("length", configuration.getLength())
+                        .bind("matchETag", configuration.getMatchETag())
+                        .bind("maxConnections", configuration.getMaxConnections())
+                        .bind("maxMessagesPerPoll", configuration.getMaxMessagesPerPoll())
+                        .bind("modifiedSince", configuration.getModifiedSince())
+                        .bind("moveAfterRead", configuration.getMoveAfterRead())
+                        .bind("notMatchETag", configuration.getNotMatchETag())
+                        .bind("objectName", configuration.getObjectName())
+                        .bind("offset", configuration.getOffset())
+                        .bind("prefix", configuration.getPrefix())
+                        .bind("recursive", configuration.getRecursive())
+                        .bind("startAfter", configuration.getStartAfter())
+                        .bind("unModifiedSince", configuration.getUnModifiedSince())
+                        .bind("useVersion1", configuration.getUseVersion1())
+                        .bind("versionId", configuration.getVersionId())
+                        .bind("deleteAfterWrite", configuration.getDeleteAfterWrite())
+                        .bind("keyName", configuration.getKeyName())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("pojoRequest", configuration.getPojoRequest())
+                        .bind("storageClass", configuration.getStorageClass())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("secretKey", configuration.getSecretKey());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
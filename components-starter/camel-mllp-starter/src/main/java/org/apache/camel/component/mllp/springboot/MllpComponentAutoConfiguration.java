@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,44 @@ public class MllpComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(MllpComponent.class)
     public ComponentCustomizer configureMllpComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("autoAck", configuration.getAutoAck())
+                        .bind("charsetName", configuration.getCharsetName())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("hl7Headers", configuration.getHl7Headers())
+                        .bind("requireEndOfData", configuration.getRequireEndOfData())
+                        .bind("stringPayload", configuration.getStringPayload())
+                        .bind("validatePayload", configuration.getValidatePayload())
+                        .bind("acceptTimeout", configuration.getAcceptTimeout())
+                        .bind("backlog", configuration.getBacklog())
+                        .bind("bindRetryInterval", configuration.getBindRetryInterval())
+                        .bind("bindTimeout", configuration.getBindTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lenientBind", configuration.getLenientBind())
+                        .bind("maxConcurrentConsumers", configuration.getMaxConcurrentConsumers())
+                        .bind("reuseAddress", configuration.getReuseAddress())
+                        .bind("exchangePattern", configuration.getExchangePattern())
+                        .bind("connectTimeout", configuration.getConnectTimeout())
+                        .bind("idleTimeoutStrategy", configuration.getIdleTimeoutStrategy())
+                        .bind("keepAlive", configuration.getKeepAlive())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("tcpNoDelay", configuration.getTcpNoDelay())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("defaultCharset", configuration.getDefaultCharset())
+                        .bind("logPhi", configuration.getLogPhi())
+                        .bind("logPhiMaxBytes", configuration.getLogPhiMaxBytes())
+                        .bind("maxBufferSize", configuration.getMaxBufferSize())
+                        .bind("minBufferSize", configuration.getMinBufferSize())
+                        .bind("readTimeout", configuration.getReadTimeout())
+                        .bind("receiveBufferSize", configuration.getReceiveBufferSize())
+                        .bind("receiveTimeout", configuration.getReceiveTimeout())
+                        .bind("sendBufferSize", configuration.getSendBufferSize())
+                        .bind("idleTimeout", configuration.getIdleTimeout());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,88 @@ public class NettyComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(NettyComponent.class)
     public ComponentCustomizer configureNettyComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("disconnect", configuration.getDisconnect())
+                        .bind("keepAlive", configuration.getKeepAlive())
+                        .bind("reuseAddress", configuration.getReuseAddress())
+                        .bind("reuseChannel", configuration.getReuseChannel())
+                        .bind("sync", configuration.getSync())
+                        .bind("tcpNoDelay", configuration.getTcpNoDelay())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("broadcast", configuration.getBroadcast())
+                        .bind("clientMode", configuration.getClientMode())
+                        .bind("reconnect", configuration.getReconnect())
+                        .bind("reconnectInterval", configuration.getReconnectInterval())
+                        .bind("backlog", configuration.getBacklog())
+                        .bind("bossCount", configuration.getBossCount())
+                        .bind("bossGroup", configuration.getBossGroup())
+                        .bind("disconnectOnNoReply", configuration.getDisconnectOnNoReply())
+                        .bind("executorService", configuration.getExecutorService())
+                        .bind("maximumPoolSize", configuration.getMaximumPoolSize())
+                        .bind("nettyServerBootstrapFactory", configuration.getNettyServerBootstrapFactory())
+                        .bind("networkInterface", configuration.getNetworkInterface())
+                        .bind("noReplyLogLevel", configuration.getNoReplyLogLevel())
+                        .bind("serverClosedChannelExceptionCaughtLogLevel", configuration.getServerClosedChannelExceptionCaughtLogLevel())
+                        .bind("serverExceptionCaughtLogLevel", configuration.getServerExceptionCaughtLogLevel())
+                        .bind("serverInitializerFactory", configuration.getServerInitializerFactory())
+                        .bind("usingExecutorService", configuration.getUsingExecutorService())
+                        .bind("connectTimeout", configuration.getConnectTimeout())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("requestTimeout", configuration.getRequestTimeout())
+                        .bind("clientInitializerFactory", configuration.getClientInitializerFactory())
+                        .bind("correlationManager", configuration.getCorrelationManager())
+                        .bind("lazyChannelCreation", configuration.getLazyChannelCreation())
+                        .bind("producerPoolBlockWhenExhausted", configuration.getProducerPoolBlockWhenExhausted())
+                        .bind("producerPoolEnabled", configuration.getProducerPoolEnabled())
+                        .bind("producerPoolMaxIdle", configuration.getProducerPoolMaxIdle())
+                        .bind("producerPoolMaxTotal", configuration.getProducerPoolMaxTotal())
+                        .bind("producerPoolMaxWait", configuration.getProducerPoolMaxWait())
+                        .bind("producerPoolMinEvictableIdle", configuration.getProducerPoolMinEvictableIdle())
+                        .bind("producerPoolMinIdle", configuration.getProducerPoolMinIdle())
+                        .bind("udpConnectionlessSending", configuration.getUdpConnectionlessSending())
+                        .bind("useByteBuf", configuration.getUseByteBuf())
+                        .bind("hostnameVerification", configuration.getHostnameVerification())
+                        .bind("allowSerializedHeaders", configuration.getAllowSerializedHeaders())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("channelGroup", configuration.getChannelGroup())
+                        .bind("nativeTransport", configuration.getNativeTransport())
+                        .bind("options", configuration.getOptions())
+                        .bind("receiveBufferSize", configuration.getReceiveBufferSize())
+                        .bind("receiveBufferSizePredictor", configuration.getReceiveBufferSizePredictor())
+                        .bind("sendBufferSize", configuration.getSendBufferSize())
+                        .bind("transferExchange", configuration.getTransferExchange())
+                        .bind("udpByteArrayCodec", configuration.getUdpByteArrayCodec())
+                        .bind("unixDomainSocketPath", configuration.getUnixDomainSocketPath())
+                        .bind("workerCount", configuration.getWorkerCount())
+                        .bind("workerGroup", configuration.getWorkerGroup())
+                        .bind("allowDefaultCodec", configuration.getAllowDefaultCodec())
+                        .bind("autoAppendDelimiter", configuration.getAutoAppendDelimiter())
+                        .bind("decoderMaxLineLength", configuration.getDecoderMaxLineLength())
+                        .bind("decoders", configuration.getDecoders())
+                        .bind("delimiter", configuration.getDelimiter())
+                        .bind("encoders", configuration.getEncoders())
+                        .bind("encoding", configuration.getEncoding())
+                        .bind("textline", configuration.getTextline())
+                        .bind("enabledProtocols", configuration.getEnabledProtocols())
+                        .bind("keyStoreFile", configuration.getKeyStoreFile())
+                        .bind("keyStoreFormat", configuration.getKeyStoreFormat())
+                        .bind("keyStoreResource", configuration.getKeyStoreResource())
+                        .bind("needClientAuth", configuration.getNeedClientAuth())
+                        .bind("passphrase", configuration.getPassphrase())
+                        .bind("securityProvider", configuration.getSecurityProvider())
+                        .bind("ssl", configuration.getSsl())
+                        .bind("sslClientCertHeaders", configuration.getSslClientCertHeaders())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("sslHandler", configuration.getSslHandler())
+                        .bind("trustStoreFile", configuration.getTrustStoreFile())
+                        .bind("trustStoreResource", configuration.getTrustStoreResource())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,30 @@ public class Olingo2ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Olingo2Component.class)
     public ComponentCustomizer configureOlingo2Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("connectTimeout", configuration.getConnectTimeout())
+                        .bind("contentType", configuration.getContentType())
+                        .bind("entityProviderReadProperties", configuration.getEntityProviderReadProperties())
+                        .bind("entityProviderWriteProperties", configuration.getEntityProviderWriteProperties())
+                        .bind("filterAlreadySeen", configuration.getFilterAlreadySeen())
+                        .bind("httpHeaders", configuration.getHttpHeaders())
+                        .bind("proxy", configuration.getProxy())
+                        .bind("serviceUri", configuration.getServiceUri())
+                        .bind("socketTimeout", configuration.getSocketTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("splitResult", configuration.getSplitResult())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("httpAsyncClientBuilder", configuration.getHttpAsyncClientBuilder())
+                        .bind("httpClientBuilder", configuration.getHttpClientBuilder())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,25 @@ public class OpensearchComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(OpensearchComponent.class)
     public ComponentCustomizer configureOpensearchComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("connectionTimeout", configuration.getConnectionTimeout())
+                        .bind("hostAddresses", configuration.getHostAddresses())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("maxRetryTimeout", configuration.getMaxRetryTimeout())
+                        .bind("socketTimeout", configuration.getSocketTimeout())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("client", configuration.getClient())
+                        .bind("enableSniffer", configuration.getEnableSniffer())
+                        .bind("sniffAfterFailureDelay", configuration.getSniffAfterFailureDelay())
+                        .bind("snifferInterval", configuration.getSnifferInterval())
+                        .bind("enableSSL", configuration.getEnableSSL())
+                        .bind("password", configuration.getPassword())
+                        .bind("user", configuration.getUser());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
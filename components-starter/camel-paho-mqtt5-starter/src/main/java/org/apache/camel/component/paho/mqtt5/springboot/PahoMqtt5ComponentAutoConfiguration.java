@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,44 @@ public class PahoMqtt5ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(PahoMqtt5Component.class)
     public ComponentCustomizer configurePahoMqtt5Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("automaticReconnect", configuration.getAutomaticReconnect())
+                        .bind("brokerUrl", configuration.getBrokerUrl())
+                        .bind("cleanStart", configuration.getCleanStart())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("connectionTimeout", configuration.getConnectionTimeout())
+                        .bind("filePersistenceDirectory", configuration.getFilePersistenceDirectory())
+                        .bind("keepAliveInterval", configuration.getKeepAliveInterval())
+                        .bind("maxReconnectDelay", configuration.getMaxReconnectDelay())
+                        .bind("persistence", configuration.getPersistence())
+                        .bind("qos", configuration.getQos())
+                        .bind("receiveMaximum", configuration.getReceiveMaximum())
+                        .bind("retained", configuration.getRetained())
+                        .bind("serverURIs", configuration.getServerURIs())
+                        .bind("sessionExpiryInterval", configuration.getSessionExpiryInterval())
+                        .bind("willMqttProperties", configuration.getWillMqttProperties())
+                        .bind("willPayload", configuration.getWillPayload())
+                        .bind("willQos", configuration.getWillQos())
+                        .bind("willRetained", configuration.getWillRetained())
+                        .bind("willTopic", configuration.getWillTopic())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("client", configuration.getClient())
+                        .bind("customWebSocketHeaders", configuration.getCustomWebSocketHeaders())
+                        .bind("executorServiceTimeout", configuration.getExecutorServiceTimeout())
+                        .bind("httpsHostnameVerificationEnabled", configuration.getHttpsHostnameVerificationEnabled())
+                        .bind("password", configuration.getPassword())
+                        .bind("socketFactory", configuration.getSocketFactory())
+                        .bind("sslClientProps", configuration.getSslClientProps())
+                        .bind("sslHostnameVerifier", configuration.getSslHostnameVerifier())
+                        .bind("userName", configuration.getUserName());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -25,19 +25,35 @@ import org.apache.camel.component.platform.http.PlatformHttpListener;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
 import org.apache.camel.util.ReflectionHelper;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.util.ServletRequestPathUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Maps the requests to the Camel consumers of the platform-http component.
+ * <p/>
+ * The consumers are registered and unregistered as their routes are started and stopped. The requests are matched
+ * against an immutable snapshot of the registered consumers, which is replaced as a whole on every change, so the
+ * lookups do not take any lock and never see a partially updated registry. The consumers are also registered in the
+ * registry of Spring MVC, for introspection (such as {@link #getHandlerMethods()}).
+ */
 public class CamelRequestHandlerMapping extends RequestMappingHandlerMapping implements PlatformHttpListener {
 
     private final PlatformHttpComponent component;
     private final PlatformHttpEngine engine;
+    private volatile Mappings mappings = Mappings.EMPTY;
 
     public CamelRequestHandlerMapping(PlatformHttpComponent component, PlatformHttpEngine engine) {
         this.component = component;
@@ -70,19 +86,98 @@ public class CamelRequestHandlerMapping extends RequestMappingHandlerMapping imp
     @Override
     protected HandlerMethod getHandlerInternal(HttpServletRequest request) throws Exception {
         ServletRequestPathUtils.parseAndCache(request);
-        return super.getHandlerInternal(request);
+        request.removeAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+        try {
+            // the lookup does not go through the registry of Spring MVC, which is guarded by a read/write lock
+            return lookupHandlerMethod(initLookupPath(request), request);
+        } finally {
+            ProducesRequestCondition.clearMediaTypesAttribute(request);
+        }
+    }
+
+    @Override
+    protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest request) throws Exception {
+        Mappings current = this.mappings;
+        List<Match> matches = new ArrayList<>();
+        List<RequestMappingInfo> direct = current.directPaths.get(lookupPath);
+        if (direct != null) {
+            addMatchingMappings(current, direct, matches, request);
+        }
+        if (matches.isEmpty()) {
+            addMatchingMappings(current, current.handlers.keySet(), matches, request);
+        }
+        if (matches.isEmpty()) {
+            return handleNoMatch(current.handlers.keySet(), lookupPath, request);
+        }
+
+        Match best = matches.get(0);
+        if (matches.size() > 1) {
+            Comparator<RequestMappingInfo> mappingComparator = getMappingComparator(request);
+            Comparator<Match> comparator = (m1, m2) -> mappingComparator.compare(m1.mapping(), m2.mapping());
+            matches.sort(comparator);
+            best = matches.get(0);
+            if (!CorsUtils.isPreFlightRequest(request) && comparator.compare(best, matches.get(1)) == 0) {
+                throw new IllegalStateException("Ambiguous platform-http consumers mapped for '"
+                                                + request.getRequestURI() + "': {" + best.mapping() + ", "
+                                                + matches.get(1).mapping() + "}");
+            }
+        }
+        request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, best.handlerMethod());
+        handleMatch(best.mapping(), lookupPath, request);
+        return best.handlerMethod();
+    }
+
+    private void addMatchingMappings(
+            Mappings current, Iterable<RequestMappingInfo> mappings, List<Match> matches, HttpServletRequest request) {
+        for (RequestMappingInfo mapping : mappings) {
+            RequestMappingInfo match = getMatchingMapping(mapping, request);
+            if (match != null) {
+                matches.add(new Match(match, current.handlers.get(mapping)));
+            }
+        }
     }
 
     @Override
-    public void registerHttpEndpoint(HttpEndpointModel model) {
+    public synchronized void registerHttpEndpoint(HttpEndpointModel model) {
         RequestMappingInfo info = asRequestMappingInfo(model);
-        Method m = ReflectionHelper.findMethod(SpringBootPlatformHttpConsumer.class, "service", HttpServletRequest.class, HttpServletResponse.class);
+        boolean async = false;
+        if (model.getConsumer() instanceof SpringBootPlatformHttpConsumer consumer) {
+            async = consumer.isAsync() || consumer.isVirtualThreads();
+        }
+        Method m = ReflectionHelper.findMethod(SpringBootPlatformHttpConsumer.class, async ? "serviceAsync" : "service",
+                HttpServletRequest.class, HttpServletResponse.class);
+
+        // a consumer with the same mapping (such as the previous consumer of a reloaded route) is replaced at once
+        Map<RequestMappingInfo, HandlerMethod> handlers = new LinkedHashMap<>(mappings.handlers);
+        HandlerMethod previous = handlers.put(info, createHandlerMethod(model.getConsumer(), m));
+        mappings = new Mappings(handlers);
+
+        if (previous != null) {
+            unregisterMapping(info);
+        }
         registerMapping(info, model.getConsumer(), m);
     }
 
     @Override
-    public void unregisterHttpEndpoint(HttpEndpointModel model) {
-        // noop
+    public synchronized void unregisterHttpEndpoint(HttpEndpointModel model) {
+        // the component unregisters all the consumers of the path of the stopped consumer, which may be another
+        // consumer on the same path (such as for another verb), or the consumer that replaced the stopped one
+        if (!PlatformHttpHelper.isStopping(model.getConsumer())) {
+            return;
+        }
+        Map<RequestMappingInfo, HandlerMethod> handlers = new LinkedHashMap<>(mappings.handlers);
+        RequestMappingInfo info = null;
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlers.entrySet()) {
+            if (entry.getValue().getBean() == model.getConsumer()) {
+                info = entry.getKey();
+                break;
+            }
+        }
+        if (info != null) {
+            handlers.remove(info);
+            mappings = new Mappings(handlers);
+            unregisterMapping(info);
+        }
     }
 
     private RequestMappingInfo asRequestMappingInfo(HttpEndpointModel model) {
@@ -94,7 +189,7 @@ public class CamelRequestHandlerMapping extends RequestMappingHandlerMapping imp
             verbs = endpoint.getHttpMethodRestrict();
         }
         if (verbs != null) {
-            for (String v : model.getVerbs().split(",")) {
+            for (String v : verbs.split(",")) {
                 RequestMethod rm = RequestMethod.resolve(v);
                 methods.add(rm);
             }
@@ -107,4 +202,30 @@ public class CamelRequestHandlerMapping extends RequestMappingHandlerMapping imp
         return info;
     }
 
+    /**
+     * The registered consumers, which are never modified once published.
+     */
+    private static final class Mappings {
+
+        static final Mappings EMPTY = new Mappings(Collections.emptyMap());
+
+        private final Map<RequestMappingInfo, HandlerMethod> handlers;
+        private final Map<String, List<RequestMappingInfo>> directPaths = new HashMap<>();
+
+        private Mappings(Map<RequestMappingInfo, HandlerMethod> handlers) {
+            this.handlers = Collections.unmodifiableMap(handlers);
+            for (RequestMappingInfo info : handlers.keySet()) {
+                for (String path : info.getDirectPaths()) {
+                    directPaths.computeIfAbsent(path, k -> new ArrayList<>()).add(info);
+                }
+            }
+        }
+    }
+
+    /**
+     * The conditions of a registered mapping that match the request, and its handler.
+     */
+    private record Match(RequestMappingInfo mapping, HandlerMethod handlerMethod) {
+    }
+
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.component.platform.http.HttpEndpointModel;
+import org.apache.camel.component.platform.http.PlatformHttpComponent;
+import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
+import org.apache.camel.component.platform.http.PlatformHttpListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The Spring WebFlux counterpart of {@link CamelRequestHandlerMapping}, which routes the requests to the Camel
+ * consumers of the platform-http component.
+ */
+public class CamelRouterFunction implements RouterFunction<ServerResponse>, PlatformHttpListener {
+
+    // the most specific paths first, such as /items/special before /items/{id}, as Spring MVC matches them
+    private static final Comparator<Route> SPECIFICITY
+            = Comparator.comparing(Route::pattern, PathPattern.SPECIFICITY_COMPARATOR);
+
+    // replaced as a whole on changes, so the requests are matched against a consistently sorted list
+    private volatile List<Route> routes = List.of();
+
+    public CamelRouterFunction(PlatformHttpComponent component) {
+        component.addPlatformHttpListener(this);
+    }
+
+    @Override
+    public Mono<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+        for (Route route : routes) {
+            // the path predicate also sets the path variables of the request
+            if (route.predicate().test(request)) {
+                return Mono.just(route.consumer()::handle);
+            }
+        }
+        return Mono.empty();
+    }
+
+    @Override
+    public synchronized void registerHttpEndpoint(HttpEndpointModel model) {
+        if (model.getConsumer() instanceof SpringBootPlatformHttpReactiveConsumer consumer) {
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(model.getUri());
+            List<Route> answer = new ArrayList<>(routes);
+            answer.add(new Route(model.getUri(), pattern, asRequestPredicate(model), consumer));
+            // the sort is stable, so the consumers of the same path are matched in registration order
+            answer.sort(SPECIFICITY);
+            routes = List.copyOf(answer);
+        }
+    }
+
+    @Override
+    public synchronized void unregisterHttpEndpoint(HttpEndpointModel model) {
+        // the component unregisters all the consumers of the path of the stopped consumer
+        if (!PlatformHttpHelper.isStopping(model.getConsumer())) {
+            return;
+        }
+        List<Route> answer = new ArrayList<>(routes);
+        answer.removeIf(route -> route.consumer() == model.getConsumer());
+        routes = List.copyOf(answer);
+    }
+
+    /**
+     * The paths of the registered consumers.
+     */
+    public List<String> getPaths() {
+        List<String> answer = new ArrayList<>();
+        routes.forEach(route -> answer.add(route.path()));
+        return answer;
+    }
+
+    private static RequestPredicate asRequestPredicate(HttpEndpointModel model) {
+        RequestPredicate predicate = RequestPredicates.path(model.getUri());
+        // allowed methods from model or endpoint
+        String verbs = model.getVerbs();
+        if (verbs == null) {
+            verbs = ((PlatformHttpEndpoint) model.getConsumer().getEndpoint()).getHttpMethodRestrict();
+        }
+        if (verbs != null) {
+            List<HttpMethod> methods = new ArrayList<>();
+            for (String v : verbs.split(",")) {
+                methods.add(HttpMethod.valueOf(v.trim().toUpperCase()));
+            }
+            predicate = predicate.and(RequestPredicates.methods(methods.toArray(new HttpMethod[0])));
+        }
+        return predicate;
+    }
+
+    private record Route(String path, PathPattern pattern, RequestPredicate predicate, SpringBootPlatformHttpReactiveConsumer consumer) {
+    }
+}
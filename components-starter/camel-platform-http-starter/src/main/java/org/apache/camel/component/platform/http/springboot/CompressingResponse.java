@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the response while it is written, when accepted by the client.
+ * <p/>
+ * Whether the response is compressed is decided when its body is first written, once the status and headers have been
+ * set by the binding. The Content-Length of the response is held back until then, as it does not apply to a compressed
+ * body. When the size of the response is not known up front (the binding writes in chunked mode), up to
+ * min-response-size bytes are held back, so small responses are not compressed either.
+ */
+final class CompressingResponse extends HttpServletResponseWrapper {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SpringBootPlatformHttpEngineConfiguration.Compression compression;
+    private final String encoding;
+    private long contentLength = -1;
+    private CompressingOutputStream stream;
+    private PrintWriter writer;
+
+    /**
+     * @param encoding the content coding negotiated with the client, or <tt>null</tt> if the response must not be
+     *                 compressed
+     */
+    CompressingResponse(HttpServletResponse response, SpringBootPlatformHttpEngineConfiguration.Compression compression,
+                        String encoding) {
+        super(response);
+        this.compression = compression;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Negotiates the content coding of the response. The quality of a coding listed explicitly, including
+     * <tt>q=0</tt> which refuses it, takes precedence over the quality of the <tt>*</tt> wildcard.
+     *
+     * @param  acceptEncoding the Accept-Encoding header of the request
+     * @return                gzip or deflate, or <tt>null</tt> if the client does not accept either of them
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double wildcard = -1;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                gzip = Math.max(gzip, q);
+            } else if (DEFLATE.equals(coding)) {
+                deflate = Math.max(deflate, q);
+            } else if ("*".equals(coding)) {
+                wildcard = Math.max(wildcard, q);
+            }
+        }
+        if (gzip < 0) {
+            gzip = wildcard;
+        }
+        if (deflate < 0) {
+            deflate = wildcard;
+        }
+        // gzip is preferred on a tie
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        return deflate > 0 ? DEFLATE : null;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        contentLength = len;
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        contentLength = len;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            contentLength = value != null ? Long.parseLong(value.trim()) : -1;
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            contentLength = Long.parseLong(value.trim());
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            contentLength = value;
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            contentLength = value;
+        } else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        if (stream == null) {
+            stream = new CompressingOutputStream();
+        }
+        return stream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (stream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            stream = new CompressingOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (stream != null) {
+            stream.open();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        contentLength = -1;
+    }
+
+    /**
+     * Completes the response, which writes the trailer of the compressed body.
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (stream != null) {
+            stream.close();
+        } else {
+            applyContentLength();
+        }
+    }
+
+    private void applyContentLength() {
+        if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+    }
+
+    private boolean isCompressible() {
+        String contentType = getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        int pos = contentType.indexOf(';');
+        String type = (pos >= 0 ? contentType.substring(0, pos) : contentType).trim().toLowerCase(Locale.ROOT);
+        for (String mimeType : compression.getMimeTypes()) {
+            if (mimeType.endsWith("/*")
+                    ? type.startsWith(mimeType.substring(0, mimeType.length() - 1)) : type.equals(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean shouldCompress() {
+        int status = getStatus();
+        if (status < 200 || status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED
+                || containsHeader(CONTENT_ENCODING) || !isCompressible()) {
+            return false;
+        }
+        // the response varies whether it is compressed or not
+        super.addHeader("Vary", "Accept-Encoding");
+        return encoding != null && (contentLength < 0 || contentLength >= compression.getMinResponseSize());
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private Boolean compress;
+        private byte[] buffer;
+        private int count;
+        private OutputStream target;
+        private Deflater deflater;
+        private boolean closed;
+
+        private boolean isCompress() {
+            if (compress == null) {
+                compress = shouldCompress();
+            }
+            return compress;
+        }
+
+        /**
+         * Opens the target stream, and writes the data held back so far.
+         */
+        void open() throws IOException {
+            if (target == null) {
+                open(isCompress());
+            }
+        }
+
+        private void open(boolean compressed) throws IOException {
+            ServletOutputStream os = getResponse().getOutputStream();
+            if (compressed) {
+                CompressingResponse.super.setHeader(CONTENT_ENCODING, encoding);
+                // flushing the compressed stream flushes the compressed data written so far
+                if (GZIP.equals(encoding)) {
+                    target = new GZIPOutputStream(os, BUFFER_SIZE, true);
+                } else {
+                    deflater = new Deflater();
+                    target = new DeflaterOutputStream(os, deflater, BUFFER_SIZE, true);
+                }
+            } else {
+                applyContentLength();
+                target = os;
+            }
+            if (count > 0) {
+                target.write(buffer, 0, count);
+                buffer = null;
+                count = 0;
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null) {
+                if (isCompress() && contentLength < 0 && count + len < compression.getMinResponseSize()) {
+                    // the response may be too small to be compressed
+                    if (buffer == null) {
+                        buffer = new byte[compression.getMinResponseSize()];
+                    }
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                }
+                open(isCompress());
+            }
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // the data held back is only written once it is known whether to compress it
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (target == null) {
+                // the response is too small to be compressed
+                if (contentLength < 0) {
+                    contentLength = count;
+                }
+                open(false);
+                target.close();
+                return;
+            }
+            try {
+                target.close();
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
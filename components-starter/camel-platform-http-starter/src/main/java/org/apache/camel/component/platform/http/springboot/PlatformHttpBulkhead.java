@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests processed concurrently by a consumer.
+ */
+public final class PlatformHttpBulkhead {
+
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final long queueTimeout;
+    private final int rejectionStatusCode;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public PlatformHttpBulkhead(SpringBootPlatformHttpEngineConfiguration.Bulkhead configuration) {
+        this.maxConcurrentRequests = configuration.getMaxConcurrentRequests();
+        this.maxQueuedRequests = configuration.getMaxQueuedRequests();
+        this.queueTimeout = configuration.getQueueTimeout();
+        this.rejectionStatusCode = configuration.getRejectionStatusCode();
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    /**
+     * Acquires the permit to process a request, which must be released once the request is processed.
+     *
+     * @return <tt>false</tt> if the request is rejected
+     */
+    boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueuedRequests) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(queueTimeout, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getRejectionStatusCode() {
+        return rejectionStatusCode;
+    }
+
+    /**
+     * Number of requests being processed.
+     */
+    public int getInflightRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    /**
+     * Number of requests waiting to be processed.
+     */
+    public int getQueuedRequests() {
+        return queued.get();
+    }
+
+    /**
+     * Number of rejected requests.
+     */
+    public long getRejectedRequests() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.camel.Consumer;
+import org.apache.camel.component.platform.http.HttpEndpointModel;
+import org.apache.camel.component.platform.http.PlatformHttpComponent;
+import org.apache.camel.component.platform.http.PlatformHttpListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers the counters of the bulkheads of the consumers as Micrometer meters, tagged with the path and the methods
+ * of the consumer:
+ * <ul>
+ * <li>camel.platform.http.bulkhead.inflight: the number of requests being processed</li>
+ * <li>camel.platform.http.bulkhead.queued: the number of requests waiting to be processed</li>
+ * <li>camel.platform.http.bulkhead.rejected: the number of rejected requests</li>
+ * </ul>
+ * The meters are only registered if there is a {@link MeterRegistry} bean. A consumer replacing another one on the
+ * same path and methods takes over its meters, which are bound again to the bulkhead of the new consumer.
+ */
+public class PlatformHttpBulkheadMetrics implements PlatformHttpListener {
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    // the meters registered for the path and methods, by the consumer that registered them last
+    private final Map<Tags, Registration> meters = new HashMap<>();
+
+    public PlatformHttpBulkheadMetrics(PlatformHttpComponent component, ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+        component.addPlatformHttpListener(this);
+    }
+
+    @Override
+    public synchronized void registerHttpEndpoint(HttpEndpointModel model) {
+        if (!(model.getConsumer() instanceof SpringBootPlatformHttpConsumer consumer)
+                || consumer.getBulkhead() == null) {
+            return;
+        }
+        MeterRegistry registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        PlatformHttpBulkhead bulkhead = consumer.getBulkhead();
+        Tags tags = Tags.of("path", model.getUri(), "method", model.getVerbs() != null ? model.getVerbs() : "*");
+        // the registry would return the meters of the replaced consumer, bound to its bulkhead
+        Registration replaced = meters.remove(tags);
+        if (replaced != null) {
+            replaced.meters().forEach(registry::remove);
+        }
+        List<Meter> answer = List.of(
+                Gauge.builder("camel.platform.http.bulkhead.inflight", bulkhead, PlatformHttpBulkhead::getInflightRequests)
+                        .description("Number of requests being processed")
+                        .tags(tags)
+                        .register(registry),
+                Gauge.builder("camel.platform.http.bulkhead.queued", bulkhead, PlatformHttpBulkhead::getQueuedRequests)
+                        .description("Number of requests waiting to be processed")
+                        .tags(tags)
+                        .register(registry),
+                FunctionCounter
+                        .builder("camel.platform.http.bulkhead.rejected", bulkhead, PlatformHttpBulkhead::getRejectedRequests)
+                        .description("Number of rejected requests")
+                        .tags(tags)
+                        .register(registry));
+        meters.put(tags, new Registration(consumer, answer));
+    }
+
+    @Override
+    public synchronized void unregisterHttpEndpoint(HttpEndpointModel model) {
+        // the component unregisters all the consumers of the path of the stopped consumer
+        if (!PlatformHttpHelper.isStopping(model.getConsumer())) {
+            return;
+        }
+        // the meters taken over by a consumer that replaced the stopped one are kept
+        Iterator<Registration> it = meters.values().iterator();
+        while (it.hasNext()) {
+            Registration registration = it.next();
+            if (registration.consumer() == model.getConsumer()) {
+                it.remove();
+                registration.meters().forEach(registryProvider.getObject()::remove);
+            }
+        }
+    }
+
+    private record Registration(Consumer consumer, List<Meter> meters) {
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.Language;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Answers the conditional GET requests of a consumer with a 304 (Not Modified) response, without routing the exchange,
+ * when the requested resource is unchanged according to the validators (ETag and Last-Modified) evaluated on the
+ * request.
+ */
+final class PlatformHttpConditionalRequests {
+
+    static final String ETAG = "ETag";
+    static final String LAST_MODIFIED = "Last-Modified";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private final Expression cacheKey;
+    private final Expression lastModified;
+
+    private PlatformHttpConditionalRequests(Expression cacheKey, Expression lastModified) {
+        this.cacheKey = cacheKey;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Creates the conditional requests of a consumer.
+     *
+     * @return the conditional requests, or <tt>null</tt> if there is no validator
+     */
+    static PlatformHttpConditionalRequests of(
+            CamelContext camelContext, SpringBootPlatformHttpEngineConfiguration.ConditionalRequests configuration) {
+        if (configuration == null || configuration.getCacheKey() == null && configuration.getLastModified() == null) {
+            return null;
+        }
+        Language simple = camelContext.resolveLanguage("simple");
+        return new PlatformHttpConditionalRequests(
+                createExpression(camelContext, simple, configuration.getCacheKey()),
+                createExpression(camelContext, simple, configuration.getLastModified()));
+    }
+
+    private static Expression createExpression(CamelContext camelContext, Language language, String text) {
+        if (text == null) {
+            return null;
+        }
+        Expression answer = language.createExpression(text);
+        answer.init(camelContext);
+        return answer;
+    }
+
+    /**
+     * Evaluates the validators of the requested resource, which are set as headers of the message so they are returned
+     * with the response of the route.
+     *
+     * @return <tt>true</tt> if the resource is not modified, in which case a 304 response has been written, and the
+     *         exchange must not be routed
+     */
+    boolean handle(HttpServletRequest request, HttpServletResponse response, Exchange exchange) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+        Message message = exchange.getIn();
+        String etag = null;
+        if (cacheKey != null) {
+            String key = cacheKey.evaluate(exchange, String.class);
+            if (key != null) {
+                etag = toETag(key);
+                message.setHeader(ETAG, etag);
+            }
+        }
+        Date date = null;
+        if (lastModified != null) {
+            date = toDate(exchange, lastModified.evaluate(exchange, Object.class));
+            if (date != null) {
+                message.setHeader(LAST_MODIFIED, date);
+            }
+        }
+
+        if (!isNotModified(request, etag, date)) {
+            return false;
+        }
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        if (etag != null) {
+            response.setHeader(ETAG, etag);
+        }
+        if (date != null) {
+            response.setDateHeader(LAST_MODIFIED, date.getTime());
+        }
+        return true;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, Date date) {
+        // If-Modified-Since is ignored when If-None-Match is present
+        String ifNoneMatch = request.getHeader(IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return etag != null && matches(ifNoneMatch, etag);
+        }
+        if (date == null) {
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // the HTTP dates have a precision of a second
+        return ifModifiedSince >= 0 && date.getTime() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if ("*".equals(ifNoneMatch.trim())) {
+            return true;
+        }
+        // weak comparison
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Turns the cache key into an entity tag, which is the quoted key, unless it is already an entity tag, or it
+     * contains characters that are not allowed in an entity tag, in which case it is hashed.
+     */
+    static String toETag(String key) {
+        if (key.startsWith("\"") || key.startsWith("W/\"")) {
+            return key;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c == '"' || c > 0x7e) {
+                return '"' + hash(key) + '"';
+            }
+        }
+        return '"' + key + '"';
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    private static Date toDate(Exchange exchange, Object value) {
+        if (value == null || value instanceof Date) {
+            return (Date) value;
+        } else if (value instanceof Number number) {
+            return new Date(number.longValue());
+        } else if (value instanceof Instant instant) {
+            return Date.from(instant);
+        } else if (value instanceof String text && !text.isEmpty() && text.chars().allMatch(Character::isDigit)) {
+            return new Date(Long.parseLong(text));
+        }
+        return exchange.getContext().getTypeConverter().tryConvertTo(Date.class, exchange, value);
+    }
+}
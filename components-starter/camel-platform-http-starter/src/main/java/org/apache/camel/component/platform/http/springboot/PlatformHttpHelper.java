@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Route;
+import org.apache.camel.StatefulService;
+
+final class PlatformHttpHelper {
+
+    private PlatformHttpHelper() {
+    }
+
+    /**
+     * Whether the route of the given platform-http consumer is being stopped (or removed).
+     * <p/>
+     * The consumers created by the engine are wrapped in the consumer of the route, which is the one that is stopped,
+     * and they share the endpoint of the route.
+     */
+    static boolean isStopping(Consumer consumer) {
+        Endpoint endpoint = consumer.getEndpoint();
+        for (Route route : endpoint.getCamelContext().getRoutes()) {
+            if (route.getEndpoint() == endpoint && route.getConsumer() instanceof StatefulService service) {
+                return service.isStopping() || service.isStopped();
+            }
+        }
+        return true;
+    }
+}
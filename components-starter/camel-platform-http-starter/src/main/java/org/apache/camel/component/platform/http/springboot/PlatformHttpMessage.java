@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.platform.http.springboot;
 
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.camel.Exchange;
@@ -28,10 +30,12 @@ import java.io.IOException;
 
 public class PlatformHttpMessage extends DefaultMessage {
 
-    private HttpServletRequest request;
-    private HttpServletResponse response;
+    private volatile HttpServletRequest request;
+    private volatile HttpServletResponse response;
     private HttpBinding binding;
     private boolean requestRead;
+    private volatile boolean detached;
+    private volatile DetachableInputStream stream;
 
     public PlatformHttpMessage(Exchange exchange, HttpBinding binding, HttpServletRequest request, HttpServletResponse response) {
         super(exchange);
@@ -49,6 +53,8 @@ public class PlatformHttpMessage extends DefaultMessage {
     public void init(Exchange exchange, HttpBinding binding, HttpServletRequest request, HttpServletResponse response) {
         this.setExchange(exchange);
         this.requestRead = false;
+        this.detached = false;
+        this.stream = null;
         this.binding = binding;
         this.request = request;
         this.response = response;
@@ -68,6 +74,26 @@ public class PlatformHttpMessage extends DefaultMessage {
         this.response = null;
         this.binding = null;
         this.requestRead = false;
+        this.detached = false;
+        this.stream = null;
+    }
+
+    /**
+     * Detaches the message from the servlet request and response, which are recycled by the servlet container once
+     * the request has been completed (such as on an async timeout) while the exchange may still be routed. The body
+     * is no longer read from the request, and a streamed request body fails to be read further.
+     * <p/>
+     * The <tt>CamelHttpServletRequest</tt> and <tt>CamelHttpServletResponse</tt> headers are not removed, as the
+     * headers may be accessed by the route at the same time, so they must not be used after a timeout.
+     */
+    public void detach() {
+        this.detached = true;
+        this.request = null;
+        this.response = null;
+        DetachableInputStream is = this.stream;
+        if (is != null) {
+            is.detached = true;
+        }
     }
 
     public HttpServletRequest getRequest() {
@@ -79,12 +105,18 @@ public class PlatformHttpMessage extends DefaultMessage {
     }
 
     protected Object createBody() {
-        if (this.requestRead) {
+        HttpServletRequest request = this.request;
+        if (this.requestRead || this.detached || request == null) {
             return null;
         } else {
             Object body;
             try {
                 body = this.binding.parseBody(request, this);
+                if (body instanceof ServletInputStream sis) {
+                    // a streamed body is read from the request while routing
+                    stream = new DetachableInputStream(sis);
+                    body = stream;
+                }
             } catch (IOException var5) {
                 throw new RuntimeCamelException(var5);
             } finally {
@@ -103,5 +135,72 @@ public class PlatformHttpMessage extends DefaultMessage {
         return "PlatformHttpMessage@" + ObjectHelper.getIdentityHashCode(this);
     }
 
+    private static final class DetachableInputStream extends ServletInputStream {
+
+        private final ServletInputStream in;
+        private volatile boolean detached;
+
+        private DetachableInputStream(ServletInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDetached();
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkDetached();
+            return in.read(b, off, len);
+        }
+
+        @Override
+        public int readLine(byte[] b, int off, int len) throws IOException {
+            checkDetached();
+            return in.readLine(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            checkDetached();
+            return in.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            checkDetached();
+            return in.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!detached) {
+                in.close();
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return detached || in.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return !detached && in.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            in.setReadListener(readListener);
+        }
+
+        private void checkDetached() throws IOException {
+            if (detached) {
+                throw new IOException("The request has been completed and can no longer be read");
+            }
+        }
+    }
 
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts the values of the placeholders (such as <tt>/users/{id}</tt>) of a consumer path from the request paths.
+ * <p/>
+ * The consumer path is compiled once, when the consumer is registered, and a request path is then scanned in a single
+ * pass. It gives the same headers as {@link org.apache.camel.http.base.HttpHelper#evalPlaceholders(Map, String, String)}
+ * which splits both paths for every request.
+ */
+final class RestPathMatcher {
+
+    // the indexes of the path segments holding a placeholder, in ascending order, and the placeholder names
+    private final int[] segments;
+    private final String[] names;
+
+    private RestPathMatcher(int[] segments, String[] names) {
+        this.segments = segments;
+        this.names = names;
+    }
+
+    /**
+     * Compiles the given consumer path.
+     *
+     * @param  consumerPath the consumer path
+     * @return              the matcher, or <tt>null</tt> if the path has no placeholders
+     */
+    static RestPathMatcher compile(String consumerPath) {
+        if (consumerPath == null || consumerPath.indexOf('{') == -1) {
+            return null;
+        }
+        String path = consumerPath.startsWith("/") ? consumerPath.substring(1) : consumerPath;
+        List<Integer> segments = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        String[] parts = path.split("/");
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            if (part.length() > 1 && part.startsWith("{") && part.endsWith("}")) {
+                segments.add(i);
+                names.add(part.substring(1, part.length() - 1));
+            }
+        }
+        if (segments.isEmpty()) {
+            return null;
+        }
+        return new RestPathMatcher(segments.stream().mapToInt(Integer::intValue).toArray(), names.toArray(new String[0]));
+    }
+
+    /**
+     * Puts the values of the placeholders found in the given request path in the headers.
+     *
+     * @param path    the request path
+     * @param headers the headers
+     */
+    void match(String path, Map<String, Object> headers) {
+        int length = path.length();
+        int start = path.startsWith("/") ? 1 : 0;
+        int segment = 0;
+        int next = 0;
+        while (next < segments.length && start <= length) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = length;
+            }
+            if (segment == segments[next]) {
+                // a trailing empty segment is not a value (as with String.split)
+                if (end > start || end < length) {
+                    headers.put(names[next], path.substring(start, end));
+                }
+                next++;
+            }
+            segment++;
+            start = end + 1;
+        }
+    }
+}
@@ -19,9 +19,13 @@ package org.apache.camel.component.platform.http.springboot;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.platform.http.PlatformHttpComponent;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -30,6 +34,8 @@ import org.springframework.context.annotation.DependsOn;
 @AutoConfigureAfter(name = {
         "org.apache.camel.component.servlet.springboot.PlatformHttpComponentAutoConfiguration",
         "org.apache.camel.component.servlet.springboot.PlatformHttpComponentConverter"})
+@ConditionalOnMissingBean(type = "org.apache.camel.component.platform.http.springboot.CamelRouterFunction")
+@EnableConfigurationProperties(SpringBootPlatformHttpEngineConfiguration.class)
 public class SpringBootPlatformHttpAutoConfiguration {
 
     @Autowired
@@ -37,8 +43,8 @@ public class SpringBootPlatformHttpAutoConfiguration {
 
     @Bean(name = "platform-http-engine")
     @ConditionalOnMissingBean(PlatformHttpEngine.class)
-    public PlatformHttpEngine springBootPlatformHttpEngine() {
-        return new SpringBootPlatformHttpEngine();
+    public PlatformHttpEngine springBootPlatformHttpEngine(SpringBootPlatformHttpEngineConfiguration configuration) {
+        return new SpringBootPlatformHttpEngine(configuration);
     }
 
     @Bean
@@ -49,4 +55,17 @@ public class SpringBootPlatformHttpAutoConfiguration {
         return answer;
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class BulkheadMetricsConfiguration {
+
+        @Bean
+        @DependsOn("configurePlatformHttpComponent")
+        public PlatformHttpBulkheadMetrics platformHttpBulkheadMetrics(
+                CamelContext camelContext, ObjectProvider<MeterRegistry> registry) {
+            PlatformHttpComponent component = camelContext.getComponent("platform-http", PlatformHttpComponent.class);
+            return new PlatformHttpBulkheadMetrics(component, registry);
+        }
+    }
+
 }
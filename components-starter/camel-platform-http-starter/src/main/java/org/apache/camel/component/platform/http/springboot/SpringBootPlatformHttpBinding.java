@@ -16,35 +16,127 @@
  */
 package org.apache.camel.component.platform.http.springboot;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
-import org.apache.camel.http.base.HttpHelper;
 import org.apache.camel.http.common.DefaultHttpBinding;
+import org.apache.camel.http.common.HttpConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 
 public class SpringBootPlatformHttpBinding extends DefaultHttpBinding {
 
-    protected void populateRequestParameters(HttpServletRequest request, Message message) {
-        super.populateRequestParameters(request, message);
-        String path = request.getRequestURI();
-        // skip leading slash
-        if (path != null && path.startsWith("/")) {
-            path = path.substring(1);
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpBinding.class);
+
+    private boolean streaming;
+    private RestPathMatcher restPathMatcher;
+
+    /**
+     * Whether the request and response bodies are streamed. The request body is the raw
+     * {@link jakarta.servlet.ServletInputStream}, which is only read by the route, and <tt>File</tt>,
+     * <tt>ByteBuffer</tt> and <tt>InputStream</tt> response bodies are written as is to the servlet output stream.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    @Override
+    protected void readBody(HttpServletRequest request, Message message) {
+        if (streaming && !HttpConstants.CONTENT_TYPE_JAVA_SERIALIZED_OBJECT.equals(request.getContentType())) {
+            // the body is not read up front, but when the route first accesses it
+            populateAttachments(request, message);
+            return;
+        }
+        super.readBody(request, message);
+    }
+
+    @Override
+    public Object parseBody(HttpServletRequest request, Message message) throws IOException {
+        if (streaming && !isUseReaderForPayload() && request.getContentLength() != 0) {
+            // neither cached nor decoded, so it can be forwarded as is
+            return request.getInputStream();
+        }
+        return super.parseBody(request, message);
+    }
+
+    @Override
+    protected void doWriteDirectResponse(Message message, HttpServletResponse response, Exchange exchange)
+            throws IOException {
+        Object body = message.getBody();
+        if (!streaming || HttpConstants.CONTENT_TYPE_JAVA_SERIALIZED_OBJECT.equals(message.getHeader(Exchange.CONTENT_TYPE))) {
+            super.doWriteDirectResponse(message, response, exchange);
+        } else if (body instanceof File file) {
+            writeFile(file, response);
+        } else if (body instanceof ByteBuffer buffer) {
+            writeByteBuffer(buffer, response);
+        } else if (body instanceof InputStream is) {
+            LOG.debug("Streaming response in chunked mode");
+            try (is; ServletOutputStream os = response.getOutputStream()) {
+                is.transferTo(os);
+            }
+        } else {
+            super.doWriteDirectResponse(message, response, exchange);
         }
-        if (path != null) {
-            PlatformHttpEndpoint endpoint = (PlatformHttpEndpoint) message.getExchange().getFromEndpoint();
-            String consumerPath = endpoint.getPath();
-            if (consumerPath != null && consumerPath.startsWith("/")) {
-                consumerPath = consumerPath.substring(1);
+    }
+
+    private static void writeFile(File file, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            response.setContentLengthLong(size);
+            LOG.debug("Streaming file response {} with content-length {}", file, size);
+            ServletOutputStream os = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(os);
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
             }
-            if (useRestMatching(consumerPath)) {
-                HttpHelper.evalPlaceholders(message.getHeaders(), path, consumerPath);
+            os.flush();
+        }
+    }
+
+    private static void writeByteBuffer(ByteBuffer buffer, HttpServletResponse response) throws IOException {
+        // do not change the position of the buffer, which is the body of the message
+        ByteBuffer data = buffer.duplicate();
+        response.setContentLength(data.remaining());
+        LOG.debug("Writing byte buffer response with content-length {}", data.remaining());
+        ServletOutputStream os = response.getOutputStream();
+        if (data.hasArray()) {
+            os.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            WritableByteChannel target = Channels.newChannel(os);
+            while (data.hasRemaining()) {
+                target.write(data);
             }
         }
+        os.flush();
+    }
+
+    void setRestPathMatcher(RestPathMatcher restPathMatcher) {
+        this.restPathMatcher = restPathMatcher;
     }
 
-    private boolean useRestMatching(String path) {
-        return path.indexOf('{') > -1;
+    protected void populateRequestParameters(HttpServletRequest request, Message message) {
+        super.populateRequestParameters(request, message);
+        RestPathMatcher matcher = restPathMatcher;
+        String path = request.getRequestURI();
+        if (matcher != null && path != null) {
+            matcher.match(path, message.getHeaders());
+        }
     }
 
 }
@@ -16,28 +16,47 @@
  */
 package org.apache.camel.component.platform.http.springboot;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.Suspendable;
 import org.apache.camel.SuspendableService;
 import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
-import org.apache.camel.http.common.DefaultHttpBinding;
 import org.apache.camel.http.common.HttpHelper;
 import org.apache.camel.support.DefaultConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 
 public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements Suspendable, SuspendableService {
 
     private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpConsumer.class);
 
-    private final DefaultHttpBinding binding;
+    private final SpringBootPlatformHttpBinding binding;
+    private boolean async;
+    private long asyncTimeout;
+    private boolean virtualThreads;
+    private volatile ExecutorService executorService;
+    private PlatformHttpBulkhead bulkhead;
+    private SpringBootPlatformHttpEngineConfiguration.Compression compression;
+    private PlatformHttpConditionalRequests conditionalRequests;
+    private final LongAdder messagesCreated = new LongAdder();
+    private final LongAdder messagesReused = new LongAdder();
 
     public SpringBootPlatformHttpConsumer(PlatformHttpEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -52,6 +71,139 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
         return (PlatformHttpEndpoint) super.getEndpoint();
     }
 
+    /**
+     * Whether the requests are processed asynchronously, in which case Spring Boot invokes
+     * {@link #serviceAsync(HttpServletRequest, HttpServletResponse)} instead of
+     * {@link #service(HttpServletRequest, HttpServletResponse)}.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Timeout in milliseconds of the requests processed asynchronously, after which a 503 response is returned. The
+     * default value 0 uses the timeout of the servlet container. On a timeout, the routing of the exchange is stopped
+     * and its message no longer reads from the request.
+     */
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * Whether each request is processed on its own virtual thread (requires Java 21), instead of the servlet
+     * container thread. The requests are then processed asynchronously, as with {@link #setAsync(boolean)}.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Whether the request and response bodies are streamed, see {@link SpringBootPlatformHttpBinding#isStreaming()}.
+     */
+    public boolean isStreaming() {
+        return binding.isStreaming();
+    }
+
+    public void setStreaming(boolean streaming) {
+        binding.setStreaming(streaming);
+    }
+
+    /**
+     * The bulkhead limiting the number of requests processed concurrently, or <tt>null</tt> if they are not limited.
+     */
+    public PlatformHttpBulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(PlatformHttpBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * The compression of the responses, or <tt>null</tt> if they are not compressed.
+     */
+    public SpringBootPlatformHttpEngineConfiguration.Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(SpringBootPlatformHttpEngineConfiguration.Compression compression) {
+        this.compression = compression;
+    }
+
+    void setConditionalRequests(PlatformHttpConditionalRequests conditionalRequests) {
+        this.conditionalRequests = conditionalRequests;
+    }
+
+    /**
+     * Number of {@link PlatformHttpMessage} created while the exchanges are pooled
+     * (<tt>camel.springboot.exchange-factory=pooled</tt>).
+     */
+    public long getMessagesCreated() {
+        return messagesCreated.sum();
+    }
+
+    /**
+     * Number of {@link PlatformHttpMessage} reused from a pooled exchange
+     * (<tt>camel.springboot.exchange-factory=pooled</tt>).
+     */
+    public long getMessagesReused() {
+        return messagesReused.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // the placeholders of the path are only parsed once, instead of for every request
+        binding.setRestPathMatcher(RestPathMatcher.compile(getEndpoint().getPath()));
+        if (virtualThreads && executorService == null) {
+            executorService = newVirtualThreadPerTaskExecutor();
+            if (executorService == null) {
+                LOG.warn("Virtual threads are not supported by this JVM (Java 21 or later is required)."
+                         + " Requests to {} are processed asynchronously on the servlet container threads instead.",
+                        getEndpoint().getPath());
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        long created = messagesCreated.sumThenReset();
+        long reused = messagesReused.sumThenReset();
+        if (created + reused > 0) {
+            LOG.debug("Pooled messages for {}: [created: {}, reused: {}, hit rate: {}%]", getEndpoint().getPath(),
+                    created, reused, reused * 100 / (created + reused));
+        }
+        ExecutorService executor = executorService;
+        if (executor != null) {
+            executorService = null;
+            // the requests in flight are completed
+            executor.shutdown();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // the starter is built with Java 17
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeCamelException("Cannot create virtual thread executor", e);
+        }
+    }
 
     /**
      * This method is invoked by Spring Boot when invoking Camel via platform-http
@@ -61,15 +213,38 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
         try {
             handleService(request, response);
         } catch (Exception e) {
-            // do not leak exception back to caller
-            LOG.warn("Error handling request due to: {}", e.getMessage(), e);
-            try {
-                if (!response.isCommitted()) {
-                    response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-                }
-            } catch (Exception e1) {
-                // ignore
+            handleError(response, e);
+        }
+    }
+
+    /**
+     * This method is invoked by Spring Boot when invoking Camel via platform-http, if the requests are processed
+     * asynchronously. The servlet container thread is released once the exchange has been handed over to the route,
+     * and the response is written when the exchange is done.
+     */
+    public void serviceAsync(HttpServletRequest request, HttpServletResponse response) {
+        LOG.trace("Service: {}", request);
+        try {
+            if (request.isAsyncSupported()) {
+                handleServiceAsync(request, response);
+            } else {
+                LOG.debug("Async is not supported, processing request synchronously: {}", request);
+                handleService(request, response);
             }
+        } catch (Exception e) {
+            handleError(response, e);
+        }
+    }
+
+    private void handleError(HttpServletResponse response, Exception e) {
+        // do not leak exception back to caller
+        LOG.warn("Error handling request due to: {}", e.getMessage(), e);
+        try {
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } catch (Exception e1) {
+            // ignore
         }
     }
 
@@ -79,42 +254,216 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
             response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
             return;
         }
+        if (!acquirePermit(request, response)) {
+            return;
+        }
 
-        Exchange exchange = createExchange(true);
-        exchange.setPattern(ExchangePattern.InOut);
-        HttpHelper.setCharsetFromContentType(request.getContentType(), exchange);
-        exchange.setIn(new PlatformHttpMessage(exchange, binding, request, response));
-        String contextPath = getEndpoint().getPath();
-        exchange.getIn().setHeader(SpringBootPlatformHttpConstants.CONTEXT_PATH, contextPath);
-        // set context path as header
-        String httpPath = (String) exchange.getIn().getHeader(Exchange.HTTP_PATH);
-        // here we just remove the CamelServletContextPath part from the HTTP_PATH
-        if (contextPath != null
-            && httpPath.startsWith(contextPath)) {
-            exchange.getIn().setHeader(Exchange.HTTP_PATH,
-                    httpPath.substring(contextPath.length()));
+        try {
+            HttpServletResponse target = compressResponse(request, response);
+            Exchange exchange = toExchange(request, target);
+            if (isNotModified(request, response, exchange)) {
+                return;
+            }
+
+            // we want to handle the UoW
+            try {
+                createUoW(exchange);
+            } catch (Exception e) {
+                throw new ServletException(e);
+            }
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Processing request for exchangeId: {}", exchange.getExchangeId());
+            }
+            try {
+                getProcessor().process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            } finally {
+                afterProcess(target, exchange, true);
+            }
+        } finally {
+            releasePermit();
         }
+    }
 
-        // TODO: async with CompletionStage returned to spring boot?
+    protected void handleServiceAsync(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (isSuspended()) {
+            LOG.debug("Consumer suspended, cannot service request: {}", request);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        if (!acquirePermit(request, response)) {
+            return;
+        }
 
-        // we want to handle the UoW
+        // the MDC of the servlet container thread is restored once the exchange has been handed over
+        Map<String, String> containerMdc = MDC.getCopyOfContextMap();
+        HttpServletResponse target = compressResponse(request, response);
+        Exchange exchange;
+        AsyncContext asyncContext;
         try {
-            createUoW(exchange);
+            exchange = toExchange(request, target);
+            if (isNotModified(request, response, exchange)) {
+                releasePermit();
+                return;
+            }
+
+            // we want to handle the UoW
+            try {
+                createUoW(exchange);
+            } catch (Exception e) {
+                throw new ServletException(e);
+            }
+
+            try {
+                asyncContext = request.startAsync(request, response);
+            } catch (RuntimeException e) {
+                doneUoW(exchange);
+                releaseExchange(exchange, false);
+                throw e;
+            }
         } catch (Exception e) {
-            throw new ServletException(e);
+            releasePermit();
+            throw e;
         }
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Processing request for exchangeId: {}", exchange.getExchangeId());
+        if (asyncTimeout > 0) {
+            asyncContext.setTimeout(asyncTimeout);
         }
+        AsyncResponse asyncResponse = new AsyncResponse(asyncContext, exchange);
+        asyncContext.addListener(asyncResponse);
+
+        AsyncCallback callback = doneSync -> {
+            releasePermit();
+            // the response is written while holding the lock so it cannot be completed on a timeout at the same time
+            synchronized (asyncResponse) {
+                if (asyncResponse.tryComplete()) {
+                    try {
+                        afterProcess(target, exchange, true);
+                    } catch (Exception e) {
+                        handleError(response, e);
+                    } finally {
+                        asyncContext.complete();
+                    }
+                } else {
+                    LOG.debug("Request already completed, cannot write response for exchangeId: {}",
+                            exchange.getExchangeId());
+                    doneUoW(exchange);
+                    releaseExchange(exchange, false);
+                }
+            }
+        };
+
+        // read once, as the executor is shut down and cleared when the consumer is stopped
+        ExecutorService executor = executorService;
         try {
+            if (executor != null) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Processing request on a virtual thread for exchangeId: {}", exchange.getExchangeId());
+                }
+                // the unit of work is bound to the exchange, but the MDC is bound to the thread
+                Map<String, String> exchangeMdc = MDC.getCopyOfContextMap();
+                try {
+                    executor.execute(() -> processOnVirtualThread(exchange, exchangeMdc, callback));
+                } catch (RuntimeException e) {
+                    // such as a RejectedExecutionException when the consumer is being stopped
+                    exchange.setException(e);
+                    callback.done(true);
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Processing request asynchronously for exchangeId: {}", exchange.getExchangeId());
+                }
+                getAsyncProcessor().process(exchange, callback);
+            }
+        } finally {
+            setMdc(containerMdc);
+        }
+    }
+
+    private boolean acquirePermit(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (bulkhead == null || bulkhead.tryAcquire()) {
+            return true;
+        }
+        LOG.debug("Too many concurrent requests, cannot service request: {}", request);
+        response.sendError(bulkhead.getRejectionStatusCode());
+        return false;
+    }
+
+    private void releasePermit() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    private HttpServletResponse compressResponse(HttpServletRequest request, HttpServletResponse response) {
+        if (compression == null) {
+            return response;
+        }
+        return new CompressingResponse(
+                response, compression, CompressingResponse.negotiate(request.getHeader("Accept-Encoding")));
+    }
+
+    private boolean isNotModified(HttpServletRequest request, HttpServletResponse response, Exchange exchange) {
+        if (conditionalRequests == null || !conditionalRequests.handle(request, response, exchange)) {
+            return false;
+        }
+        LOG.debug("Resource not modified, not routing request: {}", request);
+        releaseExchange(exchange, false);
+        return true;
+    }
+
+    private void processOnVirtualThread(Exchange exchange, Map<String, String> mdc, AsyncCallback callback) {
+        setMdc(mdc);
+        try {
+            // blocking is cheap on a virtual thread, so the route is processed synchronously
             getProcessor().process(exchange);
         } catch (Exception e) {
             exchange.setException(e);
         } finally {
-            afterProcess(response, exchange, true);
+            callback.done(false);
+            MDC.clear();
+        }
+    }
+
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        } else {
+            MDC.clear();
         }
     }
 
+    private Exchange toExchange(HttpServletRequest request, HttpServletResponse response) {
+        // the exchange is released in afterProcess, so it must not also be released when it is done, which would
+        // put a pooled exchange back in the pool twice
+        Exchange exchange = createExchange(false);
+        exchange.setPattern(ExchangePattern.InOut);
+        HttpHelper.setCharsetFromContentType(request.getContentType(), exchange);
+        if (exchange instanceof PooledExchange) {
+            // the message of a pooled exchange is reset when the exchange is released, so it can be reused as well
+            if (exchange.getIn() instanceof PlatformHttpMessage message) {
+                message.init(exchange, binding, request, response);
+                messagesReused.increment();
+            } else {
+                exchange.setIn(new PlatformHttpMessage(exchange, binding, request, response));
+                messagesCreated.increment();
+            }
+        } else {
+            exchange.setIn(new PlatformHttpMessage(exchange, binding, request, response));
+        }
+        String contextPath = getEndpoint().getPath();
+        exchange.getIn().setHeader(SpringBootPlatformHttpConstants.CONTEXT_PATH, contextPath);
+        // set context path as header
+        String httpPath = (String) exchange.getIn().getHeader(Exchange.HTTP_PATH);
+        // here we just remove the CamelServletContextPath part from the HTTP_PATH
+        if (contextPath != null
+            && httpPath.startsWith(contextPath)) {
+            exchange.getIn().setHeader(Exchange.HTTP_PATH,
+                    httpPath.substring(contextPath.length()));
+        }
+        return exchange;
+    }
+
     protected void afterProcess(HttpServletResponse response, Exchange exchange, boolean rethrow) throws IOException, ServletException {
         try {
             // now lets output to the res
@@ -122,6 +471,9 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
                 LOG.trace("Writing res for exchangeId: {}", exchange.getExchangeId());
             }
             binding.writeResponse(exchange, response);
+            if (response instanceof CompressingResponse compressing) {
+                compressing.finish();
+            }
         } catch (IOException e) {
             LOG.error("Error processing request", e);
             if (rethrow) {
@@ -142,4 +494,68 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
         }
     }
 
+    /**
+     * Completes the request on a timeout or error, unless the response of the exchange has been written.
+     * <p/>
+     * The servlet container recycles the request and response once the request is completed, so the message of the
+     * exchange, which may still be routed, is then detached from them and the routing of the exchange is stopped.
+     */
+    private static final class AsyncResponse implements AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final Exchange exchange;
+        private final PlatformHttpMessage message;
+        private boolean completed;
+
+        private AsyncResponse(AsyncContext asyncContext, Exchange exchange) {
+            this.asyncContext = asyncContext;
+            this.exchange = exchange;
+            this.message = exchange.getIn() instanceof PlatformHttpMessage m ? m : null;
+        }
+
+        private void detach() {
+            exchange.setRouteStop(true);
+            if (message != null) {
+                message.detach();
+            }
+        }
+
+        synchronized boolean tryComplete() {
+            if (completed) {
+                return false;
+            }
+            completed = true;
+            return true;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (tryComplete()) {
+                LOG.debug("Timeout processing request: {}", event.getSuppliedRequest());
+                detach();
+                ((HttpServletResponse) event.getSuppliedResponse()).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (tryComplete()) {
+                LOG.debug("Error processing request: {}", event.getSuppliedRequest(), event.getThrowable());
+                detach();
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            // noop
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // noop
+        }
+    }
+
 }
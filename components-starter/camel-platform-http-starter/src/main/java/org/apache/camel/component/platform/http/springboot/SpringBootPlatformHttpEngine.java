@@ -23,9 +23,37 @@ import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
 
 public class SpringBootPlatformHttpEngine implements PlatformHttpEngine {
 
+    private final SpringBootPlatformHttpEngineConfiguration configuration;
+
+    public SpringBootPlatformHttpEngine() {
+        this(new SpringBootPlatformHttpEngineConfiguration());
+    }
+
+    public SpringBootPlatformHttpEngine(SpringBootPlatformHttpEngineConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public SpringBootPlatformHttpEngineConfiguration getConfiguration() {
+        return configuration;
+    }
+
     @Override
     public Consumer createConsumer(PlatformHttpEndpoint endpoint, Processor processor) {
-        return new SpringBootPlatformHttpConsumer(endpoint, processor);
+        SpringBootPlatformHttpConsumer consumer = new SpringBootPlatformHttpConsumer(endpoint, processor);
+        consumer.setAsync(configuration.isAsync());
+        consumer.setAsyncTimeout(configuration.getAsyncTimeout());
+        consumer.setVirtualThreads(configuration.isVirtualThreads());
+        consumer.setStreaming(configuration.isStreaming());
+        SpringBootPlatformHttpEngineConfiguration.Bulkhead bulkhead = configuration.getBulkhead(endpoint.getPath());
+        if (bulkhead.getMaxConcurrentRequests() > 0) {
+            consumer.setBulkhead(new PlatformHttpBulkhead(bulkhead));
+        }
+        if (configuration.getCompression().isEnabled()) {
+            consumer.setCompression(configuration.getCompression());
+        }
+        consumer.setConditionalRequests(PlatformHttpConditionalRequests.of(
+                endpoint.getCamelContext(), configuration.getConditionalRequests().get(endpoint.getPath())));
+        return consumer;
     }
 
 }
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of the Spring Boot engine of the platform-http component
+ */
+@ConfigurationProperties(prefix = "camel.component.platform-http")
+public class SpringBootPlatformHttpEngineConfiguration {
+
+    /**
+     * Whether to process the requests asynchronously. The servlet container thread is released while the exchange is
+     * routed, and the response is written once the exchange is done, so the number of concurrent requests is not
+     * limited by the size of the servlet container thread pool.
+     */
+    private boolean async;
+
+    /**
+     * Timeout in milliseconds of the requests processed asynchronously, after which a 503 response is returned. The
+     * default value 0 uses the async timeout of the servlet container (30 seconds on Tomcat). On a timeout the routing
+     * of the exchange is stopped, and the request (which is recycled by the servlet container) is no longer read.
+     */
+    private long asyncTimeout;
+
+    /**
+     * Whether to process each request on its own virtual thread, instead of the servlet container thread. Blocking
+     * routes (JDBC, HTTP calls, ...) can then serve many concurrent requests without growing the servlet container
+     * thread pool. The requests are processed asynchronously, so async-timeout applies. The unit of work and the MDC
+     * logging context are propagated to the virtual thread. Requires Java 21, otherwise the requests are processed
+     * asynchronously on the servlet container threads.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * Whether to stream the request and response bodies, so large uploads and downloads do not have to fit in memory.
+     * The request body is then the raw servlet input stream (not decoded when gzipped), which is read when the route
+     * first accesses the body, and File, ByteBuffer and InputStream response bodies are written as is. Stream caching
+     * reads the request body when the exchange is routed, so it should be disabled, or spool to disk.
+     */
+    private boolean streaming;
+
+    /**
+     * The bulkhead of every consumer, which limits the number of requests it processes concurrently, so a slow route
+     * cannot hold all the threads of the servlet container. It can be overridden per consumer with bulkheads.
+     */
+    @NestedConfigurationProperty
+    private final Bulkhead bulkhead = new Bulkhead();
+
+    /**
+     * The bulkheads of the consumers by path, such as bulkheads[/orders].max-concurrent-requests=10, which override
+     * bulkhead.
+     */
+    private Map<String, Bulkhead> bulkheads = new HashMap<>();
+
+    /**
+     * The compression of the responses, negotiated with the Accept-Encoding header of the requests.
+     */
+    @NestedConfigurationProperty
+    private final Compression compression = new Compression();
+
+    /**
+     * The conditional GET requests of the consumers by path, such as
+     * conditional-requests[/orders/{id}].cache-key=${header.id}-${bean:orders?method=version(${header.id})}, which are
+     * answered with a 304 (Not Modified) response without routing the exchange when the resource is unchanged.
+     */
+    private Map<String, ConditionalRequests> conditionalRequests = new HashMap<>();
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public Map<String, Bulkhead> getBulkheads() {
+        return bulkheads;
+    }
+
+    public void setBulkheads(Map<String, Bulkhead> bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public Map<String, ConditionalRequests> getConditionalRequests() {
+        return conditionalRequests;
+    }
+
+    public void setConditionalRequests(Map<String, ConditionalRequests> conditionalRequests) {
+        this.conditionalRequests = conditionalRequests;
+    }
+
+    /**
+     * Gets the bulkhead of the consumer of the given path.
+     */
+    public Bulkhead getBulkhead(String path) {
+        return bulkheads.getOrDefault(path, bulkhead);
+    }
+
+    public static class Bulkhead {
+
+        /**
+         * Maximum number of requests processed concurrently by the consumer. The default value 0 does not limit them.
+         */
+        private int maxConcurrentRequests;
+
+        /**
+         * Maximum number of requests waiting for the completion of one of the requests being processed, beyond which
+         * the requests are rejected. The requests wait on the servlet container thread. The default value 0 rejects
+         * the requests at once.
+         */
+        private int maxQueuedRequests;
+
+        /**
+         * Maximum time in milliseconds a request waits for the completion of one of the requests being processed,
+         * before being rejected.
+         */
+        private long queueTimeout = 1000;
+
+        /**
+         * The status code of the rejected requests, such as 503 (Service Unavailable) or 429 (Too Many Requests).
+         */
+        private int rejectionStatusCode = 503;
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public int getMaxQueuedRequests() {
+            return maxQueuedRequests;
+        }
+
+        public void setMaxQueuedRequests(int maxQueuedRequests) {
+            this.maxQueuedRequests = maxQueuedRequests;
+        }
+
+        public long getQueueTimeout() {
+            return queueTimeout;
+        }
+
+        public void setQueueTimeout(long queueTimeout) {
+            this.queueTimeout = queueTimeout;
+        }
+
+        public int getRejectionStatusCode() {
+            return rejectionStatusCode;
+        }
+
+        public void setRejectionStatusCode(int rejectionStatusCode) {
+            this.rejectionStatusCode = rejectionStatusCode;
+        }
+    }
+
+    public static class Compression {
+
+        /**
+         * Whether to compress the responses with gzip or deflate, when accepted by the client. The responses are
+         * compressed while they are written, so they are not buffered, and streamed responses stay streamed.
+         */
+        private boolean enabled;
+
+        /**
+         * Minimum size in bytes of the responses to compress. When the size of a response is not known up front (such
+         * as a streamed response), up to this number of bytes is held back before writing it, and a response that
+         * completes within this size is written uncompressed.
+         */
+        private int minResponseSize = 2048;
+
+        /**
+         * The media types of the responses to compress, such as text/* or application/json.
+         */
+        private List<String> mimeTypes = new ArrayList<>(
+                List.of("text/html", "text/xml", "text/plain", "text/css", "text/javascript", "application/javascript",
+                        "application/json", "application/xml"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinResponseSize() {
+            return minResponseSize;
+        }
+
+        public void setMinResponseSize(int minResponseSize) {
+            this.minResponseSize = minResponseSize;
+        }
+
+        public List<String> getMimeTypes() {
+            return mimeTypes;
+        }
+
+        public void setMimeTypes(List<String> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+        }
+    }
+
+    public static class ConditionalRequests {
+
+        /**
+         * Simple expression evaluated on the request, which identifies the version of the requested resource. It is
+         * returned as the ETag of the response, and a GET request whose If-None-Match header matches it is answered
+         * with a 304 (Not Modified) response without routing the exchange.
+         */
+        private String cacheKey;
+
+        /**
+         * Simple expression evaluated on the request, which returns the last modification date of the requested
+         * resource (a Date, or the number of milliseconds since the epoch). It is returned as the Last-Modified header
+         * of the response, and a GET request whose If-Modified-Since header is not older is answered with a 304 (Not
+         * Modified) response without routing the exchange.
+         */
+        private String lastModified;
+
+        public String getCacheKey() {
+            return cacheKey;
+        }
+
+        public void setCacheKey(String cacheKey) {
+            this.cacheKey = cacheKey;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public void setLastModified(String lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.platform.http.PlatformHttpComponent;
+import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Hosts the platform-http consumers in Spring WebFlux, instead of Spring MVC, in reactive web applications.
+ * <p/>
+ * The starter depends on <tt>spring-boot-starter-web</tt>, so Spring Boot creates a servlet web application even when
+ * <tt>spring-boot-starter-webflux</tt> is added. A reactive application must therefore be enabled explicitly with
+ * <tt>spring.main.web-application-type=reactive</tt>, or <tt>spring-boot-starter-web</tt> must be excluded from the
+ * starter.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(name = "org.springframework.web.reactive.function.server.RouterFunction")
+@AutoConfigureAfter(name = {
+        "org.apache.camel.component.servlet.springboot.PlatformHttpComponentAutoConfiguration",
+        "org.apache.camel.component.servlet.springboot.PlatformHttpComponentConverter"})
+@AutoConfigureBefore(SpringBootPlatformHttpAutoConfiguration.class)
+public class SpringBootPlatformHttpReactiveAutoConfiguration {
+
+    @Bean(name = "platform-http-engine")
+    @ConditionalOnMissingBean(PlatformHttpEngine.class)
+    public PlatformHttpEngine springBootPlatformHttpReactiveEngine() {
+        return new SpringBootPlatformHttpReactiveEngine();
+    }
+
+    @Bean
+    @DependsOn("configurePlatformHttpComponent")
+    public CamelRouterFunction platformHttpEngineRouterFunction(CamelContext camelContext) {
+        PlatformHttpComponent component = camelContext.getComponent("platform-http", PlatformHttpComponent.class);
+        return new CamelRouterFunction(component);
+    }
+
+}
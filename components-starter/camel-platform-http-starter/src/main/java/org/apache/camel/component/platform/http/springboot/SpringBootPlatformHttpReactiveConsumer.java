@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.Suspendable;
+import org.apache.camel.SuspendableService;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.http.HttpUtil;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The consumer of the reactive engine, which routes the requests of Spring WebFlux.
+ * <p/>
+ * The request body is read (up to the <tt>spring.codec.max-in-memory-size</tt> limit) before the exchange is routed.
+ * The exchange is routed on the thread of the request, which is a Reactor Netty event loop thread, so blocking
+ * routes should continue on another thread (such as with the <tt>threads</tt> EIP). The response body is written as
+ * a stream of buffers when it is a reactive streams <tt>Publisher</tt> (such as a <tt>Flux</tt>), a <tt>File</tt>
+ * or an <tt>InputStream</tt>, so only the buffers requested by the client connection are read.
+ */
+public class SpringBootPlatformHttpReactiveConsumer extends DefaultConsumer implements Suspendable, SuspendableService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpReactiveConsumer.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    public SpringBootPlatformHttpReactiveConsumer(PlatformHttpEndpoint endpoint, Processor processor) {
+        super(endpoint, processor);
+    }
+
+    @Override
+    public PlatformHttpEndpoint getEndpoint() {
+        return (PlatformHttpEndpoint) super.getEndpoint();
+    }
+
+    /**
+     * This method is invoked by Spring WebFlux when invoking Camel via platform-http
+     */
+    public Mono<ServerResponse> handle(ServerRequest request) {
+        LOG.trace("Handle: {}", request);
+        if (isSuspended()) {
+            LOG.debug("Consumer suspended, cannot service request: {}", request);
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return request.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> process(request, body));
+    }
+
+    private Mono<ServerResponse> process(ServerRequest request, byte[] body) {
+        Exchange exchange = toExchange(request, body);
+        try {
+            createUoW(exchange);
+        } catch (Exception e) {
+            releaseExchange(exchange, false);
+            return Mono.error(e);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        Runnable onDone = () -> {
+            if (done.compareAndSet(false, true)) {
+                doneUoW(exchange);
+                releaseExchange(exchange, false);
+            }
+        };
+        return Mono.<Exchange> create(sink -> {
+            // set by whichever comes first, the end of the routing or the cancellation of the request
+            AtomicBoolean routedOrCancelled = new AtomicBoolean();
+            sink.onCancel(() -> {
+                if (!routedOrCancelled.compareAndSet(false, true)) {
+                    onDone.run();
+                }
+            });
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Processing request for exchangeId: {}", exchange.getExchangeId());
+            }
+            getAsyncProcessor().process(exchange, doneSync -> {
+                if (routedOrCancelled.compareAndSet(false, true)) {
+                    sink.success(exchange);
+                } else {
+                    LOG.debug("Request cancelled, cannot write response for exchangeId: {}", exchange.getExchangeId());
+                    onDone.run();
+                }
+            });
+        })
+                .flatMap(e -> toResponse(e, onDone))
+                .doOnError(e -> onDone.run());
+    }
+
+    private Exchange toExchange(ServerRequest request, byte[] body) {
+        Exchange exchange = createExchange(false);
+        exchange.setPattern(ExchangePattern.InOut);
+        MediaType contentType = request.headers().contentType().orElse(null);
+        if (contentType != null) {
+            HttpUtil.setCharsetFromContentType(contentType.toString(), exchange);
+        }
+
+        Message message = exchange.getIn();
+        Map<String, Object> headers = message.getHeaders();
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        request.headers().asHttpHeaders().forEach((name, values) -> {
+            String key = HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) ? Exchange.CONTENT_TYPE : name;
+            values.forEach(value -> putHeader(headers, strategy, exchange, key, value));
+        });
+        request.queryParams().forEach(
+                (name, values) -> values.forEach(value -> putHeader(headers, strategy, exchange, name, value)));
+        request.pathVariables().forEach((name, value) -> putHeader(headers, strategy, exchange, name, value));
+
+        String path = request.uri().getRawPath();
+        headers.put(Exchange.HTTP_METHOD, request.method().name());
+        headers.put(Exchange.HTTP_QUERY, request.uri().getRawQuery());
+        headers.put(Exchange.HTTP_URL, request.uri().toString());
+        headers.put(Exchange.HTTP_URI, path);
+        // set context path as header, and remove it from the path
+        String contextPath = getEndpoint().getPath();
+        headers.put(SpringBootPlatformHttpConstants.CONTEXT_PATH, contextPath);
+        if (contextPath != null && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        headers.put(Exchange.HTTP_PATH, path);
+
+        if (body.length > 0) {
+            message.setBody(body);
+        }
+        return exchange;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void putHeader(
+            Map<String, Object> headers, HeaderFilterStrategy strategy, Exchange exchange, String name, Object value) {
+        if (strategy != null && strategy.applyFilterToExternalHeaders(name, value, exchange)) {
+            return;
+        }
+        // multiple values are held in a list, as with the servlet engine
+        headers.merge(name, value, (previous, added) -> {
+            List<Object> list = previous instanceof List<?> l ? (List<Object>) l : new ArrayList<>(List.of(previous));
+            list.add(added);
+            return list;
+        });
+    }
+
+    private Mono<ServerResponse> toResponse(Exchange exchange, Runnable onDone) {
+        try {
+            if (exchange.getException() != null) {
+                Mono<ServerResponse> answer = toExceptionResponse(exchange.getException());
+                onDone.run();
+                return answer;
+            }
+
+            Message message = exchange.getMessage();
+            Object body = message.getBody();
+            ServerResponse.BodyBuilder builder
+                    = ServerResponse.status(HttpUtil.determineResponseCode(exchange, body));
+            String contentType = MessageHelper.getContentType(message);
+            if (contentType != null) {
+                builder.contentType(MediaType.parseMediaType(contentType));
+            }
+            TypeConverter tc = exchange.getContext().getTypeConverter();
+            HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+            for (Map.Entry<String, Object> entry : message.getHeaders().entrySet()) {
+                String key = entry.getKey();
+                if (Exchange.CONTENT_TYPE.equalsIgnoreCase(key) || Exchange.CONTENT_LENGTH.equalsIgnoreCase(key)) {
+                    continue;
+                }
+                Iterator<?> it = ObjectHelper.createIterator(entry.getValue(), null, true);
+                while (it.hasNext()) {
+                    String value = tc.tryConvertTo(String.class, exchange, it.next());
+                    if (value != null && (strategy == null || !strategy.applyFilterToCamelHeaders(key, value, exchange))) {
+                        builder.header(key, value);
+                    }
+                }
+            }
+
+            Flux<DataBuffer> stream = toDataBuffers(exchange, body);
+            if (stream != null) {
+                // the exchange is done once the body has been written
+                return builder.body(BodyInserters.fromDataBuffers(stream.doFinally(signal -> onDone.run())));
+            }
+            Mono<ServerResponse> answer;
+            if (body == null) {
+                answer = builder.build();
+            } else if (body instanceof ByteBuffer buffer) {
+                answer = builder.contentLength(buffer.remaining())
+                        .body(BodyInserters.fromDataBuffers(Mono.just(bufferFactory.wrap(buffer.duplicate()))));
+            } else {
+                byte[] data = tc.mandatoryConvertTo(byte[].class, exchange, body);
+                answer = builder.contentLength(data.length)
+                        .body(BodyInserters.fromDataBuffers(Mono.just(bufferFactory.wrap(data))));
+            }
+            onDone.run();
+            return answer;
+        } catch (Exception e) {
+            onDone.run();
+            return Mono.error(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<DataBuffer> toDataBuffers(Exchange exchange, Object body) {
+        if (body instanceof Publisher<?> publisher) {
+            TypeConverter tc = exchange.getContext().getTypeConverter();
+            // the elements are only requested as fast as the client reads them
+            return Flux.from((Publisher<Object>) publisher).map(element -> element instanceof DataBuffer buffer
+                    ? buffer : bufferFactory.wrap(tc.convertTo(byte[].class, exchange, element)));
+        } else if (body instanceof File file) {
+            return DataBufferUtils.read(file.toPath(), bufferFactory, BUFFER_SIZE);
+        } else if (body instanceof InputStream is) {
+            // reading the stream blocks
+            return DataBufferUtils.readInputStream(() -> is, bufferFactory, BUFFER_SIZE)
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+        return null;
+    }
+
+    private Mono<ServerResponse> toExceptionResponse(Exception exception) {
+        ServerResponse.BodyBuilder builder = ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR);
+        if (getEndpoint().isMuteException()) {
+            LOG.debug("Server internal error response returned due to '{}'", exception.getMessage(), exception);
+            return builder.build();
+        }
+        StringWriter sw = new StringWriter();
+        exception.printStackTrace(new PrintWriter(sw));
+        return builder.contentType(MediaType.TEXT_PLAIN).bodyValue(sw.toString());
+    }
+}
@@ -25,7 +25,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 abstract class PlatformHttpBase {
 
 	@Autowired
-	private TestRestTemplate restTemplate;
+	protected TestRestTemplate restTemplate;
 
 	@Test
 	public void testGet() {
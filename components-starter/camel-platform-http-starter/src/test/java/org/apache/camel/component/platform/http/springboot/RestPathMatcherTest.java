@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.http.base.HttpHelper;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RestPathMatcherTest {
+
+	@Test
+	public void testNoPlaceholders() {
+		Assertions.assertThat(RestPathMatcher.compile("/users")).isNull();
+		Assertions.assertThat(RestPathMatcher.compile("/users/{")).isNull();
+	}
+
+	@Test
+	public void testSameAsHttpHelper() {
+		assertMatch("/users/{id}", "/users/123");
+		assertMatch("users/{id}", "/users/123");
+		assertMatch("/users/{id}/orders/{order}", "/users/123/orders/456");
+		assertMatch("/{a}/{b}", "/x/y");
+		assertMatch("/users/{id}/orders", "/users/123/orders");
+		assertMatch("/a/{b}/c", "/a//c");
+	}
+
+	@Test
+	public void testMissingSegments() {
+		// HttpHelper fails on these paths
+		Map<String, Object> headers = new HashMap<>();
+		RestPathMatcher.compile("/users/{id}/orders/{order}").match("/users/", headers);
+		Assertions.assertThat(headers).isEmpty();
+		RestPathMatcher.compile("/users/{id}/orders/{order}").match("/users/123", headers);
+		Assertions.assertThat(headers).containsOnly(Map.entry("id", "123"));
+	}
+
+	private static void assertMatch(String consumerPath, String path) {
+		Map<String, Object> expected = new HashMap<>();
+		HttpHelper.evalPlaceholders(expected, path.substring(1), consumerPath.startsWith("/") ? consumerPath.substring(1) : consumerPath);
+		Map<String, Object> actual = new HashMap<>();
+		RestPathMatcher.compile(consumerPath).match(path, actual);
+		Assertions.assertThat(actual).isEqualTo(expected);
+	}
+}
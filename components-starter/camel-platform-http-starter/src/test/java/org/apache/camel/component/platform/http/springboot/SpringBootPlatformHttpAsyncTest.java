@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpAsyncTest.class,
+				SpringBootPlatformHttpAsyncTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.component.platform-http.async=true",
+				"camel.component.platform-http.async-timeout=1000"
+		}
+)
+public class SpringBootPlatformHttpAsyncTest {
+
+	private static final AtomicBoolean SLOW_ROUTED = new AtomicBoolean();
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private CamelRequestHandlerMapping handlerMapping;
+
+	@Test
+	public void testGet() {
+		Assertions.assertThat(
+						restTemplate.getForEntity("/async/get", String.class).getBody())
+				.isEqualTo("get");
+	}
+
+	@Test
+	public void testPost() {
+		Assertions.assertThat(
+						restTemplate.postForEntity("/async/post", "test", String.class).getBody())
+				.isEqualTo("TEST");
+	}
+
+	@Test
+	public void testError() {
+		Assertions.assertThat(
+						restTemplate.getForEntity("/async/error", String.class).getStatusCodeValue())
+				.isEqualTo(500);
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		Assertions.assertThat(
+						restTemplate.getForEntity("/async/slow", String.class).getStatusCodeValue())
+				.isEqualTo(503);
+
+		// the routing of the exchange is stopped once the request has timed out
+		Thread.sleep(2500);
+		Assertions.assertThat(SLOW_ROUTED).isFalse();
+	}
+
+	@Test
+	public void testAsyncConsumer() {
+		Assertions.assertThat(handlerMapping.getHandlerMethods().values())
+				.isNotEmpty()
+				.allSatisfy(handler -> Assertions.assertThat(handler.getMethod().getName()).isEqualTo("serviceAsync"));
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpAsyncRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/async/get").routeId("asyncGet")
+							.setBody().constant("get");
+					// continue routing on another thread than the servlet container thread
+					from("platform-http:/async/post")
+							.threads(1)
+							.transform().body(String.class, b -> b.toUpperCase());
+					from("platform-http:/async/error")
+							.threads(1)
+							.throwException(new IllegalStateException("Forced"));
+					from("platform-http:/async/slow")
+							.delay(3000)
+							.process(e -> SLOW_ROUTED.set(true))
+							.setBody().constant("slow");
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpBulkheadTest.class,
+				SpringBootPlatformHttpBulkheadTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.component.platform-http.bulkheads[/bulkhead/rejected].max-concurrent-requests=1",
+				"camel.component.platform-http.bulkheads[/bulkhead/rejected].rejection-status-code=429",
+				"camel.component.platform-http.bulkheads[/bulkhead/queued].max-concurrent-requests=1",
+				"camel.component.platform-http.bulkheads[/bulkhead/queued].max-queued-requests=1",
+				"camel.component.platform-http.bulkheads[/bulkhead/queued].queue-timeout=10000",
+				"camel.component.platform-http.bulkheads[/bulkhead/swap].max-concurrent-requests=1"
+		}
+)
+public class SpringBootPlatformHttpBulkheadTest {
+
+	private static final CountDownLatch REJECTED_LATCH = new CountDownLatch(1);
+	private static final CountDownLatch QUEUED_LATCH = new CountDownLatch(1);
+	private static final CountDownLatch SWAP_LATCH = new CountDownLatch(1);
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private CamelContext camelContext;
+
+	@Test
+	public void testRejected() throws Exception {
+		CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/bulkhead/rejected", String.class));
+		awaitGauge("camel.platform.http.bulkhead.inflight", "/bulkhead/rejected", 1);
+
+		Assertions.assertThat(
+						restTemplate.getForEntity("/bulkhead/rejected", String.class).getStatusCodeValue())
+				.isEqualTo(429);
+		Assertions.assertThat(
+						meterRegistry.get("camel.platform.http.bulkhead.rejected").tag("path", "/bulkhead/rejected")
+								.functionCounter().count())
+				.isEqualTo(1);
+
+		REJECTED_LATCH.countDown();
+		Assertions.assertThat(first.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("rejected");
+		awaitGauge("camel.platform.http.bulkhead.inflight", "/bulkhead/rejected", 0);
+	}
+
+	@Test
+	public void testQueued() throws Exception {
+		CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/bulkhead/queued", String.class));
+		awaitGauge("camel.platform.http.bulkhead.inflight", "/bulkhead/queued", 1);
+		CompletableFuture<ResponseEntity<String>> second = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/bulkhead/queued", String.class));
+		awaitGauge("camel.platform.http.bulkhead.queued", "/bulkhead/queued", 1);
+
+		// the queue is full
+		Assertions.assertThat(
+						restTemplate.getForEntity("/bulkhead/queued", String.class).getStatusCodeValue())
+				.isEqualTo(503);
+
+		QUEUED_LATCH.countDown();
+		Assertions.assertThat(first.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("queued");
+		Assertions.assertThat(second.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("queued");
+	}
+
+	@Test
+	public void testReplacedConsumer() throws Exception {
+		camelContext.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				// another endpoint uri, as the endpoint can only have one consumer
+				from("platform-http:/bulkhead/swap?matchOnUriPrefix=false").routeId("bulkheadSwapReplacement")
+						.process(e -> SWAP_LATCH.await(10, TimeUnit.SECONDS))
+						.setBody().constant("replacement");
+			}
+		});
+		camelContext.getRouteController().stopRoute("bulkheadSwap");
+		camelContext.removeRoute("bulkheadSwap");
+
+		// the meters are kept, and bound to the bulkhead of the replacement consumer
+		CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/bulkhead/swap", String.class));
+		awaitGauge("camel.platform.http.bulkhead.inflight", "/bulkhead/swap", 1);
+
+		SWAP_LATCH.countDown();
+		Assertions.assertThat(first.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("replacement");
+		awaitGauge("camel.platform.http.bulkhead.inflight", "/bulkhead/swap", 0);
+	}
+
+	private void awaitGauge(String name, String path, int expected) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			if (meterRegistry.get(name).tag("path", path).gauge().value() == expected) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		Assertions.fail("Gauge " + name + " of " + path + " is not " + expected);
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public MeterRegistry springBootPlatformHttpBulkheadMeterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpBulkheadRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/bulkhead/rejected")
+							.process(e -> REJECTED_LATCH.await(10, TimeUnit.SECONDS))
+							.setBody().constant("rejected");
+					from("platform-http:/bulkhead/queued")
+							.process(e -> QUEUED_LATCH.await(10, TimeUnit.SECONDS))
+							.setBody().constant("queued");
+					from("platform-http:/bulkhead/swap").routeId("bulkheadSwap")
+							.setBody().constant("swap");
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpCompressionTest.class,
+				SpringBootPlatformHttpCompressionTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.component.platform-http.compression.enabled=true"
+		}
+)
+public class SpringBootPlatformHttpCompressionTest {
+
+	private static final String LARGE_BODY = "compressed ".repeat(1000).trim();
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	public void testGzip() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/large", "deflate;q=0.5, gzip");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		Assertions.assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+		Assertions.assertThat(response.body().length).isLessThan(LARGE_BODY.length());
+		Assertions.assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.body()))))
+				.isEqualTo(LARGE_BODY);
+	}
+
+	@Test
+	public void testDeflate() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/large", "deflate, gzip;q=0.5");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("deflate");
+		Assertions.assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(response.body()))))
+				.isEqualTo(LARGE_BODY);
+	}
+
+	@Test
+	public void testNotAccepted() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/large", "br");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+		Assertions.assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+		Assertions.assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+	}
+
+	@Test
+	public void testWildcard() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/large", "*");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+	}
+
+	@Test
+	public void testRefusedOverWildcard() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/large", "gzip;q=0, *");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("deflate");
+
+		response = get("/compression/large", "*, gzip;q=0, deflate;q=0");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+		Assertions.assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+	}
+
+	@Test
+	public void testSmallResponse() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/small", "gzip");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+		Assertions.assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo("small");
+	}
+
+	@Test
+	public void testNotCompressibleResponse() throws Exception {
+		HttpResponse<byte[]> response = get("/compression/binary", "gzip");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+		Assertions.assertThat(response.body()).hasSize(4096);
+	}
+
+	private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Accept-Encoding", acceptEncoding)
+				.build();
+		HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		Assertions.assertThat(response.statusCode()).isEqualTo(200);
+		return response;
+	}
+
+	private static String decode(InputStream is) throws Exception {
+		try (is) {
+			return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpCompressionRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/compression/large")
+							.setHeader("Content-Type").constant("text/plain")
+							.setBody().constant(LARGE_BODY);
+					from("platform-http:/compression/small")
+							.setHeader("Content-Type").constant("text/plain")
+							.setBody().constant("small");
+					from("platform-http:/compression/binary")
+							.setHeader("Content-Type").constant("application/octet-stream")
+							.setBody().constant(new byte[4096]);
+				}
+			};
+		}
+	}
+}
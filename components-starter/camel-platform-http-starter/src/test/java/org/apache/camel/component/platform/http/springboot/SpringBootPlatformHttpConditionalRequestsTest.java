@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpConditionalRequestsTest.class,
+				SpringBootPlatformHttpConditionalRequestsTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.component.platform-http.conditional-requests[/conditional/items/{id}].cache-key=item-${header.id}",
+				"camel.component.platform-http.conditional-requests[/conditional/dated].last-modified=1700000000000"
+		}
+)
+public class SpringBootPlatformHttpConditionalRequestsTest {
+
+	private static final AtomicInteger ITEMS = new AtomicInteger();
+	private static final AtomicInteger DATED = new AtomicInteger();
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	public void testETag() {
+		ResponseEntity<String> response = get("/conditional/items/1", new HttpHeaders());
+		Assertions.assertThat(response.getStatusCodeValue()).isEqualTo(200);
+		Assertions.assertThat(response.getBody()).isEqualTo("item 1");
+		Assertions.assertThat(response.getHeaders().getETag()).isEqualTo("\"item-1\"");
+		Assertions.assertThat(ITEMS.get()).isEqualTo(1);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("W/\"item-1\"");
+		response = get("/conditional/items/1", headers);
+		Assertions.assertThat(response.getStatusCodeValue()).isEqualTo(304);
+		Assertions.assertThat(response.getHeaders().getETag()).isEqualTo("\"item-1\"");
+		// the route is not executed
+		Assertions.assertThat(ITEMS.get()).isEqualTo(1);
+
+		response = get("/conditional/items/2", headers);
+		Assertions.assertThat(response.getStatusCodeValue()).isEqualTo(200);
+		Assertions.assertThat(response.getHeaders().getETag()).isEqualTo("\"item-2\"");
+		Assertions.assertThat(ITEMS.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void testLastModified() {
+		ResponseEntity<String> response = get("/conditional/dated", new HttpHeaders());
+		Assertions.assertThat(response.getStatusCodeValue()).isEqualTo(200);
+		Assertions.assertThat(response.getHeaders().getLastModified()).isEqualTo(1700000000000L);
+		Assertions.assertThat(DATED.get()).isEqualTo(1);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfModifiedSince(1700000000000L);
+		response = get("/conditional/dated", headers);
+		Assertions.assertThat(response.getStatusCodeValue()).isEqualTo(304);
+		Assertions.assertThat(DATED.get()).isEqualTo(1);
+
+		headers.setIfModifiedSince(1600000000000L);
+		response = get("/conditional/dated", headers);
+		Assertions.assertThat(response.getStatusCodeValue()).isEqualTo(200);
+		Assertions.assertThat(DATED.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void testETagFormat() {
+		Assertions.assertThat(PlatformHttpConditionalRequests.toETag("v1")).isEqualTo("\"v1\"");
+		Assertions.assertThat(PlatformHttpConditionalRequests.toETag("W/\"v1\"")).isEqualTo("W/\"v1\"");
+		Assertions.assertThat(PlatformHttpConditionalRequests.toETag("v 1")).matches("\"[0-9a-f]{32}\"");
+		Assertions.assertThat(PlatformHttpConditionalRequests.matches("\"v0\", W/\"v1\"", "\"v1\"")).isTrue();
+		Assertions.assertThat(PlatformHttpConditionalRequests.matches("*", "\"v1\"")).isTrue();
+		Assertions.assertThat(PlatformHttpConditionalRequests.matches("\"v0\"", "\"v1\"")).isFalse();
+	}
+
+	private ResponseEntity<String> get(String path, HttpHeaders headers) {
+		return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpConditionalRequestsRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/conditional/items/{id}")
+							.process(e -> ITEMS.incrementAndGet())
+							.setBody().simple("item ${header.id}");
+					from("platform-http:/conditional/dated")
+							.process(e -> DATED.incrementAndGet())
+							.setBody().constant("dated");
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpPooledTest.class,
+				SpringBootPlatformHttpPooledTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.springboot.exchange-factory=pooled"
+		}
+)
+public class SpringBootPlatformHttpPooledTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private CamelRequestHandlerMapping handlerMapping;
+
+	@Test
+	public void testPooledMessages() {
+		for (int i = 0; i < 10; i++) {
+			// the headers of the previous request must not leak into the reused message
+			Assertions.assertThat(
+							restTemplate.postForEntity("/pooled/post?i=" + i, "test" + i, String.class).getBody())
+					.isEqualTo("TEST" + i + "-" + i);
+		}
+
+		SpringBootPlatformHttpConsumer consumer = handlerMapping.getHandlerMethods().values().stream()
+				.map(handler -> (SpringBootPlatformHttpConsumer) handler.getBean())
+				.filter(c -> "/pooled/post".equals(c.getEndpoint().getPath()))
+				.findFirst().orElseThrow();
+		Assertions.assertThat(consumer.getMessagesCreated()).isGreaterThanOrEqualTo(1);
+		Assertions.assertThat(consumer.getMessagesReused()).isGreaterThanOrEqualTo(1);
+		Assertions.assertThat(consumer.getMessagesCreated() + consumer.getMessagesReused()).isEqualTo(10);
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpPooledRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/pooled/post")
+							.transform().simple("${bodyAs(String).toUpperCase()}-${header.i}");
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpReactiveTest.class,
+				SpringBootPlatformHttpReactiveTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpReactiveAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"spring.main.web-application-type=reactive"
+		}
+)
+public class SpringBootPlatformHttpReactiveTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private CamelRouterFunction routerFunction;
+
+	@Autowired
+	private PlatformHttpEngine engine;
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Test
+	public void testGet() {
+		webTestClient.get().uri("/reactive/get?name=camel").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("get camel");
+	}
+
+	@Test
+	public void testPost() {
+		webTestClient.post().uri("/reactive/post").bodyValue("test").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("TEST");
+	}
+
+	@Test
+	public void testMethodNotAllowed() {
+		webTestClient.get().uri("/reactive/post").exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	public void testPathParameters() {
+		webTestClient.get().uri("/reactive/items/123").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("item 123");
+	}
+
+	@Test
+	public void testFlux() {
+		webTestClient.get().uri("/reactive/flux").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("abc");
+	}
+
+	@Test
+	public void testError() {
+		webTestClient.get().uri("/reactive/error").exchange()
+				.expectStatus().isEqualTo(500);
+	}
+
+	@Test
+	public void testMostSpecificPath() {
+		webTestClient.get().uri("/reactive/items/special").exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("special");
+	}
+
+	@Test
+	public void testRouterFunction() {
+		Assertions.assertThat(routerFunction.getPaths()).contains("/reactive/get", "/reactive/items/{id}");
+	}
+
+	@Test
+	public void testServletEngineBacksOff() {
+		// spring-boot-starter-web is on the classpath, the reactive application is enabled by the property
+		Assertions.assertThat(engine).isInstanceOf(SpringBootPlatformHttpReactiveEngine.class);
+		Assertions.assertThat(applicationContext.getBeansOfType(CamelRequestHandlerMapping.class)).isEmpty();
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpReactiveRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/reactive/get")
+							.setBody().simple("get ${header.name}");
+					from("platform-http:/reactive/post?httpMethodRestrict=POST")
+							.transform().body(String.class, b -> b.toUpperCase());
+					from("platform-http:/reactive/items/{id}")
+							.setBody().simple("item ${header.id}");
+					// registered after the less specific path above
+					from("platform-http:/reactive/items/special")
+							.setBody().constant("special");
+					from("platform-http:/reactive/flux")
+							.process(e -> e.getMessage().setBody(Flux.just("a", "b", "c")));
+					from("platform-http:/reactive/error")
+							.throwException(new IllegalStateException("Forced"));
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootApplication
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpReloadTest.class,
+				SpringBootPlatformHttpReloadTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		}
+)
+public class SpringBootPlatformHttpReloadTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private CamelContext camelContext;
+
+	@Autowired
+	private CamelRequestHandlerMapping handlerMapping;
+
+	@Test
+	public void testStopAndStartRoute() throws Exception {
+		Assertions.assertThat(restTemplate.getForEntity("/reload/get", String.class).getBody()).isEqualTo("get");
+
+		camelContext.getRouteController().stopRoute("reloadGet");
+		Assertions.assertThat(restTemplate.getForEntity("/reload/get", String.class).getStatusCodeValue()).isEqualTo(404);
+		Assertions.assertThat(handlerMapping.getHandlerMethods().keySet())
+				.noneSatisfy(info -> Assertions.assertThat(info.getDirectPaths()).contains("/reload/get"));
+
+		camelContext.getRouteController().startRoute("reloadGet");
+		Assertions.assertThat(restTemplate.getForEntity("/reload/get", String.class).getBody()).isEqualTo("get");
+		Assertions.assertThat(handlerMapping.getHandlerMethods().keySet())
+				.filteredOn(info -> info.getDirectPaths().contains("/reload/get"))
+				.hasSize(1);
+	}
+
+	@Test
+	public void testStopRouteOnSamePath() throws Exception {
+		camelContext.getRouteController().stopRoute("reloadVerbsGet");
+
+		Assertions.assertThat(restTemplate.getForEntity("/reload/verbs", String.class).getStatusCodeValue()).isEqualTo(405);
+		Assertions.assertThat(restTemplate.postForEntity("/reload/verbs", "test", String.class).getBody()).isEqualTo("post");
+	}
+
+	@Test
+	public void testReplaceRoute() throws Exception {
+		camelContext.getRouteController().stopRoute("reloadGet");
+		camelContext.removeRoute("reloadGet");
+		camelContext.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				from("platform-http:/reload/get").routeId("reloadGet")
+						.setBody().constant("reloaded");
+			}
+		});
+
+		Assertions.assertThat(restTemplate.getForEntity("/reload/get", String.class).getBody()).isEqualTo("reloaded");
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpReloadRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/reload/get").routeId("reloadGet")
+							.setBody().constant("get");
+					from("platform-http:/reload/verbs?httpMethodRestrict=GET").routeId("reloadVerbsGet")
+							.setBody().constant("get");
+					from("platform-http:/reload/verbs?httpMethodRestrict=POST").routeId("reloadVerbsPost")
+							.setBody().constant("post");
+				}
+			};
+		}
+	}
+}
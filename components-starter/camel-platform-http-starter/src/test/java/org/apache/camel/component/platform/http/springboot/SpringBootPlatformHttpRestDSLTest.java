@@ -20,6 +20,8 @@ import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
 
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +43,13 @@ import org.springframework.test.annotation.DirtiesContext;
 )
 public class SpringBootPlatformHttpRestDSLTest extends PlatformHttpBase {
 
+	@Test
+	public void testPathParameters() {
+		Assertions.assertThat(
+						restTemplate.getForEntity("/myitems/123/parts/abc", String.class).getBody())
+				.isEqualTo("item 123 part abc");
+	}
+
 	// *************************************
 	// Config
 	// *************************************
@@ -54,7 +63,10 @@ public class SpringBootPlatformHttpRestDSLTest extends PlatformHttpBase {
 				public void configure() throws Exception {
 					rest()
 							.get("myget").to("direct:get")
-							.post("mypost").to("direct:post");
+							.post("mypost").to("direct:post")
+							.get("myitems/{id}/parts/{part}").to("direct:item");
+
+					from("direct:item").setBody().simple("item ${header.id} part ${header.part}");
 
 					from("direct:post").transform().body(String.class, b -> b.toUpperCase());
 					from("direct:get").setBody().constant("get");
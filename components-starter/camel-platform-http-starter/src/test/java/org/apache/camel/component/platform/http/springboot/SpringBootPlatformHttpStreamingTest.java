@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import jakarta.servlet.ServletInputStream;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpStreamingTest.class,
+				SpringBootPlatformHttpStreamingTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.component.platform-http.streaming=true",
+				"camel.springboot.stream-caching-enabled=false"
+		}
+)
+public class SpringBootPlatformHttpStreamingTest {
+
+	private static final byte[] DATA = new byte[1024 * 1024];
+	private static final File FILE = new File("target/platform-http-streaming.bin");
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@BeforeAll
+	public static void createFile() throws Exception {
+		Arrays.fill(DATA, (byte) 'x');
+		Files.write(FILE.toPath(), DATA);
+	}
+
+	@Test
+	public void testUpload() {
+		Assertions.assertThat(
+						restTemplate.postForEntity("/streaming/upload", DATA, String.class).getBody())
+				.isEqualTo("ServletInputStream:" + DATA.length);
+	}
+
+	@Test
+	public void testFile() {
+		ResponseEntity<byte[]> response = restTemplate.getForEntity("/streaming/file", byte[].class);
+		Assertions.assertThat(response.getHeaders().getContentLength()).isEqualTo(DATA.length);
+		Assertions.assertThat(response.getBody()).isEqualTo(DATA);
+	}
+
+	@Test
+	public void testByteBuffer() {
+		ResponseEntity<String> response = restTemplate.getForEntity("/streaming/buffer", String.class);
+		Assertions.assertThat(response.getHeaders().getContentLength()).isEqualTo(6);
+		Assertions.assertThat(response.getBody()).isEqualTo("buffer");
+	}
+
+	@Test
+	public void testInputStream() {
+		Assertions.assertThat(
+						restTemplate.getForEntity("/streaming/stream", String.class).getBody())
+				.isEqualTo("stream");
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpStreamingRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/streaming/upload")
+							.process(e -> {
+								Object body = e.getMessage().getBody();
+								long length = ((InputStream) body).transferTo(OutputStream.nullOutputStream());
+								String type = body instanceof ServletInputStream ? "ServletInputStream" : body.getClass().getName();
+								e.getMessage().setBody(type + ":" + length);
+							});
+					from("platform-http:/streaming/file")
+							.process(e -> e.getMessage().setBody(FILE));
+					from("platform-http:/streaming/buffer")
+							.process(e -> {
+								ByteBuffer buffer = ByteBuffer.allocateDirect(6);
+								buffer.put("buffer".getBytes(StandardCharsets.UTF_8)).flip();
+								e.getMessage().setBody(buffer);
+							});
+					from("platform-http:/streaming/stream")
+							.process(e -> e.getMessage().setBody(
+									new ByteArrayInputStream("stream".getBytes(StandardCharsets.UTF_8))));
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpVirtualThreadsTest.class,
+				SpringBootPlatformHttpVirtualThreadsTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.component.platform-http.virtual-threads=true",
+				"camel.springboot.use-mdc-logging=true"
+		}
+)
+public class SpringBootPlatformHttpVirtualThreadsTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	public void testGet() {
+		String body = restTemplate.getForEntity("/virtual/get", String.class).getBody();
+		Assertions.assertThat(body).startsWith("mdc=true");
+		if (Runtime.version().feature() >= 21) {
+			Assertions.assertThat(body).endsWith("virtual=true");
+		}
+	}
+
+	@Test
+	public void testPost() {
+		Assertions.assertThat(
+						restTemplate.postForEntity("/virtual/post", "test", String.class).getBody())
+				.isEqualTo("TEST");
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpVirtualThreadsRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/virtual/get")
+							.process(exchange -> exchange.getMessage().setBody(
+									"mdc=" + exchange.getExchangeId().equals(MDC.get("camel.exchangeId"))
+									+ ",virtual=" + Thread.currentThread().toString().startsWith("VirtualThread")));
+					from("platform-http:/virtual/post")
+							.transform().body(String.class, b -> b.toUpperCase());
+				}
+			};
+		}
+	}
+}
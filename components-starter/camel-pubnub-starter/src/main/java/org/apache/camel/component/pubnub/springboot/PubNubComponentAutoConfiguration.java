@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,25 @@ public class PubNubComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(PubNubComponent.class)
     public ComponentCustomizer configurePubNubComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("uuid", configuration.getUuid())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("withPresence", configuration.getWithPresence())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("operation", configuration.getOperation())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("authKey", configuration.getAuthKey())
+                        .bind("cipherKey", configuration.getCipherKey())
+                        .bind("publishKey", configuration.getPublishKey())
+                        .bind("secretKey", configuration.getSecretKey())
+                        .bind("secure", configuration.getSecure())
+                        .bind("subscribeKey", configuration.getSubscribeKey());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,60 @@ public class PulsarComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(PulsarComponent.class)
     public ComponentCustomizer configurePulsarComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("authenticationClass", configuration.getAuthenticationClass())
+                        .bind("authenticationParams", configuration.getAuthenticationParams())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("serviceUrl", configuration.getServiceUrl())
+                        .bind("ackGroupTimeMillis", configuration.getAckGroupTimeMillis())
+                        .bind("ackTimeoutMillis", configuration.getAckTimeoutMillis())
+                        .bind("ackTimeoutRedeliveryBackoff", configuration.getAckTimeoutRedeliveryBackoff())
+                        .bind("allowManualAcknowledgement", configuration.getAllowManualAcknowledgement())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("consumerName", configuration.getConsumerName())
+                        .bind("consumerNamePrefix", configuration.getConsumerNamePrefix())
+                        .bind("consumerQueueSize", configuration.getConsumerQueueSize())
+                        .bind("deadLetterTopic", configuration.getDeadLetterTopic())
+                        .bind("enableRetry", configuration.getEnableRetry())
+                        .bind("keySharedPolicy", configuration.getKeySharedPolicy())
+                        .bind("maxRedeliverCount", configuration.getMaxRedeliverCount())
+                        .bind("messageListener", configuration.getMessageListener())
+                        .bind("negativeAckRedeliveryBackoff", configuration.getNegativeAckRedeliveryBackoff())
+                        .bind("negativeAckRedeliveryDelayMicros", configuration.getNegativeAckRedeliveryDelayMicros())
+                        .bind("numberOfConsumers", configuration.getNumberOfConsumers())
+                        .bind("numberOfConsumerThreads", configuration.getNumberOfConsumerThreads())
+                        .bind("readCompacted", configuration.getReadCompacted())
+                        .bind("retryLetterTopic", configuration.getRetryLetterTopic())
+                        .bind("subscriptionInitialPosition", configuration.getSubscriptionInitialPosition())
+                        .bind("subscriptionName", configuration.getSubscriptionName())
+                        .bind("subscriptionTopicsMode", configuration.getSubscriptionTopicsMode())
+                        .bind("subscriptionType", configuration.getSubscriptionType())
+                        .bind("topicsPattern", configuration.getTopicsPattern())
+                        .bind("pulsarMessageReceiptFactory", configuration.getPulsarMessageReceiptFactory())
+                        .bind("batcherBuilder", configuration.getBatcherBuilder())
+                        .bind("batchingEnabled", configuration.getBatchingEnabled())
+                        .bind("batchingMaxMessages", configuration.getBatchingMaxMessages())
+                        .bind("batchingMaxPublishDelayMicros", configuration.getBatchingMaxPublishDelayMicros())
+                        .bind("blockIfQueueFull", configuration.getBlockIfQueueFull())
+                        .bind("chunkingEnabled", configuration.getChunkingEnabled())
+                        .bind("compressionType", configuration.getCompressionType())
+                        .bind("hashingScheme", configuration.getHashingScheme())
+                        .bind("initialSequenceId", configuration.getInitialSequenceId())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("maxPendingMessages", configuration.getMaxPendingMessages())
+                        .bind("maxPendingMessagesAcrossPartitions", configuration.getMaxPendingMessagesAcrossPartitions())
+                        .bind("messageRouter", configuration.getMessageRouter())
+                        .bind("messageRoutingMode", configuration.getMessageRoutingMode())
+                        .bind("producerName", configuration.getProducerName())
+                        .bind("sendTimeoutMs", configuration.getSendTimeoutMs())
+                        .bind("autoConfiguration", configuration.getAutoConfiguration())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("pulsarClient", configuration.getPulsarClient());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,20 @@ public class QdrantComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(QdrantComponent.class)
     public ComponentCustomizer configureQdrantComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("apiKey", configuration.getApiKey())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("host", configuration.getHost())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("port", configuration.getPort())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("tls", configuration.getTls())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
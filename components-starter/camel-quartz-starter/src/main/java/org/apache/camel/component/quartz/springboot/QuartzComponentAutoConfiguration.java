@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,24 @@ public class QuartzComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(QuartzComponent.class)
     public ComponentCustomizer configureQuartzComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("enableJmx", configuration.getEnableJmx())
+                        .bind("prefixInstanceName", configuration.getPrefixInstanceName())
+                        .bind("prefixJobNameWithEndpointId", configuration.getPrefixJobNameWithEndpointId())
+                        .bind("properties", configuration.getProperties())
+                        .bind("propertiesFile", configuration.getPropertiesFile())
+                        .bind("propertiesRef", configuration.getPropertiesRef())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("scheduler", configuration.getScheduler())
+                        .bind("schedulerFactory", configuration.getSchedulerFactory())
+                        .bind("autoStartScheduler", configuration.getAutoStartScheduler())
+                        .bind("interruptJobsOnShutdown", configuration.getInterruptJobsOnShutdown());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
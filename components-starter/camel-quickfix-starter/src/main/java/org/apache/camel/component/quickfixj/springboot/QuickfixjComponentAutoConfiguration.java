@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,20 @@ public class QuickfixjComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(QuickfixjComponent.class)
     public ComponentCustomizer configureQuickfixjComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("eagerStopEngines", configuration.getEagerStopEngines())
+                        .bind("lazyCreateEngines", configuration.getLazyCreateEngines())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("logFactory", configuration.getLogFactory())
+                        .bind("messageFactory", configuration.getMessageFactory())
+                        .bind("messageStoreFactory", configuration.getMessageStoreFactory());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,21 @@ public class ReactiveStreamsComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ReactiveStreamsComponent.class)
     public ComponentCustomizer configureReactiveStreamsComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("threadPoolMaxSize", configuration.getThreadPoolMaxSize())
+                        .bind("threadPoolMinSize", configuration.getThreadPoolMinSize())
+                        .bind("threadPoolName", configuration.getThreadPoolName())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("backpressureStrategy", configuration.getBackpressureStrategy())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("reactiveStreamsEngineConfiguration", configuration.getReactiveStreamsEngineConfiguration())
+                        .bind("serviceType", configuration.getServiceType());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,24 @@ public class RestOpenApiComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(RestOpenApiComponent.class)
     public ComponentCustomizer configureRestOpenApiComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("basePath", configuration.getBasePath())
+                        .bind("componentName", configuration.getComponentName())
+                        .bind("consumes", configuration.getConsumes())
+                        .bind("host", configuration.getHost())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("produces", configuration.getProduces())
+                        .bind("requestValidationCustomizer", configuration.getRequestValidationCustomizer())
+                        .bind("requestValidationEnabled", configuration.getRequestValidationEnabled())
+                        .bind("specificationUri", configuration.getSpecificationUri())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,63 @@ public class RobotFrameworkComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(RobotFrameworkComponent.class)
     public ComponentCustomizer configureRobotFrameworkComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("allowContextMapAll", configuration.getAllowContextMapAll())
+                        .bind("allowTemplateFromHeader", configuration.getAllowTemplateFromHeader())
+                        .bind("argumentFiles", configuration.getArgumentFiles())
+                        .bind("combinedTagStats", configuration.getCombinedTagStats())
+                        .bind("criticalTags", configuration.getCriticalTags())
+                        .bind("debugFile", configuration.getDebugFile())
+                        .bind("document", configuration.getDocument())
+                        .bind("dryrun", configuration.getDryrun())
+                        .bind("excludes", configuration.getExcludes())
+                        .bind("exitOnFailure", configuration.getExitOnFailure())
+                        .bind("includes", configuration.getIncludes())
+                        .bind("listener", configuration.getListener())
+                        .bind("listeners", configuration.getListeners())
+                        .bind("log", configuration.getLog())
+                        .bind("logLevel", configuration.getLogLevel())
+                        .bind("logTitle", configuration.getLogTitle())
+                        .bind("metadata", configuration.getMetadata())
+                        .bind("monitorColors", configuration.getMonitorColors())
+                        .bind("monitorWidth", configuration.getMonitorWidth())
+                        .bind("name", configuration.getName())
+                        .bind("nonCriticalTags", configuration.getNonCriticalTags())
+                        .bind("noStatusReturnCode", configuration.getNoStatusReturnCode())
+                        .bind("output", configuration.getOutput())
+                        .bind("outputDirectory", configuration.getOutputDirectory())
+                        .bind("randomize", configuration.getRandomize())
+                        .bind("report", configuration.getReport())
+                        .bind("reportBackground", configuration.getReportBackground())
+                        .bind("reportTitle", configuration.getReportTitle())
+                        .bind("runEmptySuite", configuration.getRunEmptySuite())
+                        .bind("runFailed", configuration.getRunFailed())
+                        .bind("runMode", configuration.getRunMode())
+                        .bind("skipTeardownOnExit", configuration.getSkipTeardownOnExit())
+                        .bind("splitOutputs", configuration.getSplitOutputs())
+                        .bind("suites", configuration.getSuites())
+                        .bind("suiteStatLevel", configuration.getSuiteStatLevel())
+                        .bind("summaryTitle", configuration.getSummaryTitle())
+                        .bind("tagDocs", configuration.getTagDocs())
+                        .bind("tags", configuration.getTags())
+                        .bind("tagStatExcludes", configuration.getTagStatExcludes())
+                        .bind("tagStatIncludes", configuration.getTagStatIncludes())
+                        .bind("tagStatLinks", configuration.getTagStatLinks())
+                        .bind("tests", configuration.getTests())
+                        .bind("timestampOutputs", configuration.getTimestampOutputs())
+                        .bind("variableFiles", configuration.getVariableFiles())
+                        .bind("variables", configuration.getVariables())
+                        .bind("warnOnSkippedFiles", configuration.getWarnOnSkippedFiles())
+                        .bind("xunitFile", configuration.getXunitFile())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
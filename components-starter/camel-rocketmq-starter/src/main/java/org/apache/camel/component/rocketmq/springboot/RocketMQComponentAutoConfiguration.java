@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,27 @@ public class RocketMQComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(RocketMQComponent.class)
     public ComponentCustomizer configureRocketMQComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("namesrvAddr", configuration.getNamesrvAddr())
+                        .bind("sendTag", configuration.getSendTag())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("consumerGroup", configuration.getConsumerGroup())
+                        .bind("subscribeTags", configuration.getSubscribeTags())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("producerGroup", configuration.getProducerGroup())
+                        .bind("replyToConsumerGroup", configuration.getReplyToConsumerGroup())
+                        .bind("replyToTopic", configuration.getReplyToTopic())
+                        .bind("waitForSendResult", configuration.getWaitForSendResult())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("requestTimeoutCheckerIntervalMillis", configuration.getRequestTimeoutCheckerIntervalMillis())
+                        .bind("requestTimeoutMillis", configuration.getRequestTimeoutMillis())
+                        .bind("accessKey", configuration.getAccessKey())
+                        .bind("secretKey", configuration.getSecretKey());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,113 @@ public class SalesforceComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(SalesforceComponent.class)
     public ComponentCustomizer configureSalesforceComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("apexMethod", configuration.getApexMethod())
+                        .bind("apexQueryParams", configuration.getApexQueryParams())
+                        .bind("apiVersion", configuration.getApiVersion())
+                        .bind("backoffIncrement", configuration.getBackoffIncrement())
+                        .bind("batchId", configuration.getBatchId())
+                        .bind("contentType", configuration.getContentType())
+                        .bind("defaultReplayId", configuration.getDefaultReplayId())
+                        .bind("fallBackReplayId", configuration.getFallBackReplayId())
+                        .bind("format", configuration.getFormat())
+                        .bind("httpClient", configuration.getHttpClient())
+                        .bind("httpClientConnectionTimeout", configuration.getHttpClientConnectionTimeout())
+                        .bind("httpClientIdleTimeout", configuration.getHttpClientIdleTimeout())
+                        .bind("httpMaxContentLength", configuration.getHttpMaxContentLength())
+                        .bind("httpRequestBufferSize", configuration.getHttpRequestBufferSize())
+                        .bind("httpRequestTimeout", configuration.getHttpRequestTimeout())
+                        .bind("includeDetails", configuration.getIncludeDetails())
+                        .bind("initialReplayIdMap", configuration.getInitialReplayIdMap())
+                        .bind("instanceId", configuration.getInstanceId())
+                        .bind("jobId", configuration.getJobId())
+                        .bind("limit", configuration.getLimit())
+                        .bind("locator", configuration.getLocator())
+                        .bind("maxBackoff", configuration.getMaxBackoff())
+                        .bind("maxRecords", configuration.getMaxRecords())
+                        .bind("notFoundBehaviour", configuration.getNotFoundBehaviour())
+                        .bind("notifyForFields", configuration.getNotifyForFields())
+                        .bind("notifyForOperationCreate", configuration.getNotifyForOperationCreate())
+                        .bind("notifyForOperationDelete", configuration.getNotifyForOperationDelete())
+                        .bind("notifyForOperations", configuration.getNotifyForOperations())
+                        .bind("notifyForOperationUndelete", configuration.getNotifyForOperationUndelete())
+                        .bind("notifyForOperationUpdate", configuration.getNotifyForOperationUpdate())
+                        .bind("objectMapper", configuration.getObjectMapper())
+                        .bind("packages", configuration.getPackages())
+                        .bind("pkChunking", configuration.getPkChunking())
+                        .bind("pkChunkingChunkSize", configuration.getPkChunkingChunkSize())
+                        .bind("pkChunkingParent", configuration.getPkChunkingParent())
+                        .bind("pkChunkingStartRow", configuration.getPkChunkingStartRow())
+                        .bind("queryLocator", configuration.getQueryLocator())
+                        .bind("rawPayload", configuration.getRawPayload())
+                        .bind("reportId", configuration.getReportId())
+                        .bind("reportMetadata", configuration.getReportMetadata())
+                        .bind("resultId", configuration.getResultId())
+                        .bind("sObjectBlobFieldName", configuration.getSObjectBlobFieldName())
+                        .bind("sObjectClass", configuration.getSObjectClass())
+                        .bind("sObjectFields", configuration.getSObjectFields())
+                        .bind("sObjectId", configuration.getSObjectId())
+                        .bind("sObjectIdName", configuration.getSObjectIdName())
+                        .bind("sObjectIdValue", configuration.getSObjectIdValue())
+                        .bind("sObjectName", configuration.getSObjectName())
+                        .bind("sObjectQuery", configuration.getSObjectQuery())
+                        .bind("sObjectSearch", configuration.getSObjectSearch())
+                        .bind("streamQueryResult", configuration.getStreamQueryResult())
+                        .bind("updateTopic", configuration.getUpdateTopic())
+                        .bind("config", configuration.getConfig())
+                        .bind("httpClientProperties", configuration.getHttpClientProperties())
+                        .bind("longPollingTransportProperties", configuration.getLongPollingTransportProperties())
+                        .bind("workerPoolMaxSize", configuration.getWorkerPoolMaxSize())
+                        .bind("workerPoolSize", configuration.getWorkerPoolSize())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("pubSubBatchSize", configuration.getPubSubBatchSize())
+                        .bind("pubSubDeserializeType", configuration.getPubSubDeserializeType())
+                        .bind("pubSubPojoClass", configuration.getPubSubPojoClass())
+                        .bind("replayPreset", configuration.getReplayPreset())
+                        .bind("allOrNone", configuration.getAllOrNone())
+                        .bind("apexUrl", configuration.getApexUrl())
+                        .bind("compositeMethod", configuration.getCompositeMethod())
+                        .bind("eventName", configuration.getEventName())
+                        .bind("eventSchemaFormat", configuration.getEventSchemaFormat())
+                        .bind("eventSchemaId", configuration.getEventSchemaId())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("rawHttpHeaders", configuration.getRawHttpHeaders())
+                        .bind("rawMethod", configuration.getRawMethod())
+                        .bind("rawPath", configuration.getRawPath())
+                        .bind("rawQueryParameters", configuration.getRawQueryParameters())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("httpProxyExcludedAddresses", configuration.getHttpProxyExcludedAddresses())
+                        .bind("httpProxyHost", configuration.getHttpProxyHost())
+                        .bind("httpProxyIncludedAddresses", configuration.getHttpProxyIncludedAddresses())
+                        .bind("httpProxyPort", configuration.getHttpProxyPort())
+                        .bind("httpProxySocks4", configuration.getHttpProxySocks4())
+                        .bind("authenticationType", configuration.getAuthenticationType())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("clientSecret", configuration.getClientSecret())
+                        .bind("httpProxyAuthUri", configuration.getHttpProxyAuthUri())
+                        .bind("httpProxyPassword", configuration.getHttpProxyPassword())
+                        .bind("httpProxyRealm", configuration.getHttpProxyRealm())
+                        .bind("httpProxySecure", configuration.getHttpProxySecure())
+                        .bind("httpProxyUseDigestAuth", configuration.getHttpProxyUseDigestAuth())
+                        .bind("httpProxyUsername", configuration.getHttpProxyUsername())
+                        .bind("instanceUrl", configuration.getInstanceUrl())
+                        .bind("jwtAudience", configuration.getJwtAudience())
+                        .bind("keystore", configuration.getKeystore())
+                        .bind("lazyLogin", configuration.getLazyLogin())
+                        .bind("loginConfig", configuration.getLoginConfig())
+                        .bind("loginUrl", configuration.getLoginUrl())
+                        .bind("password", configuration.getPassword())
+                        .bind("pubSubHost", configuration.getPubSubHost())
+                        .bind("pubSubPort", configuration.getPubSubPort())
+                        .bind("refreshToken", configuration.getRefreshToken())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters())
+                        .bind("userName", configuration.getUserName());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
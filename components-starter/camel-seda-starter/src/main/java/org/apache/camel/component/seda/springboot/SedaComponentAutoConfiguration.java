@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,22 @@ public class SedaComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(SedaComponent.class)
     public ComponentCustomizer configureSedaComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("concurrentConsumers", configuration.getConcurrentConsumers())
+                        .bind("defaultPollTimeout", configuration.getDefaultPollTimeout())
+                        .bind("defaultBlockWhenFull", configuration.getDefaultBlockWhenFull())
+                        .bind("defaultDiscardWhenFull", configuration.getDefaultDiscardWhenFull())
+                        .bind("defaultOfferTimeout", configuration.getDefaultOfferTimeout())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("defaultQueueFactory", configuration.getDefaultQueueFactory())
+                        .bind("queueSize", configuration.getQueueSize());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,60 @@ public class ServiceNowComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ServiceNowComponent.class)
     public ComponentCustomizer configureServiceNowComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("display", configuration.getDisplay())
+                        .bind("displayValue", configuration.getDisplayValue())
+                        .bind("excludeReferenceLink", configuration.getExcludeReferenceLink())
+                        .bind("favorites", configuration.getFavorites())
+                        .bind("includeAggregates", configuration.getIncludeAggregates())
+                        .bind("includeAvailableAggregates", configuration.getIncludeAvailableAggregates())
+                        .bind("includeAvailableBreakdowns", configuration.getIncludeAvailableBreakdowns())
+                        .bind("includeScoreNotes", configuration.getIncludeScoreNotes())
+                        .bind("includeScores", configuration.getIncludeScores())
+                        .bind("inputDisplayValue", configuration.getInputDisplayValue())
+                        .bind("key", configuration.getKey())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("models", configuration.getModels())
+                        .bind("perPage", configuration.getPerPage())
+                        .bind("release", configuration.getRelease())
+                        .bind("requestModels", configuration.getRequestModels())
+                        .bind("resource", configuration.getResource())
+                        .bind("responseModels", configuration.getResponseModels())
+                        .bind("sortBy", configuration.getSortBy())
+                        .bind("sortDir", configuration.getSortDir())
+                        .bind("suppressAutoSysField", configuration.getSuppressAutoSysField())
+                        .bind("suppressPaginationHeader", configuration.getSuppressPaginationHeader())
+                        .bind("table", configuration.getTable())
+                        .bind("target", configuration.getTarget())
+                        .bind("topLevelOnly", configuration.getTopLevelOnly())
+                        .bind("apiVersion", configuration.getApiVersion())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("dateFormat", configuration.getDateFormat())
+                        .bind("dateTimeFormat", configuration.getDateTimeFormat())
+                        .bind("httpClientPolicy", configuration.getHttpClientPolicy())
+                        .bind("instanceName", configuration.getInstanceName())
+                        .bind("mapper", configuration.getMapper())
+                        .bind("proxyAuthorizationPolicy", configuration.getProxyAuthorizationPolicy())
+                        .bind("retrieveTargetRecordOnImport", configuration.getRetrieveTargetRecordOnImport())
+                        .bind("timeFormat", configuration.getTimeFormat())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("apiUrl", configuration.getApiUrl())
+                        .bind("oauthClientId", configuration.getOauthClientId())
+                        .bind("oauthClientSecret", configuration.getOauthClientSecret())
+                        .bind("oauthTokenUrl", configuration.getOauthTokenUrl())
+                        .bind("password", configuration.getPassword())
+                        .bind("proxyPassword", configuration.getProxyPassword())
+                        .bind("proxyUserName", configuration.getProxyUserName())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters())
+                        .bind("userName", configuration.getUserName());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
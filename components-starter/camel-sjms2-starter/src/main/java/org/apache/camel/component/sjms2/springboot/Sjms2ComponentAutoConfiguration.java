@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,24 @@ public class Sjms2ComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Sjms2Component.class)
     public ComponentCustomizer configureSjms2Component() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("connectionFactory", configuration.getConnectionFactory())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("destinationCreationStrategy", configuration.getDestinationCreationStrategy())
+                        .bind("exceptionListener", configuration.getExceptionListener())
+                        .bind("jmsKeyFormatStrategy", configuration.getJmsKeyFormatStrategy())
+                        .bind("messageCreatedStrategy", configuration.getMessageCreatedStrategy())
+                        .bind("recoveryInterval", configuration.getRecoveryInterval())
+                        .bind("replyToOnTimeoutMaxConcurrentConsumers", configuration.getReplyToOnTimeoutMaxConcurrentConsumers())
+                        .bind("requestTimeoutCheckerInterval", configuration.getRequestTimeoutCheckerInterval())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,55 @@ public class SmppComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(SmppComponent.class)
     public ComponentCustomizer configureSmppComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("initialReconnectDelay", configuration.getInitialReconnectDelay())
+                        .bind("maxReconnect", configuration.getMaxReconnect())
+                        .bind("reconnectDelay", configuration.getReconnectDelay())
+                        .bind("splittingPolicy", configuration.getSplittingPolicy())
+                        .bind("systemType", configuration.getSystemType())
+                        .bind("addressRange", configuration.getAddressRange())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("destAddr", configuration.getDestAddr())
+                        .bind("destAddrNpi", configuration.getDestAddrNpi())
+                        .bind("destAddrTon", configuration.getDestAddrTon())
+                        .bind("lazySessionCreation", configuration.getLazySessionCreation())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("messageReceiverRouteId", configuration.getMessageReceiverRouteId())
+                        .bind("numberingPlanIndicator", configuration.getNumberingPlanIndicator())
+                        .bind("priorityFlag", configuration.getPriorityFlag())
+                        .bind("protocolId", configuration.getProtocolId())
+                        .bind("registeredDelivery", configuration.getRegisteredDelivery())
+                        .bind("replaceIfPresentFlag", configuration.getReplaceIfPresentFlag())
+                        .bind("serviceType", configuration.getServiceType())
+                        .bind("sourceAddr", configuration.getSourceAddr())
+                        .bind("sourceAddrNpi", configuration.getSourceAddrNpi())
+                        .bind("sourceAddrTon", configuration.getSourceAddrTon())
+                        .bind("typeOfNumber", configuration.getTypeOfNumber())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("enquireLinkTimer", configuration.getEnquireLinkTimer())
+                        .bind("interfaceVersion", configuration.getInterfaceVersion())
+                        .bind("pduProcessorDegree", configuration.getPduProcessorDegree())
+                        .bind("pduProcessorQueueCapacity", configuration.getPduProcessorQueueCapacity())
+                        .bind("sessionStateListener", configuration.getSessionStateListener())
+                        .bind("singleDLR", configuration.getSingleDLR())
+                        .bind("transactionTimer", configuration.getTransactionTimer())
+                        .bind("alphabet", configuration.getAlphabet())
+                        .bind("dataCoding", configuration.getDataCoding())
+                        .bind("encoding", configuration.getEncoding())
+                        .bind("httpProxyHost", configuration.getHttpProxyHost())
+                        .bind("httpProxyPassword", configuration.getHttpProxyPassword())
+                        .bind("httpProxyPort", configuration.getHttpProxyPort())
+                        .bind("httpProxyUsername", configuration.getHttpProxyUsername())
+                        .bind("proxyHeaders", configuration.getProxyHeaders())
+                        .bind("password", configuration.getPassword())
+                        .bind("systemId", configuration.getSystemId())
+                        .bind("usingSSL", configuration.getUsingSSL());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,43 @@ public class SpringRabbitMQComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(SpringRabbitMQComponent.class)
     public ComponentCustomizer configureSpringRabbitMQComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("amqpAdmin", configuration.getAmqpAdmin())
+                        .bind("connectionFactory", configuration.getConnectionFactory())
+                        .bind("testConnectionOnStartup", configuration.getTestConnectionOnStartup())
+                        .bind("autoDeclare", configuration.getAutoDeclare())
+                        .bind("autoStartup", configuration.getAutoStartup())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("deadLetterExchange", configuration.getDeadLetterExchange())
+                        .bind("deadLetterExchangeType", configuration.getDeadLetterExchangeType())
+                        .bind("deadLetterQueue", configuration.getDeadLetterQueue())
+                        .bind("deadLetterRoutingKey", configuration.getDeadLetterRoutingKey())
+                        .bind("maximumRetryAttempts", configuration.getMaximumRetryAttempts())
+                        .bind("rejectAndDontRequeue", configuration.getRejectAndDontRequeue())
+                        .bind("retryDelay", configuration.getRetryDelay())
+                        .bind("concurrentConsumers", configuration.getConcurrentConsumers())
+                        .bind("errorHandler", configuration.getErrorHandler())
+                        .bind("listenerContainerFactory", configuration.getListenerContainerFactory())
+                        .bind("maxConcurrentConsumers", configuration.getMaxConcurrentConsumers())
+                        .bind("messageListenerContainerType", configuration.getMessageListenerContainerType())
+                        .bind("prefetchCount", configuration.getPrefetchCount())
+                        .bind("retry", configuration.getRetry())
+                        .bind("shutdownTimeout", configuration.getShutdownTimeout())
+                        .bind("allowNullBody", configuration.getAllowNullBody())
+                        .bind("autoDeclareProducer", configuration.getAutoDeclareProducer())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("replyTimeout", configuration.getReplyTimeout())
+                        .bind("args", configuration.getArgs())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("ignoreDeclarationExceptions", configuration.getIgnoreDeclarationExceptions())
+                        .bind("messageConverter", configuration.getMessageConverter())
+                        .bind("messagePropertiesConverter", configuration.getMessagePropertiesConverter())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,37 @@ public class SshComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(SshComponent.class)
     public ComponentCustomizer configureSshComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("failOnUnknownHost", configuration.getFailOnUnknownHost())
+                        .bind("knownHostsResource", configuration.getKnownHostsResource())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("pollCommand", configuration.getPollCommand())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("channelType", configuration.getChannelType())
+                        .bind("clientBuilder", configuration.getClientBuilder())
+                        .bind("compressions", configuration.getCompressions())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("shellPrompt", configuration.getShellPrompt())
+                        .bind("sleepForShellPrompt", configuration.getSleepForShellPrompt())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("certResource", configuration.getCertResource())
+                        .bind("certResourcePassword", configuration.getCertResourcePassword())
+                        .bind("ciphers", configuration.getCiphers())
+                        .bind("kex", configuration.getKex())
+                        .bind("keyPairProvider", configuration.getKeyPairProvider())
+                        .bind("keyType", configuration.getKeyType())
+                        .bind("macs", configuration.getMacs())
+                        .bind("password", configuration.getPassword())
+                        .bind("signatures", configuration.getSignatures())
+                        .bind("username", configuration.getUsername());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,22 @@ public class StitchComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(StitchComponent.class)
     public ComponentCustomizer configureStitchComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("keyNames", configuration.getKeyNames())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("region", configuration.getRegion())
+                        .bind("stitchSchema", configuration.getStitchSchema())
+                        .bind("connectionProvider", configuration.getConnectionProvider())
+                        .bind("httpClient", configuration.getHttpClient())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("stitchClient", configuration.getStitchClient())
+                        .bind("token", configuration.getToken());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
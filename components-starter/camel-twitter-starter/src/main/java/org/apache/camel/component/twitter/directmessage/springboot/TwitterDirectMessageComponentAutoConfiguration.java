@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,25 @@ public class TwitterDirectMessageComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(TwitterDirectMessageComponent.class)
     public ComponentCustomizer configureTwitterDirectMessageComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled())
+                        .bind("httpProxyHost", configuration.getHttpProxyHost())
+                        .bind("httpProxyPassword", configuration.getHttpProxyPassword())
+                        .bind("httpProxyPort", configuration.getHttpProxyPort())
+                        .bind("httpProxyUser", configuration.getHttpProxyUser())
+                        .bind("accessToken", configuration.getAccessToken())
+                        .bind("accessTokenSecret", configuration.getAccessTokenSecret())
+                        .bind("consumerKey", configuration.getConsumerKey())
+                        .bind("consumerSecret", configuration.getConsumerSecret());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,31 @@ public class VertxHttpComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(VertxHttpComponent.class)
     public ComponentCustomizer configureVertxHttpComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("responsePayloadAsByteArray", configuration.getResponsePayloadAsByteArray())
+                        .bind("allowJavaSerializedObject", configuration.getAllowJavaSerializedObject())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("vertx", configuration.getVertx())
+                        .bind("vertxHttpBinding", configuration.getVertxHttpBinding())
+                        .bind("vertxOptions", configuration.getVertxOptions())
+                        .bind("webClientOptions", configuration.getWebClientOptions())
+                        .bind("headerFilterStrategy", configuration.getHeaderFilterStrategy())
+                        .bind("proxyHost", configuration.getProxyHost())
+                        .bind("proxyPassword", configuration.getProxyPassword())
+                        .bind("proxyPort", configuration.getProxyPort())
+                        .bind("proxyType", configuration.getProxyType())
+                        .bind("proxyUsername", configuration.getProxyUsername())
+                        .bind("basicAuthPassword", configuration.getBasicAuthPassword())
+                        .bind("basicAuthUsername", configuration.getBasicAuthUsername())
+                        .bind("bearerToken", configuration.getBearerToken())
+                        .bind("sslContextParameters", configuration.getSslContextParameters())
+                        .bind("useGlobalSslContextParameters", configuration.getUseGlobalSslContextParameters());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,21 @@ public class VertxComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(VertxComponent.class)
     public ComponentCustomizer configureVertxComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("host", configuration.getHost())
+                        .bind("port", configuration.getPort())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("vertx", configuration.getVertx())
+                        .bind("vertxOptions", configuration.getVertxOptions())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("vertxFactory", configuration.getVertxFactory());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,50 @@ public class Web3jComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(Web3jComponent.class)
     public ComponentCustomizer configureWeb3jComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("addresses", configuration.getAddresses())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("fromAddress", configuration.getFromAddress())
+                        .bind("fromBlock", configuration.getFromBlock())
+                        .bind("fullTransactionObjects", configuration.getFullTransactionObjects())
+                        .bind("gasLimit", configuration.getGasLimit())
+                        .bind("privateFor", configuration.getPrivateFor())
+                        .bind("quorumAPI", configuration.getQuorumAPI())
+                        .bind("toAddress", configuration.getToAddress())
+                        .bind("toBlock", configuration.getToBlock())
+                        .bind("topics", configuration.getTopics())
+                        .bind("web3j", configuration.getWeb3j())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("address", configuration.getAddress())
+                        .bind("atBlock", configuration.getAtBlock())
+                        .bind("blockHash", configuration.getBlockHash())
+                        .bind("clientId", configuration.getClientId())
+                        .bind("data", configuration.getData())
+                        .bind("databaseName", configuration.getDatabaseName())
+                        .bind("filterId", configuration.getFilterId())
+                        .bind("gasPrice", configuration.getGasPrice())
+                        .bind("hashrate", configuration.getHashrate())
+                        .bind("headerPowHash", configuration.getHeaderPowHash())
+                        .bind("index", configuration.getIndex())
+                        .bind("keyName", configuration.getKeyName())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("mixDigest", configuration.getMixDigest())
+                        .bind("nonce", configuration.getNonce())
+                        .bind("operation", configuration.getOperation())
+                        .bind("position", configuration.getPosition())
+                        .bind("priority", configuration.getPriority())
+                        .bind("sha3HashOfDataToSign", configuration.getSha3HashOfDataToSign())
+                        .bind("signedTransactionData", configuration.getSignedTransactionData())
+                        .bind("sourceCode", configuration.getSourceCode())
+                        .bind("transactionHash", configuration.getTransactionHash())
+                        .bind("ttl", configuration.getTtl())
+                        .bind("value", configuration.getValue())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,26 @@ public class WordpressComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(WordpressComponent.class)
     public ComponentCustomizer configureWordpressComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("apiVersion", configuration.getApiVersion())
+                        .bind("configuration", configuration.getConfiguration())
+                        .bind("criteria", configuration.getCriteria())
+                        .bind("force", configuration.getForce())
+                        .bind("id", configuration.getId())
+                        .bind("password", configuration.getPassword())
+                        .bind("searchCriteria", configuration.getSearchCriteria())
+                        .bind("url", configuration.getUrl())
+                        .bind("user", configuration.getUser())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("healthCheckConsumerEnabled", configuration.getHealthCheckConsumerEnabled())
+                        .bind("healthCheckProducerEnabled", configuration.getHealthCheckProducerEnabled());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,24 @@ public class XJComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(XJComponent.class)
     public ComponentCustomizer configureXJComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("allowTemplateFromHeader", configuration.getAllowTemplateFromHeader())
+                        .bind("contentCache", configuration.getContentCache())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("saxonConfiguration", configuration.getSaxonConfiguration())
+                        .bind("saxonConfigurationProperties", configuration.getSaxonConfigurationProperties())
+                        .bind("saxonExtensionFunctions", configuration.getSaxonExtensionFunctions())
+                        .bind("secureProcessing", configuration.getSecureProcessing())
+                        .bind("transformerFactoryClass", configuration.getTransformerFactoryClass())
+                        .bind("transformerFactoryConfigurationStrategy", configuration.getTransformerFactoryConfigurationStrategy())
+                        .bind("uriResolver", configuration.getUriResolver())
+                        .bind("uriResolverFactory", configuration.getUriResolverFactory());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
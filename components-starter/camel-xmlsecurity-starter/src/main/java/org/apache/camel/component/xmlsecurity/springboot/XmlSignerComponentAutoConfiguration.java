@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,41 @@ public class XmlSignerComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(XmlSignerComponent.class)
     public ComponentCustomizer configureXmlSignerComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("addKeyInfoReference", configuration.getAddKeyInfoReference())
+                        .bind("baseUri", configuration.getBaseUri())
+                        .bind("canonicalizationMethod", configuration.getCanonicalizationMethod())
+                        .bind("clearHeaders", configuration.getClearHeaders())
+                        .bind("contentObjectId", configuration.getContentObjectId())
+                        .bind("contentReferenceType", configuration.getContentReferenceType())
+                        .bind("contentReferenceUri", configuration.getContentReferenceUri())
+                        .bind("cryptoContextProperties", configuration.getCryptoContextProperties())
+                        .bind("digestAlgorithm", configuration.getDigestAlgorithm())
+                        .bind("disallowDoctypeDecl", configuration.getDisallowDoctypeDecl())
+                        .bind("keyAccessor", configuration.getKeyAccessor())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("omitXmlDeclaration", configuration.getOmitXmlDeclaration())
+                        .bind("outputXmlEncoding", configuration.getOutputXmlEncoding())
+                        .bind("parentLocalName", configuration.getParentLocalName())
+                        .bind("parentNamespace", configuration.getParentNamespace())
+                        .bind("parentXpath", configuration.getParentXpath())
+                        .bind("plainText", configuration.getPlainText())
+                        .bind("plainTextEncoding", configuration.getPlainTextEncoding())
+                        .bind("prefixForXmlSignatureNamespace", configuration.getPrefixForXmlSignatureNamespace())
+                        .bind("properties", configuration.getProperties())
+                        .bind("schemaResourceUri", configuration.getSchemaResourceUri())
+                        .bind("signatureAlgorithm", configuration.getSignatureAlgorithm())
+                        .bind("signatureId", configuration.getSignatureId())
+                        .bind("transformMethods", configuration.getTransformMethods())
+                        .bind("xpathsToIdAttributes", configuration.getXpathsToIdAttributes())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("signerConfiguration", configuration.getSignerConfiguration())
+                        .bind("uriDereferencer", configuration.getUriDereferencer());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
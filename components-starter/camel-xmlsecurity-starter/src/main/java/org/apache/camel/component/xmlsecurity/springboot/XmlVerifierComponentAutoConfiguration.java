@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,31 @@ public class XmlVerifierComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(XmlVerifierComponent.class)
     public ComponentCustomizer configureXmlVerifierComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("baseUri", configuration.getBaseUri())
+                        .bind("clearHeaders", configuration.getClearHeaders())
+                        .bind("cryptoContextProperties", configuration.getCryptoContextProperties())
+                        .bind("disallowDoctypeDecl", configuration.getDisallowDoctypeDecl())
+                        .bind("keySelector", configuration.getKeySelector())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("omitXmlDeclaration", configuration.getOmitXmlDeclaration())
+                        .bind("outputNodeSearch", configuration.getOutputNodeSearch())
+                        .bind("outputNodeSearchType", configuration.getOutputNodeSearchType())
+                        .bind("outputXmlEncoding", configuration.getOutputXmlEncoding())
+                        .bind("removeSignatureElements", configuration.getRemoveSignatureElements())
+                        .bind("schemaResourceUri", configuration.getSchemaResourceUri())
+                        .bind("secureValidation", configuration.getSecureValidation())
+                        .bind("validationFailedHandler", configuration.getValidationFailedHandler())
+                        .bind("xmlSignature2Message", configuration.getXmlSignature2Message())
+                        .bind("xmlSignatureChecker", configuration.getXmlSignatureChecker())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("uriDereferencer", configuration.getUriDereferencer())
+                        .bind("verifierConfiguration", configuration.getVerifierConfiguration());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,20 @@ public class MasterComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(MasterComponent.class)
     public ComponentCustomizer configureMasterComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("maximumConnectionTimeout", configuration.getMaximumConnectionTimeout())
+                        .bind("zkRoot", configuration.getZkRoot())
+                        .bind("zooKeeperUrl", configuration.getZooKeeperUrl())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("containerIdFactory", configuration.getContainerIdFactory())
+                        .bind("curator", configuration.getCurator())
+                        .bind("zooKeeperPassword", configuration.getZooKeeperPassword());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
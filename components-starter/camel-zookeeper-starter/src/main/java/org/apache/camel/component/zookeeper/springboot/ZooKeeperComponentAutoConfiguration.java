@@ -23,6 +23,7 @@ import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
 import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -58,11 +59,23 @@ public class ZooKeeperComponentAutoConfiguration {
 
     @Lazy
     @Bean
+    @ComponentCustomizerBean(ZooKeeperComponent.class)
     public ComponentCustomizer configureZooKeeperComponent() {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindComponent(camelContext, target)
+                        .bind("listChildren", configuration.getListChildren())
+                        .bind("timeout", configuration.getTimeout())
+                        .bind("backoff", configuration.getBackoff())
+                        .bind("bridgeErrorHandler", configuration.getBridgeErrorHandler())
+                        .bind("repeat", configuration.getRepeat())
+                        .bind("sendEmptyMessageOnDelete", configuration.getSendEmptyMessageOnDelete())
+                        .bind("create", configuration.getCreate())
+                        .bind("createMode", configuration.getCreateMode())
+                        .bind("lazyStartProducer", configuration.getLazyStartProducer())
+                        .bind("autowiredEnabled", configuration.getAutowiredEnabled())
+                        .bind("configuration", configuration.getConfiguration());
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -28,6 +28,7 @@ import org.apache.camel.ConsumerTemplate;
 import org.apache.camel.FluentProducerTemplate;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
 import org.apache.camel.component.properties.PropertiesComponent;
 import org.apache.camel.component.properties.PropertiesParser;
 import org.apache.camel.main.DefaultConfigurationConfigurer;
@@ -42,6 +43,8 @@ import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.VariableRepository;
 import org.apache.camel.spi.VariableRepositoryFactory;
 import org.apache.camel.spring.boot.aot.CamelRuntimeHints;
+import org.apache.camel.spring.boot.util.CamelConditionEvaluationReport;
+import org.apache.camel.spring.boot.util.HierarchicalPropertiesCacheInvalidator;
 import org.apache.camel.spring.spi.ApplicationContextBeanRepository;
 import org.apache.camel.spring.spi.CamelBeanPostProcessor;
 import org.apache.camel.support.DefaultRegistry;
@@ -58,8 +61,10 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -173,7 +178,9 @@ public class CamelAutoConfiguration {
         // setup cli connector eager
         configureCliConnector(applicationContext, camelContext);
 
-        camelContext.getCamelContextExtension().addContextPlugin(PackageScanClassResolver.class, new FatJarPackageScanClassResolver());
+        FatJarPackageScanClassResolver packageScanClassResolver = new FatJarPackageScanClassResolver();
+        packageScanClassResolver.setIndexDirectory(config.getPackageScanIndexDirectory());
+        camelContext.getCamelContextExtension().addContextPlugin(PackageScanClassResolver.class, packageScanClassResolver);
         camelContext.getCamelContextExtension().addContextPlugin(PackageScanResourceResolver.class, new FatJarPackageScanResourceResolver());
 
         if (config.getRouteFilterIncludePattern() != null || config.getRouteFilterExcludePattern() != null) {
@@ -188,6 +195,9 @@ public class CamelAutoConfiguration {
         // and call after all properties are set
         DefaultConfigurationConfigurer.afterPropertiesSet(camelContext);
 
+        // the conditions of the auto configurations have all been evaluated by now
+        recordConditionEvaluations(applicationContext, camelContext);
+
         return camelContext;
     }
 
@@ -248,6 +258,28 @@ public class CamelAutoConfiguration {
         }
     }
 
+    static void recordConditionEvaluations(ApplicationContext applicationContext, CamelContext camelContext) {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        if (!recorder.isEnabled() || !(applicationContext instanceof ConfigurableApplicationContext cac)
+                || !cac.getBeanFactory().containsSingleton(CamelConditionEvaluationReport.BEAN_NAME)) {
+            return;
+        }
+
+        // the conditions were evaluated before the recorder existed, so the steps carry the time spent in their description
+        CamelConditionEvaluationReport report = cac.getBeanFactory()
+                .getBean(CamelConditionEvaluationReport.BEAN_NAME, CamelConditionEvaluationReport.class);
+        StartupStep step = recorder.beginStep(CamelAutoConfiguration.class, "Conditions",
+                String.format("Evaluated %d auto configuration conditions in %.3f ms", report.getEvaluations(),
+                        report.getNanos() / 1_000_000d));
+        for (CamelConditionEvaluationReport.Entry entry : report.getEntries()) {
+            StartupStep sub = recorder.beginStep(CamelConditionEvaluationReport.class, entry.getSource(),
+                    String.format("Evaluated %d conditions in %.3f ms (%s)", entry.getEvaluations(),
+                            entry.getNanos() / 1_000_000d, entry.isMatch() ? "match" : "no match"));
+            recorder.endStep(sub);
+        }
+        recorder.endStep(step);
+    }
+
     @Bean
     CamelSpringBootApplicationController applicationController(ApplicationContext applicationContext, CamelContext camelContext) {
         return new CamelSpringBootApplicationController(applicationContext, camelContext);
@@ -332,8 +364,11 @@ public class CamelAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(PropertiesParser.class)
-    PropertiesParser propertiesParser(Environment env) {
-        return new SpringPropertiesParser(env);
+    PropertiesParser propertiesParser(Environment env, CamelConfigurationProperties config) {
+        SpringPropertiesParser parser = new SpringPropertiesParser(env);
+        parser.setCacheEnabled(config.isPropertiesLookupCache());
+        parser.setMaxCacheSize(config.getPropertiesLookupCacheSize());
+        return parser;
     }
 
     // We explicitly declare the destroyMethod to be "" as the Spring @Bean
@@ -348,6 +383,23 @@ public class CamelAutoConfiguration {
         return pc;
     }
 
+    /**
+     * Defers the creation of the component customizers of the Camel starters until their components are used.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "camel.springboot.lazy-components", havingValue = "true")
+    static LazyComponentCustomizerPostProcessor lazyComponentCustomizerPostProcessor() {
+        return new LazyComponentCustomizerPostProcessor();
+    }
+
+    /**
+     * Keeps the cached hierarchical "enabled" flags in sync with the environment.
+     */
+    @Bean
+    static HierarchicalPropertiesCacheInvalidator hierarchicalPropertiesCacheInvalidator(ApplicationContext applicationContext) {
+        return new HierarchicalPropertiesCacheInvalidator(applicationContext);
+    }
+
     /**
      * Camel post processor - required to support Camel annotations.
      */
@@ -51,6 +51,54 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private boolean warnOnEarlyShutdown = true;
 
+    /**
+     * Whether to defer the setup of the auto configured components until they are used.
+     * When enabled the component customizers of the Camel starters (and the configuration they depend on) are
+     * only created the first time a component of their type is added to the CamelContext, instead of when
+     * Spring Boot starts. This reduces startup time and memory when many starters are on the classpath
+     * but only a few of their components are used by the routes.
+     */
+    private boolean lazyComponents;
+
+    /**
+     * Directory where an index of the classes found when scanning Spring Boot fat jars is stored and reused.
+     * The index is keyed by a digest of the central directory of each jar, so the classes of the nested jars
+     * do not have to be read again when the application is restarted with the same jar, even if it has been copied.
+     * The index can be pre-generated by starting the application once when building the container image.
+     * By default no index is stored.
+     */
+    private String packageScanIndexDirectory;
+
+    /**
+     * Whether to load the route resources (YAML, XML, ...) discovered by the routes-include-pattern in parallel.
+     * Each resource is parsed, and its route model built, by its own task. Only the route model of the YAML and XML
+     * resources that do not declare beans is built in parallel, as binding beans into the registry is not thread-safe;
+     * the other resources are configured one after the other. The routes are still added to the CamelContext in the
+     * same order as when loaded sequentially.
+     */
+    private boolean routesLoadParallel;
+
+    /**
+     * Maximum number of threads used to load the route resources in parallel, when routes-load-parallel is enabled.
+     * The default value 0 uses the number of available processors.
+     */
+    private int routesLoadParallelism;
+
+    /**
+     * Whether to cache the property placeholders resolved from the Spring environment, including the ones that are
+     * not found. Only the properties from enumerable property sources (such as application.properties, system
+     * properties and environment variables), whose value does not refer to other properties, are cached, so dynamic
+     * values such as random.uuid are resolved each time. The cache is cleared when the application context is
+     * refreshed, and on EnvironmentChangeEvent (from spring-cloud-context). Do not turn this on if property sources
+     * are changed at runtime without publishing such an event.
+     */
+    private boolean propertiesLookupCache;
+
+    /**
+     * Maximum number of property placeholders cached when properties-lookup-cache is enabled.
+     */
+    private int propertiesLookupCacheSize = 1000;
+
     // Default Properties via camel-main
     // ---------------------------------
 
@@ -937,4 +985,52 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    public boolean isLazyComponents() {
+        return lazyComponents;
+    }
+
+    public void setLazyComponents(boolean lazyComponents) {
+        this.lazyComponents = lazyComponents;
+    }
+
+    public String getPackageScanIndexDirectory() {
+        return packageScanIndexDirectory;
+    }
+
+    public void setPackageScanIndexDirectory(String packageScanIndexDirectory) {
+        this.packageScanIndexDirectory = packageScanIndexDirectory;
+    }
+
+    public boolean isRoutesLoadParallel() {
+        return routesLoadParallel;
+    }
+
+    public void setRoutesLoadParallel(boolean routesLoadParallel) {
+        this.routesLoadParallel = routesLoadParallel;
+    }
+
+    public int getRoutesLoadParallelism() {
+        return routesLoadParallelism;
+    }
+
+    public void setRoutesLoadParallelism(int routesLoadParallelism) {
+        this.routesLoadParallelism = routesLoadParallelism;
+    }
+
+    public boolean isPropertiesLookupCache() {
+        return propertiesLookupCache;
+    }
+
+    public void setPropertiesLookupCache(boolean propertiesLookupCache) {
+        this.propertiesLookupCache = propertiesLookupCache;
+    }
+
+    public int getPropertiesLookupCacheSize() {
+        return propertiesLookupCacheSize;
+    }
+
+    public void setPropertiesLookupCacheSize(int propertiesLookupCacheSize) {
+        this.propertiesLookupCacheSize = propertiesLookupCacheSize;
+    }
+
 }
@@ -98,7 +98,15 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
                 if (configurationProperties.isRoutesCollectorEnabled()) {
                     configurer.setRoutesCollector(springBootRoutesCollector);
                 }
+                if (springBootRoutesCollector instanceof CamelSpringBootRoutesCollector collector) {
+                    collector.setIgnoreLoadingError(configurationProperties.isRoutesCollectorIgnoreLoadingError());
+                    if (configurationProperties.isRoutesLoadParallel()) {
+                        int parallelism = configurationProperties.getRoutesLoadParallelism();
+                        collector.setRoutesLoadParallelism(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+                    }
+                }
 
+                configurer.setIgnoreLoadingError(configurationProperties.isRoutesCollectorIgnoreLoadingError());
                 configurer.setBeanPostProcessor(PluginHelper.getBeanPostProcessor(camelContext));
                 configurer.setJavaRoutesExcludePattern(configurationProperties.getJavaRoutesExcludePattern());
                 configurer.setJavaRoutesIncludePattern(configurationProperties.getJavaRoutesIncludePattern());
@@ -17,25 +17,209 @@
 package org.apache.camel.spring.boot;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.main.DefaultRoutesCollector;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.DefaultRegistry;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.StopWatch;
 import org.springframework.context.ApplicationContext;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 
 public class CamelSpringBootRoutesCollector extends DefaultRoutesCollector {
 
+    private static final Pattern YAML_BEANS = Pattern.compile("^\\s*-?\\s*beans\\s*:", Pattern.MULTILINE);
+    private static final Pattern XML_BEANS = Pattern.compile("<(\\w+:)?beans?[\\s/>]");
+
     private final ApplicationContext applicationContext;
     private final boolean includeNonSingletons;
+    private int routesLoadParallelism;
 
     public CamelSpringBootRoutesCollector(ApplicationContext applicationContext, boolean includeNonSingletons) {
         this.applicationContext = applicationContext;
         this.includeNonSingletons = includeNonSingletons;
     }
 
+    public int getRoutesLoadParallelism() {
+        return routesLoadParallelism;
+    }
+
+    /**
+     * Number of threads used to load the route resources (YAML, XML, ...) in parallel. The default value 0 (or 1)
+     * loads them one after the other.
+     */
+    public void setRoutesLoadParallelism(int routesLoadParallelism) {
+        this.routesLoadParallelism = routesLoadParallelism;
+    }
+
+    @Override
+    protected void doCollectRoutesFromDirectory(CamelContext camelContext, List<RoutesBuilder> builders,
+                                                String excludePattern, String includePattern, boolean optional) {
+        if (routesLoadParallelism <= 1) {
+            super.doCollectRoutesFromDirectory(camelContext, builders, excludePattern, includePattern, optional);
+            return;
+        }
+
+        Collection<Resource> accepted = findRouteResourcesFromDirectory(camelContext, excludePattern, includePattern);
+        try {
+            builders.addAll(loadRoutesBuildersInParallel(camelContext, accepted, optional));
+        } catch (Exception e) {
+            if (isIgnoreLoadingError()) {
+                log.warn("Loading resources error: {} due to: {}. This exception is ignored.", accepted, e.getMessage());
+            } else {
+                throw RuntimeCamelException.wrapRuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Loads the route resources on a bounded fork-join pool, each resource being parsed and configured (the route
+     * model being built) by its own task. The routes builders are returned in the same order as when the resources
+     * are loaded one after the other, so the routes are added to the CamelContext in a deterministic order.
+     * <p/>
+     * Only the YAML and XML resources that do not declare beans are configured by their task, as the beans are bound
+     * into the registry of the CamelContext, which is not thread-safe. The other routes builders (such as compiled
+     * java sources, which may bind beans as well) are configured as usual when they are added to the CamelContext.
+     */
+    private List<RoutesBuilder> loadRoutesBuildersInParallel(CamelContext camelContext, Collection<Resource> resources, boolean optional)
+            throws Exception {
+        RoutesLoader loader = PluginHelper.getRoutesLoader(camelContext);
+
+        // java sources are compiled together so they are loaded as a single batch, like the routes loader
+        // groups the resources by loader (and java sources first)
+        Map<String, List<List<Resource>>> groups = new LinkedHashMap<>();
+        groups.put("java", new ArrayList<>());
+        for (Resource resource : resources) {
+            String ext = FileUtil.onlyExt(resource.getLocation(), false);
+            List<List<Resource>> batches = groups.computeIfAbsent(ext, k -> new ArrayList<>());
+            if ("java".equals(ext) && !batches.isEmpty()) {
+                batches.get(0).add(resource);
+            } else {
+                batches.add(new ArrayList<>(List.of(resource)));
+            }
+            if (ext != null) {
+                // resolve the loaders upfront as they are created and started on first use
+                loader.getRoutesLoader(ext);
+            }
+        }
+        List<List<Resource>> batches = groups.values().stream().flatMap(List::stream).toList();
+
+        StopWatch watch = new StopWatch();
+        // the recorder is not thread-safe, so the steps are recorded on this thread with the time spent by each task
+        // in their description (the steps of the tasks are begun when they are joined), and it is disabled while the
+        // tasks run as the routes loaders begin their own steps
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(CamelSpringBootRoutesCollector.class, "Load Routes",
+                String.format("Loading %d route resources in parallel", resources.size()));
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(Math.min(routesLoadParallelism, Math.max(1, batches.size())));
+        try {
+            List<Callable<LoadedBatch>> tasks = new ArrayList<>(batches.size());
+            for (List<Resource> batch : batches) {
+                tasks.add(() -> loadRoutesBuilders(camelContext, loader, tccl, batch, optional));
+            }
+
+            List<RoutesBuilder> answer = new ArrayList<>();
+            List<Future<LoadedBatch>> futures;
+            boolean enabled = recorder.isEnabled();
+            recorder.setEnabled(false);
+            try {
+                futures = pool.invokeAll(tasks);
+            } finally {
+                recorder.setEnabled(enabled);
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    LoadedBatch loaded = futures.get(i).get();
+                    StartupStep sub = recorder.beginStep(CamelSpringBootRoutesCollector.class,
+                            batches.get(i).get(0).getLocation(),
+                            String.format("Loaded routes in %.3f ms", loaded.nanos() / 1_000_000d));
+                    recorder.endStep(sub);
+                    answer.addAll(loaded.builders());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (isIgnoreLoadingError()) {
+                        // only the failed resources are skipped, like when they are loaded one after the other
+                        log.warn("Loading resources error: {} due to: {}. This exception is ignored.", batches.get(i),
+                                cause.getMessage());
+                        continue;
+                    }
+                    throw cause instanceof Exception ex ? ex : new RuntimeCamelException(cause);
+                }
+            }
+            log.debug("Loaded {} route resources using {} threads (took {} millis)", resources.size(), pool.getParallelism(),
+                    watch.taken());
+            return answer;
+        } finally {
+            pool.shutdownNow();
+            recorder.endStep(step);
+        }
+    }
+
+    private static LoadedBatch loadRoutesBuilders(CamelContext camelContext, RoutesLoader loader, ClassLoader tccl,
+                                                  List<Resource> batch, boolean optional) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader old = thread.getContextClassLoader();
+        thread.setContextClassLoader(tccl);
+
+        long start = System.nanoTime();
+        try {
+            List<RoutesBuilder> answer = new ArrayList<>(loader.findRoutesBuilders(batch, optional));
+            if (batch.size() == 1 && isConfigurableInParallel(batch.get(0))) {
+                for (RoutesBuilder builder : answer) {
+                    if (builder instanceof RouteBuilder rb) {
+                        // build the route model now, it is only done once so adding the routes to the context later is cheap
+                        rb.configureRoutes(camelContext);
+                    }
+                }
+            }
+            return new LoadedBatch(answer, System.nanoTime() - start);
+        } finally {
+            thread.setContextClassLoader(old);
+        }
+    }
+
+    /**
+     * Whether the routes builder of the given resource can be configured concurrently with the other ones, which is
+     * the case of the YAML and XML resources that do not declare beans.
+     */
+    private static boolean isConfigurableInParallel(Resource resource) throws Exception {
+        String ext = FileUtil.onlyExt(resource.getLocation(), false);
+        Pattern beans;
+        if ("yaml".equals(ext) || "yml".equals(ext)) {
+            beans = YAML_BEANS;
+        } else if ("xml".equals(ext)) {
+            beans = XML_BEANS;
+        } else {
+            return false;
+        }
+        try (Reader reader = resource.getReader()) {
+            return !beans.matcher(IOHelper.toString(reader)).find();
+        }
+    }
+
+    private record LoadedBatch(List<RoutesBuilder> builders, long nanos) {
+    }
+
     @Override
     protected <T> Collection<T> findByType(CamelContext camelContext, Class<T> type) {
         // only spring-boot knows about non-singleton beans
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -25,6 +26,7 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 
@@ -47,9 +49,68 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
     private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
     private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
 
+    private String indexDirectory;
+
+    public String getIndexDirectory() {
+        return indexDirectory;
+    }
+
+    /**
+     * Directory where the class entries found in the scanned jars are stored, so they can be reused without reading
+     * the jars (and their nested jars) again on the next start. By default no index is stored.
+     */
+    public void setIndexDirectory(String indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
     @Override
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath) {
-        return doLoadJarClassEntries(stream, urlPath, true, true);
+        FatJarScanIndex index = indexDirectory != null ? FatJarScanIndex.forJar(indexDirectory, "classes", urlPath) : null;
+        List<String> entries = index != null ? index.load() : null;
+        if (entries != null) {
+            IOHelper.close(stream, urlPath, LOG);
+            return entries;
+        }
+
+        File file = new File(urlPath);
+        if (file.isFile()) {
+            // list the classes using the central directory of the jar and its nested jars
+            entries = new ArrayList<>();
+            try {
+                if (FatJarScanner.scan(file, this::isSpringBootNestedJar, collectClassEntries(entries))) {
+                    IOHelper.close(stream, urlPath, LOG);
+                    if (index != null) {
+                        index.store(entries);
+                    }
+                    return entries;
+                }
+            } catch (IOException e) {
+                LOG.debug("Cannot read the central directory of jar file: {} due to: {}. Reading the jar sequentially instead.",
+                        urlPath, e.getMessage(), e);
+            }
+        }
+
+        if (index == null) {
+            return doLoadJarClassEntries(stream, urlPath, true, true);
+        }
+
+        entries = new ArrayList<>();
+        try {
+            loadJarClassEntries(entries, stream, urlPath, true, true);
+            // only a complete scan is stored in the index
+            index.store(entries);
+        } catch (IOException ioe) {
+            LOG.warn("Cannot search jar file '" + urlPath + " due to an IOException: " + ioe.getMessage() + ". This exception is ignored.", ioe);
+        }
+        return entries;
+    }
+
+    private Consumer<String> collectClassEntries(List<String> entries) {
+        return name -> {
+            if (name.endsWith(".class")) {
+                entries.add(cleanupSpringBootClassName(name));
+            }
+        };
     }
 
     @Override
@@ -80,7 +141,16 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
 
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath, boolean inspectNestedJars, boolean closeStream) {
         List<String> entries = new ArrayList<>();
+        try {
+            loadJarClassEntries(entries, stream, urlPath, inspectNestedJars, closeStream);
+        } catch (IOException ioe) {
+            LOG.warn("Cannot search jar file '" + urlPath + " due to an IOException: " + ioe.getMessage() + ". This exception is ignored.", ioe);
+        }
+        return entries;
+    }
 
+    private void loadJarClassEntries(List<String> entries, InputStream stream, String urlPath, boolean inspectNestedJars, boolean closeStream)
+            throws IOException {
         JarInputStream jarStream = null;
         try {
             jarStream = new JarInputStream(stream);
@@ -100,16 +170,12 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
                     entries.addAll(nestedEntries);
                 }
             }
-        } catch (IOException ioe) {
-            LOG.warn("Cannot search jar file '" + urlPath + " due to an IOException: " + ioe.getMessage() + ". This exception is ignored.", ioe);
         } finally {
             if (closeStream) {
                 // stream is left open when scanning nested jars, otherwise the fat jar stream gets closed
                 IOHelper.close(jarStream, urlPath, LOG);
             }
         }
-
-        return entries;
     }
 
     private boolean isSpringBootNestedJar(String name) {
@@ -22,6 +22,7 @@ import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -49,6 +50,30 @@ public class FatJarPackageScanResourceResolver extends DefaultPackageScanResourc
 
     @Override
     protected List<String> doLoadImplementationsInJar(String packageName, InputStream stream, String urlPath) {
+        File file = new File(urlPath);
+        if (file.isFile()) {
+            // jump straight to the matching entries using the central directory of the jar and its nested jars
+            List<String> entries = new ArrayList<>();
+            try {
+                boolean scanned = FatJarScanner.scan(file, this::isSpringBootNestedJar, name -> {
+                    if (!name.endsWith(".class")) {
+                        name = cleanupSpringBootClassName(name);
+                        // name is FQN so it must start with package name
+                        if (name.startsWith(packageName)) {
+                            entries.add(name);
+                        }
+                    }
+                });
+                if (scanned) {
+                    IOHelper.close(stream, urlPath, LOG);
+                    return entries;
+                }
+            } catch (IOException e) {
+                LOG.debug("Cannot read the central directory of jar file: {} due to: {}. Reading the jar sequentially instead.",
+                        urlPath, e.getMessage(), e);
+            }
+        }
+
         return doLoadImplementationsInJar(packageName,  stream, urlPath, true, true);
     }
 
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent index of the entries of a (fat) jar file, so the jar and its nested jars do not have to be read again
+ * when the application is restarted.
+ * <p/>
+ * The index is stored in a directory as a text file where the entries are grouped by package: a package line ends
+ * with a slash, and is followed by the names of its entries, each one on its own line starting with a space. The first
+ * line holds a digest of the central directory of the jar, so the index is ignored as soon as the content of the jar
+ * changes, but is still used when the jar is copied or touched (e.g. when building a container image).
+ */
+final class FatJarScanIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FatJarScanIndex.class);
+
+    private static final String HEADER = "# camel-spring-boot scan index ";
+
+    private final Path file;
+    private final String key;
+
+    private FatJarScanIndex(Path file, String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * Creates the index of the given jar file.
+     *
+     * @param directory the directory where the indexes are stored
+     * @param kind      the kind of entries in the index, as a jar can be indexed by several resolvers
+     * @param urlPath   the path of the jar file
+     * @return the index, or <tt>null</tt> if the path does not refer to a jar file on the file system whose central
+     *         directory can be read
+     */
+    static FatJarScanIndex forJar(String directory, String kind, String urlPath) {
+        File jar = new File(urlPath);
+        if (!jar.isFile()) {
+            return null;
+        }
+        String key;
+        try {
+            key = FatJarScanner.digest(jar);
+        } catch (IOException e) {
+            LOG.debug("Cannot read the central directory of jar file: {} due to: {}. The jar is not indexed.",
+                    urlPath, e.getMessage(), e);
+            return null;
+        }
+        if (key == null) {
+            return null;
+        }
+        String name = jar.getName() + "-" + kind + "-" + key.substring(0, 16) + ".idx";
+        return new FatJarScanIndex(new File(directory, name).toPath(), key);
+    }
+
+    /**
+     * Loads the entries from the index.
+     *
+     * @return the entries, or <tt>null</tt> if there is no index for the current version of the jar
+     */
+    List<String> load() {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null || !line.equals(HEADER + key)) {
+                LOG.debug("Ignoring outdated scan index: {}", file);
+                return null;
+            }
+            List<String> entries = new ArrayList<>();
+            String pkg = "";
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(" ")) {
+                    entries.add(pkg + line.substring(1));
+                } else {
+                    pkg = line;
+                }
+            }
+            LOG.debug("Loaded {} entries from scan index: {}", entries.size(), file);
+            return entries;
+        } catch (IOException e) {
+            LOG.debug("Cannot read scan index: {} due to: {}. This exception is ignored.", file, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the entries in the index.
+     *
+     * @param entries the entries of the jar
+     */
+    void store(List<String> entries) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // write to a temporary file first so concurrent readers never see a partial index
+            tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER + key);
+                writer.newLine();
+                String pkg = null;
+                for (String entry : entries) {
+                    int pos = entry.lastIndexOf('/');
+                    String current = entry.substring(0, pos + 1);
+                    if (!current.equals(pkg)) {
+                        pkg = current;
+                        writer.write(pkg);
+                        writer.newLine();
+                    }
+                    writer.write(' ');
+                    writer.write(entry, pos + 1, entry.length() - pos - 1);
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+            LOG.debug("Stored {} entries in scan index: {}", entries.size(), file);
+        } catch (IOException e) {
+            LOG.debug("Cannot write scan index: {} due to: {}. This exception is ignored.", file, e.getMessage(), e);
+        } finally {
+            if (tmp != null) {
+                // the index could not be written or moved in place
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    LOG.debug("Cannot delete temporary scan index: {}. This exception is ignored.", tmp, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lists the entries of a Spring Boot fat jar, and of its nested jars, by reading the central directory of the zip
+ * archives instead of inflating them entry by entry.
+ * <p/>
+ * The fat jar is memory mapped, so only the central directories are actually read from disk. Nested jars are stored
+ * uncompressed by Spring Boot, so their own central directory is read in place from the mapped fat jar. A nested jar
+ * that is compressed is inflated and read sequentially as a fallback.
+ */
+final class FatJarScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FatJarScanner.class);
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int CEN_SIZE = 46;
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int LOC_SIZE = 30;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int ZIP64_MAGIC = 0xFFFFFFFF;
+
+    private FatJarScanner() {
+    }
+
+    /**
+     * Lists the (file) entries of the given jar, and of its nested jars.
+     *
+     * @param  file        the jar file
+     * @param  nestedJar   whether an entry of the jar is a nested jar whose entries should be listed as well
+     * @param  visitor     called with the name of each entry that is not a directory, nor a nested jar
+     * @return             <tt>false</tt> if the jar cannot be read by this scanner (e.g. a zip64 archive), and
+     *                     nothing was visited, so the jar should be scanned using a {@link JarInputStream} instead
+     * @throws IOException is thrown if the jar cannot be read
+     */
+    static boolean scan(File file, Predicate<String> nestedJar, Consumer<String> visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return false;
+            }
+            ByteBuffer jar = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            Archive archive = Archive.read(jar);
+            if (archive == null) {
+                return false;
+            }
+
+            for (int pos = archive.start; pos < archive.end; pos = nextEntry(jar, pos)) {
+                String name = entryName(jar, pos);
+                if (name.endsWith("/")) {
+                    continue;
+                }
+                if (nestedJar.test(name)) {
+                    LOG.trace("Inspecting nested jar: {}!/{}", file, name);
+                    scanNested(jar, archive, pos, name, visitor);
+                } else {
+                    visitor.accept(name);
+                }
+            }
+            return true;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Invalid jar file: " + file, e);
+        }
+    }
+
+    /**
+     * Computes a digest of the central directory of the given jar. The central directory holds the name, size and CRC
+     * of every entry, so the digest changes as soon as the content of the jar changes, but not when the jar is only
+     * copied or touched.
+     *
+     * @param  file        the jar file
+     * @return             the digest as a hex string, or <tt>null</tt> if the jar cannot be read by this scanner (e.g.
+     *                     a zip64 archive)
+     * @throws IOException is thrown if the jar cannot be read
+     */
+    static String digest(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer jar = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            Archive archive = Archive.read(jar);
+            if (archive == null) {
+                return null;
+            }
+
+            // the central directory and the end of central directory record
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(jar.slice(archive.start, archive.end + EOCD_SIZE - archive.start));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Invalid jar file: " + file, e);
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void scanNested(ByteBuffer jar, Archive archive, int pos, String name, Consumer<String> visitor)
+            throws IOException {
+        int method = Short.toUnsignedInt(jar.getShort(pos + 10));
+        int compressedSize = jar.getInt(pos + 20);
+        int localHeader = archive.offset(jar.getInt(pos + 42));
+        if (compressedSize == ZIP64_MAGIC || localHeader < 0 || localHeader + LOC_SIZE > jar.limit()
+                || jar.getInt(localHeader) != LOC_SIGNATURE) {
+            throw new IOException("Invalid nested jar entry: " + name);
+        }
+        int data = localHeader + LOC_SIZE + Short.toUnsignedInt(jar.getShort(localHeader + 26))
+                   + Short.toUnsignedInt(jar.getShort(localHeader + 28));
+        if (data + compressedSize > jar.limit()) {
+            throw new IOException("Invalid nested jar entry: " + name);
+        }
+
+        ByteBuffer nested = jar.slice(data, compressedSize).order(ByteOrder.LITTLE_ENDIAN);
+        if (method == STORED) {
+            Archive nestedArchive = Archive.read(nested);
+            if (nestedArchive != null) {
+                for (int p = nestedArchive.start; p < nestedArchive.end; p = nextEntry(nested, p)) {
+                    String entry = entryName(nested, p);
+                    if (!entry.endsWith("/")) {
+                        visitor.accept(entry);
+                    }
+                }
+                return;
+            }
+        }
+
+        // not a layout we can read in place, so read it sequentially
+        InputStream is = new ByteBufferInputStream(nested);
+        if (method == DEFLATED) {
+            is = new InflaterInputStream(is, new Inflater(true));
+        } else if (method != STORED) {
+            throw new IOException("Unsupported compression method " + method + " for nested jar: " + name);
+        }
+        try (JarInputStream jarStream = new JarInputStream(is)) {
+            JarEntry entry;
+            while ((entry = jarStream.getNextJarEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    visitor.accept(entry.getName().trim());
+                }
+            }
+        }
+    }
+
+    private static int nextEntry(ByteBuffer buffer, int pos) {
+        return pos + CEN_SIZE + Short.toUnsignedInt(buffer.getShort(pos + 28))
+               + Short.toUnsignedInt(buffer.getShort(pos + 30)) + Short.toUnsignedInt(buffer.getShort(pos + 32));
+    }
+
+    private static String entryName(ByteBuffer buffer, int pos) throws IOException {
+        if (buffer.getInt(pos) != CEN_SIGNATURE) {
+            throw new IOException("Invalid central directory entry at offset " + pos);
+        }
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort(pos + 28))];
+        buffer.get(pos + CEN_SIZE, name);
+        return new String(name, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * The location of the central directory of a zip archive.
+     */
+    private static final class Archive {
+
+        // the position of the archive in the buffer, as a launch script may be prepended to the fat jar
+        private final int base;
+        private final int start;
+        private final int end;
+
+        private Archive(int base, int start, int end) {
+            this.base = base;
+            this.start = start;
+            this.end = end;
+        }
+
+        int offset(int offset) {
+            return offset == ZIP64_MAGIC ? -1 : base + offset;
+        }
+
+        static Archive read(ByteBuffer buffer) {
+            int limit = buffer.limit();
+            // the end of central directory record is followed by a comment of at most 64k
+            int min = Math.max(0, limit - EOCD_SIZE - 0xFFFF);
+            for (int pos = limit - EOCD_SIZE; pos >= min; pos--) {
+                if (buffer.getInt(pos) != EOCD_SIGNATURE) {
+                    continue;
+                }
+                int entries = Short.toUnsignedInt(buffer.getShort(pos + 10));
+                int size = buffer.getInt(pos + 12);
+                int offset = buffer.getInt(pos + 16);
+                if (entries == 0xFFFF || size == ZIP64_MAGIC || offset == ZIP64_MAGIC) {
+                    // zip64 archive
+                    return null;
+                }
+                int start = pos - size;
+                int base = start - offset;
+                if (start < 0 || base < 0) {
+                    return null;
+                }
+                return new Archive(base, start, pos);
+            }
+            return null;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
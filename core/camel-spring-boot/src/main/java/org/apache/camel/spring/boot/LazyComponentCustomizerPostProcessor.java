@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Component;
+import org.apache.camel.spi.ComponentCustomizer;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Defers the creation of the component customizers generated for the Camel starters until a component of their type
+ * is added to the CamelContext (<tt>camel.springboot.lazy-components=true</tt>).
+ * <p/>
+ * Camel looks up all the {@link ComponentCustomizer} beans each time a component is added, which creates every
+ * customizer, and therefore every component auto configuration and component configuration, of all the starters on
+ * the classpath. This post processor removes the customizer bean definitions marked with
+ * {@link ComponentCustomizerBean}, and registers a placeholder customizer in their place. The customizers of a
+ * component are created (in a child bean factory, as the application bean factory is frozen by then) by a
+ * {@link ComponentCustomizer.Policy}, which Camel calls before sorting the customizers, so the placeholders delegate
+ * to them and are sorted by their own order together with the other customizers.
+ */
+public class LazyComponentCustomizerPostProcessor implements BeanDefinitionRegistryPostProcessor {
+
+    public static final String LAZY_COMPONENT_CUSTOMIZER_POLICY = "camelLazyComponentCustomizerPolicy";
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyComponentCustomizerPostProcessor.class);
+
+    // the customizer bean definitions per component class name
+    private final Map<String, Map<String, BeanDefinition>> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        int count = 0;
+        for (String name : registry.getBeanDefinitionNames()) {
+            BeanDefinition definition = registry.getBeanDefinition(name);
+            String component = customizedComponent(definition);
+            if (component != null) {
+                registry.removeBeanDefinition(name);
+                String factoryBeanName = definition.getFactoryBeanName();
+                if (factoryBeanName != null && registry.containsBeanDefinition(factoryBeanName)) {
+                    registry.getBeanDefinition(factoryBeanName).setLazyInit(true);
+                }
+                pending.computeIfAbsent(component, k -> new LinkedHashMap<>()).put(name, definition);
+                count++;
+            }
+        }
+
+        if (registry instanceof ConfigurableListableBeanFactory beanFactory) {
+            // the component configurations are only needed by the customizers
+            for (String name : registry.getBeanDefinitionNames()) {
+                BeanDefinition definition = registry.getBeanDefinition(name);
+                if (isComponentConfiguration(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        }
+
+        LOG.debug("Deferring the creation of {} component customizers", count);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        LazyComponentCustomizers customizers = new LazyComponentCustomizers(beanFactory);
+        beanFactory.registerSingleton(LAZY_COMPONENT_CUSTOMIZER_POLICY, customizers);
+        pending.values().forEach(definitions -> definitions.keySet().forEach(
+                name -> beanFactory.registerSingleton(name, new LazyComponentCustomizer(customizers, name))));
+    }
+
+    /**
+     * Number of component customizers that have not been created yet.
+     */
+    public int getPendingSize() {
+        return pending.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static String customizedComponent(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition abd) {
+            MethodMetadata metadata = abd.getFactoryMethodMetadata();
+            if (metadata != null) {
+                // read as string to not load the component class
+                Map<String, Object> attributes
+                        = metadata.getAnnotationAttributes(ComponentCustomizerBean.class.getName(), true);
+                return attributes != null ? (String) attributes.get("value") : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isComponentConfiguration(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null || !className.endsWith("ComponentConfiguration")) {
+            return false;
+        }
+        try {
+            Class<?> type = ClassUtils.forName(className, beanFactory.getBeanClassLoader());
+            return ComponentConfigurationPropertiesCommon.class.isAssignableFrom(type);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates the customizers of a component before Camel looks them up, so the placeholders can be sorted by the
+     * order of the customizers they delegate to.
+     */
+    private final class LazyComponentCustomizers implements ComponentCustomizer.Policy {
+
+        private final ConfigurableListableBeanFactory parent;
+        // the customizers created so far per bean name
+        private final Map<String, ComponentCustomizer> created = new ConcurrentHashMap<>();
+        private DefaultListableBeanFactory beanFactory;
+
+        private LazyComponentCustomizers(ConfigurableListableBeanFactory parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public boolean test(String name, Component target) {
+            // the generated customizers are enabled for their component class and its sub classes
+            for (Class<?> type = target.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                if (pending.containsKey(type.getName())) {
+                    createCustomizers(type.getName(), name);
+                }
+            }
+            return true;
+        }
+
+        private void createCustomizers(String type, String name) {
+            synchronized (pending) {
+                Map<String, BeanDefinition> definitions = pending.get(type);
+                if (definitions == null) {
+                    return;
+                }
+                DefaultListableBeanFactory factory = beanFactory();
+                Map<String, ComponentCustomizer> answer = new LinkedHashMap<>();
+                for (String beanName : definitions.keySet()) {
+                    answer.put(beanName, factory.getBean(beanName, ComponentCustomizer.class));
+                    LOG.debug("Created component customizer {} for component {}", beanName, name);
+                }
+                created.putAll(answer);
+                pending.remove(type);
+            }
+        }
+
+        private DefaultListableBeanFactory beanFactory() {
+            if (beanFactory == null) {
+                // the customizers are created in a child bean factory, which finds their auto configurations in the
+                // parent, and it is only set up now so the bean post processors (@Autowired, @Value, proxies...) of the
+                // parent have been registered
+                beanFactory = new DefaultListableBeanFactory(parent);
+                beanFactory.copyConfigurationFrom(parent);
+                pending.values().forEach(definitions -> definitions.forEach(beanFactory::registerBeanDefinition));
+            }
+            return beanFactory;
+        }
+    }
+
+    /**
+     * Placeholder of a customizer, which delegates to it once it has been created.
+     */
+    private static final class LazyComponentCustomizer implements ComponentCustomizer {
+
+        private final LazyComponentCustomizers customizers;
+        private final String beanName;
+
+        private LazyComponentCustomizer(LazyComponentCustomizers customizers, String beanName) {
+            this.customizers = customizers;
+            this.beanName = beanName;
+        }
+
+        @Override
+        public boolean isEnabled(String name, Component target) {
+            ComponentCustomizer customizer = customizers.created.get(beanName);
+            return customizer != null && customizer.isEnabled(name, target);
+        }
+
+        @Override
+        public void configure(String name, Component target) {
+            customizers.created.get(beanName).configure(name, target);
+        }
+
+        @Override
+        public int getOrder() {
+            ComponentCustomizer customizer = customizers.created.get(beanName);
+            return customizer != null ? customizer.getOrder() : ComponentCustomizer.super.getOrder();
+        }
+    }
+}
@@ -16,17 +16,46 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.component.properties.DefaultPropertiesParser;
+import org.apache.camel.spring.boot.util.HierarchicalPropertiesCacheInvalidator;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.RandomValuePropertySource;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
 
 /**
  * Extension to {@link DefaultPropertiesParser} that will lookup
  * in Spring via {@link Environment#getProperty(String)}.
+ * <p/>
+ * The outcome of the lookups, including the keys that are not found, can be cached as resolving a property walks all
+ * the property sources of the environment. The cache is cleared when the application context is refreshed, and when
+ * the environment has been changed (<code>EnvironmentChangeEvent</code> from spring-cloud-context). Only the keys
+ * resolved from enumerable property sources, with a value that does not refer to other properties, are cached, so
+ * dynamic values such as <code>random.uuid</code> are looked up each time.
  */
-public class SpringPropertiesParser extends DefaultPropertiesParser {
+public class SpringPropertiesParser extends DefaultPropertiesParser implements ApplicationListener<ApplicationEvent> {
+
+    /**
+     * Default maximum number of keys for which the outcome of the lookup is cached.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
 
     // Members
     private final Environment env;
+    private final ConcurrentHashMap<String, Optional<String>> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean cacheEnabled;
+    private int maxCacheSize = DEFAULT_CACHE_SIZE;
 
     public SpringPropertiesParser(Environment env) {
         this.env = env;
@@ -34,7 +63,113 @@ public class SpringPropertiesParser extends DefaultPropertiesParser {
 
     @Override
     public String customLookup(String key) {
-        return env.getProperty(key);
+        if (!cacheEnabled) {
+            return env.getProperty(key);
+        }
+        Optional<String> answer = cache.get(key);
+        if (answer != null) {
+            hits.increment();
+            return answer.orElse(null);
+        }
+
+        misses.increment();
+        answer = Optional.ofNullable(env.getProperty(key));
+        if (cache.size() < maxCacheSize && isCacheable(key)) {
+            cache.put(key, answer);
+        }
+        return answer.orElse(null);
+    }
+
+    private boolean isCacheable(String key) {
+        if (!(env instanceof ConfigurableEnvironment ce)) {
+            return false;
+        }
+        for (PropertySource<?> source : ce.getPropertySources()) {
+            if (ConfigurationPropertySources.isAttachedConfigurationPropertySource(source)
+                    || source instanceof RandomValuePropertySource && !key.startsWith("random.")) {
+                // the attached source is a view of the others, and random values are only for random.* keys
+                continue;
+            }
+            if (!(source instanceof EnumerablePropertySource)) {
+                // the value may be computed on each lookup
+                return false;
+            }
+            Object value = source.getProperty(key);
+            if (value != null) {
+                // the value may refer to dynamic properties
+                return !value.toString().contains("${");
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent
+                || HierarchicalPropertiesCacheInvalidator.ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+            clearCache();
+        }
+    }
+
+    /**
+     * Whether the outcome of the lookups is cached (disabled by default). The cache should not be enabled if the
+     * property sources of the environment are changed at runtime without publishing an
+     * <code>EnvironmentChangeEvent</code>.
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    /**
+     * Maximum number of keys for which the outcome of the lookup is cached. When the limit is reached the keys that are
+     * not cached yet are looked up in the environment on each call.
+     */
+    public int getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    public void setMaxCacheSize(int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Number of keys currently cached.
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Number of lookups that have been served from the cache.
+     */
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups that had to query the environment.
+     */
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the cache hits and misses counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Clears the cached lookups, for example after a property source has been added to the environment.
+     */
+    public void clearCache() {
+        cache.clear();
     }
 
 }
@@ -20,6 +20,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.TypeConversionException;
@@ -32,8 +35,20 @@ import org.springframework.core.convert.TypeDescriptor;
 
 public class SpringTypeConverter extends TypeConverterSupport {
 
+    /**
+     * Default maximum number of (source type, target type) pairs for which the outcome of the lookup is cached.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    // marker for a pair of types that none of the conversion services can convert
+    private static final Object NO_CONVERSION = new Object();
+
     private final List<ConversionService> conversionServices;
-    private final ConcurrentHashMap<Class<?>, TypeDescriptor> types;
+    private final ConcurrentHashMap<Class<?>, TargetType> types;
+    private final AtomicInteger cacheSize = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private int maxCacheSize = DEFAULT_CACHE_SIZE;
 
     @Autowired
     public SpringTypeConverter(List<ConversionService> conversionServices) {
@@ -43,43 +58,133 @@ public class SpringTypeConverter extends TypeConverterSupport {
 
     @Override
     public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+        final TargetType target = types.computeIfAbsent(type, TargetType::new);
+
         // do not attempt to convert Camel types
-        if (type.getCanonicalName().startsWith("org.apache")) {
+        if (target.camelType) {
             return null;
         }
         
         // do not attempt to convert List -> Map. Ognl expression may use this converter as a fallback expecting null
-        if (type.isAssignableFrom(Map.class) && isArrayOrCollection(value)) {
+        if (target.map && isArrayOrCollection(value)) {
+            return null;
+        }
+
+        final Class<?> sourceClass = value.getClass();
+        final Object found = lookup(sourceClass, target);
+        if (found == NO_CONVERSION) {
             return null;
         }
 
-        TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
-        TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
+        final ConversionService conversionService = (ConversionService) found;
+        final TypeDescriptor sourceType = types.computeIfAbsent(sourceClass, TargetType::new).descriptor;
+        try {
+            return (T)conversionService.convert(value, sourceType, target.descriptor);
+        } catch (ConversionFailedException e) {
+            // if value is a collection or an array the check ConversionService::canConvert
+            // may return true but then the conversion of specific objects may fail
+            //
+            // https://issues.apache.org/jira/browse/CAMEL-10548
+            // https://jira.spring.io/browse/SPR-14971
+            //
+            if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
+                return null;
+            } else {
+                throw new TypeConversionException(value, type, e);
+            }
+        }
+    }
+
+    /**
+     * Maximum number of (source type, target type) pairs for which the selected conversion service, or the fact that
+     * no conversion is possible, is cached. When the limit is reached the outcome of new pairs is computed on each call.
+     */
+    public int getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    public void setMaxCacheSize(int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Number of (source type, target type) pairs currently cached.
+     */
+    public int getCacheSize() {
+        return cacheSize.get();
+    }
+
+    /**
+     * Number of lookups that have been served from the cache.
+     */
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups that had to query the conversion services.
+     */
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the cache hits and misses counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Clears the cached lookups, for example after converters have been added to a conversion service.
+     */
+    public void clearCache() {
+        types.values().forEach(t -> t.sources.clear());
+        cacheSize.set(0);
+    }
 
+    private Object lookup(Class<?> sourceClass, TargetType target) {
+        Object answer = target.sources.get(sourceClass);
+        if (answer != null) {
+            hits.increment();
+            return answer;
+        }
+
+        misses.increment();
+        answer = NO_CONVERSION;
+        final TypeDescriptor sourceType = types.computeIfAbsent(sourceClass, TargetType::new).descriptor;
         for (ConversionService conversionService : conversionServices) {
-            if (conversionService.canConvert(sourceType, targetType)) {
-                try {
-                    return (T)conversionService.convert(value, sourceType, targetType);
-                } catch (ConversionFailedException e) {
-                    // if value is a collection or an array the check ConversionService::canConvert
-                    // may return true but then the conversion of specific objects may fail
-                    //
-                    // https://issues.apache.org/jira/browse/CAMEL-10548
-                    // https://jira.spring.io/browse/SPR-14971
-                    //
-                    if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
-                        return null;
-                    } else {
-                        throw new TypeConversionException(value, type, e);
-                    }
-                }
+            if (conversionService.canConvert(sourceType, target.descriptor)) {
+                answer = conversionService;
+                break;
             }
         }
 
-        return null;
+        if (cacheSize.get() < maxCacheSize && target.sources.putIfAbsent(sourceClass, answer) == null) {
+            cacheSize.incrementAndGet();
+        }
+        return answer;
     }
 
     private boolean isArrayOrCollection(Object value) {
         return value instanceof Collection || value.getClass().isArray();
     }
+
+    /**
+     * The information computed once per type, and the outcome of the lookups for each source type when used as target.
+     */
+    private static final class TargetType {
+        private final TypeDescriptor descriptor;
+        private final boolean camelType;
+        private final boolean map;
+        private final ConcurrentMap<Class<?>, Object> sources = new ConcurrentHashMap<>();
+
+        TargetType(Class<?> type) {
+            String name = type.getCanonicalName();
+            this.descriptor = TypeDescriptor.valueOf(type);
+            this.camelType = name != null && name.startsWith("org.apache");
+            this.map = type.isAssignableFrom(Map.class);
+        }
+    }
 }
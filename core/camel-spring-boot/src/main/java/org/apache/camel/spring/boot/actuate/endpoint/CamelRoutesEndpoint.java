@@ -16,14 +16,26 @@
  */
 package org.apache.camel.spring.boot.actuate.endpoint;
 
+import java.io.IOException;
+import java.util.AbstractCollection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.management.Attribute;
+import javax.management.ObjectName;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Route;
@@ -31,6 +43,9 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StatefulService;
 import org.apache.camel.api.management.ManagedCamelContext;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.support.PatternHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -40,6 +55,10 @@ import org.springframework.lang.Nullable;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 /*
  * Spring Boot Management Endpoint to expose Camel Route information.
@@ -47,9 +66,19 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 @Endpoint(id = "camelroutes")
 public class CamelRoutesEndpoint {
 
+    private static final Map<String, Function<RouteEndpointInfo, Object>> FIELDS = Map.of(
+            "id", RouteEndpointInfo::getId,
+            "group", RouteEndpointInfo::getGroup,
+            "description", RouteEndpointInfo::getDescription,
+            "uptime", RouteEndpointInfo::getUptime,
+            "uptimeMillis", RouteEndpointInfo::getUptimeMillis,
+            "status", RouteEndpointInfo::getStatus,
+            "properties", RouteEndpointInfo::getProperties);
+
     private CamelContext camelContext;
     private ManagedCamelContext managedCamelContext;
     private CamelRoutesEndpointProperties properties;
+    private volatile RoutesSnapshot snapshot;
 
     public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties) {
         this.camelContext = camelContext;
@@ -57,11 +86,54 @@ public class CamelRoutesEndpoint {
         this.properties = properties;
     }
 
-    @ReadOperation
     public List<RouteEndpointInfo> readRoutes() {
         return getRoutesInfo();
     }
 
+    /**
+     * Reads the routes, optionally filtered, paged and projected on some fields.
+     *
+     * @param  offset  number of (matching) routes to skip
+     * @param  limit   maximum number of routes to return
+     * @param  group   only the routes of this group
+     * @param  status  only the routes with this status (such as Started or Stopped)
+     * @param  routeId only the routes whose id matches this pattern (wildcard or regular expression)
+     * @param  fields  comma separated list of the fields to return, all the fields by default
+     * @return         the routes, written one by one as they are serialized
+     */
+    @ReadOperation
+    public RoutesEndpointInfo readRoutes(
+            @Nullable Integer offset, @Nullable Integer limit, @Nullable String group, @Nullable String status,
+            @Nullable String routeId, @Nullable String fields) {
+        if (offset != null && offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + offset);
+        }
+        if (limit != null && limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+        Function<RouteEndpointInfo, Object> projection = projection(fields);
+
+        return new RoutesEndpointInfo(() -> {
+            Stream<RouteEndpointInfo> answer;
+            if (properties.getSnapshotTtl() > 0) {
+                answer = getRoutesSnapshot().stream()
+                        .filter(info -> matches(info.getId(), info.getGroup(), info.getStatus(), group, status, routeId));
+            } else {
+                // filter before building the route information, so only the returned routes are built
+                answer = camelContext.getRoutes().stream()
+                        .filter(route -> matches(route.getId(), route.getGroup(), statusOf(route), group, status, routeId))
+                        .map(RouteEndpointInfo::new);
+            }
+            if (offset != null) {
+                answer = answer.skip(offset);
+            }
+            if (limit != null) {
+                answer = answer.limit(limit);
+            }
+            return answer.map(projection);
+        });
+    }
+
     @ReadOperation
     public Object doReadAction(@Selector String id, @Selector ReadAction action) {
         switch (action) {
@@ -74,6 +146,35 @@ public class CamelRoutesEndpoint {
         }
     }
 
+    /**
+     * Reads the details of all the routes at once, optionally sorted to get the top routes of a given statistic.
+     *
+     * @param  action the read action, only {@link ReadAction#DETAIL} is supported
+     * @param  sort   the statistic to sort the routes by (highest first)
+     * @param  top    maximum number of routes to return
+     * @return        the details of the routes
+     */
+    @ReadOperation
+    public List<RouteDetailsEndpointInfo> doReadAllAction(
+            @Selector ReadAction action, @Nullable DetailsSort sort, @Nullable Integer top) {
+        if (action != ReadAction.DETAIL) {
+            throw new IllegalArgumentException("Unsupported read action " + action);
+        }
+        if (top != null && top < 0) {
+            throw new IllegalArgumentException("Top must not be negative: " + top);
+        }
+
+        Stream<RouteDetailsEndpointInfo> answer = camelContext.getRoutes().stream()
+                .map(route -> new RouteDetailsEndpointInfo(camelContext, route));
+        if (sort != null) {
+            answer = answer.sorted(sort.comparator);
+        }
+        if (top != null) {
+            answer = answer.limit(top);
+        }
+        return answer.collect(Collectors.toList());
+    }
+
     @WriteOperation
     public void doWriteAction(@Selector String id, @Selector WriteAction action, @Nullable TimeInfo timeInfo) {
         if (this.properties.isReadOnly()) {
@@ -122,6 +223,61 @@ public class CamelRoutesEndpoint {
                 .collect(Collectors.toList());
     }
 
+    private List<RouteEndpointInfo> getRoutesSnapshot() {
+        long now = System.nanoTime();
+        RoutesSnapshot current = snapshot;
+        if (current == null || now - current.created() >= TimeUnit.MILLISECONDS.toNanos(properties.getSnapshotTtl())) {
+            // concurrent requests may both refresh the snapshot, which is harmless
+            current = new RoutesSnapshot(now, Collections.unmodifiableList(getRoutesInfo()));
+            snapshot = current;
+        }
+        return current.routes();
+    }
+
+    private static boolean matches(
+            String id, String group, String status, String expectedGroup, String expectedStatus, String idPattern) {
+        if (expectedGroup != null && !expectedGroup.equals(group)) {
+            return false;
+        }
+        if (expectedStatus != null && !expectedStatus.equalsIgnoreCase(status)) {
+            return false;
+        }
+        return idPattern == null || PatternHelper.matchPattern(id, idPattern);
+    }
+
+    private static Function<RouteEndpointInfo, Object> projection(String fields) {
+        if (ObjectHelper.isEmpty(fields)) {
+            return info -> info;
+        }
+        Map<String, Function<RouteEndpointInfo, Object>> getters = new LinkedHashMap<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            Function<RouteEndpointInfo, Object> getter = FIELDS.get(name);
+            if (getter == null) {
+                throw new IllegalArgumentException(
+                        String.format("Unsupported field %s, supported fields are %s", name, FIELDS.keySet()));
+            }
+            getters.put(name, getter);
+        }
+        return info -> {
+            Map<String, Object> answer = new LinkedHashMap<>();
+            getters.forEach((name, getter) -> {
+                Object value = getter.apply(info);
+                if (ObjectHelper.isNotEmpty(value)) {
+                    answer.put(name, value);
+                }
+            });
+            return answer;
+        };
+    }
+
+    private static String statusOf(Route route) {
+        if (route instanceof StatefulService) {
+            return ((StatefulService) route).getStatus().name();
+        }
+        return null;
+    }
+
     private RouteDetailsEndpointInfo getRouteDetailsInfo(String id) {
         Route route = camelContext.getRoute(id);
         if (route != null) {
@@ -210,11 +366,7 @@ public class CamelRoutesEndpoint {
                 this.properties = Collections.emptyMap();
             }
 
-            if (route instanceof StatefulService) {
-                this.status = ((StatefulService) route).getStatus().name();
-            } else {
-                this.status = null;
-            }
+            this.status = statusOf(route);
         }
 
         public String getId() {
@@ -246,6 +398,52 @@ public class CamelRoutesEndpoint {
         }
     }
 
+    /*
+     * The routes returned by the endpoint. The routes are not collected in a list but written one by one to the
+     * response, so only the route being written is held in memory.
+     */
+    @JsonSerialize(using = RoutesEndpointInfo.Serializer.class)
+    public static class RoutesEndpointInfo extends AbstractCollection<Object> {
+
+        private final Supplier<Stream<Object>> routes;
+
+        RoutesEndpointInfo(Supplier<Stream<Object>> routes) {
+            this.routes = routes;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return routes.get().iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) routes.get().count();
+        }
+
+        static class Serializer extends StdSerializer<RoutesEndpointInfo> {
+
+            private static final long serialVersionUID = 1L;
+
+            Serializer() {
+                super(RoutesEndpointInfo.class);
+            }
+
+            @Override
+            public void serialize(RoutesEndpointInfo value, JsonGenerator gen, SerializerProvider provider)
+                    throws IOException {
+                gen.writeStartArray(value);
+                for (Object route : value) {
+                    provider.defaultSerializeValue(route, gen);
+                }
+                gen.writeEndArray();
+            }
+        }
+    }
+
+    private record RoutesSnapshot(long created, List<RouteEndpointInfo> routes) {
+    }
+
     /*
      * Container for exposing {@link org.apache.camel.Route} information
      * with route details as JSON. Route details are retrieved from JMX.
@@ -258,17 +456,49 @@ public class CamelRoutesEndpoint {
         public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route) {
             super(route);
             if (camelContext.getManagementStrategy().getManagementAgent() != null) {
-                ManagedCamelContext mcc = camelContext.getCamelContextExtension().getContextPlugin(ManagedCamelContext.class);
-                this.routeDetails = new RouteDetails(mcc.getManagedRoute(route.getId(), ManagedRouteMBean.class));
+                this.routeDetails = new RouteDetails(readAttributes(camelContext, route));
+            }
+        }
+
+        RouteDetails getRouteDetails() {
+            return routeDetails;
+        }
+
+        /*
+         * Reads all the attributes of the route MBean in a single call to the MBean server,
+         * rather than one call per attribute through a MBean proxy.
+         */
+        private static Map<String, Object> readAttributes(CamelContext camelContext, Route route) {
+            Map<String, Object> answer = new HashMap<>();
+            try {
+                ManagementStrategy strategy = camelContext.getManagementStrategy();
+                ObjectName name = strategy.getManagementObjectNameStrategy().getObjectNameForRoute(route);
+                for (Attribute attribute : strategy.getManagementAgent().getMBeanServer()
+                        .getAttributes(name, RouteDetails.ATTRIBUTES).asList()) {
+                    answer.put(attribute.getName(), attribute.getValue());
+                }
+            } catch (Exception e) {
+                // Ignore
             }
+            return answer;
         }
 
         @JsonInclude(JsonInclude.Include.NON_EMPTY)
         static class RouteDetails {
 
+            static final String[] ATTRIBUTES = {
+                    "DeltaProcessingTime", "ExchangesInflight", "ExchangesTotal", "ExchangesFailed",
+                    "ExternalRedeliveries", "FailuresHandled", "FirstExchangeCompletedExchangeId",
+                    "FirstExchangeCompletedTimestamp", "FirstExchangeFailureExchangeId", "FirstExchangeFailureTimestamp",
+                    "LastExchangeCompletedExchangeId", "LastExchangeCompletedTimestamp", "LastExchangeFailureExchangeId",
+                    "LastExchangeFailureTimestamp", "LastProcessingTime", "Load01", "Load05", "Load15",
+                    "MaxProcessingTime", "MeanProcessingTime", "MinProcessingTime", "OldestInflightDuration",
+                    "OldestInflightExchangeId", "Redeliveries", "TotalProcessingTime", "HasRouteController" };
+
             private long deltaProcessingTime;
             private long exchangesInflight;
             private long exchangesTotal;
+            private long exchangesFailed;
             private long externalRedeliveries;
             private long failuresHandled;
             private String firstExchangeCompletedExchangeId;
@@ -292,36 +522,37 @@ public class CamelRoutesEndpoint {
             private long totalProcessingTime;
             private boolean hasRouteController;
 
-            RouteDetails(ManagedRouteMBean managedRoute) {
-                try {
-                    this.deltaProcessingTime = managedRoute.getDeltaProcessingTime();
-                    this.exchangesInflight = managedRoute.getExchangesInflight();
-                    this.exchangesTotal = managedRoute.getExchangesTotal();
-                    this.externalRedeliveries = managedRoute.getExternalRedeliveries();
-                    this.failuresHandled = managedRoute.getFailuresHandled();
-                    this.firstExchangeCompletedExchangeId = managedRoute.getFirstExchangeCompletedExchangeId();
-                    this.firstExchangeCompletedTimestamp = managedRoute.getFirstExchangeCompletedTimestamp();
-                    this.firstExchangeFailureExchangeId = managedRoute.getFirstExchangeFailureExchangeId();
-                    this.firstExchangeFailureTimestamp = managedRoute.getFirstExchangeFailureTimestamp();
-                    this.lastExchangeCompletedExchangeId = managedRoute.getLastExchangeCompletedExchangeId();
-                    this.lastExchangeCompletedTimestamp = managedRoute.getLastExchangeCompletedTimestamp();
-                    this.lastExchangeFailureExchangeId = managedRoute.getLastExchangeFailureExchangeId();
-                    this.lastExchangeFailureTimestamp = managedRoute.getLastExchangeFailureTimestamp();
-                    this.lastProcessingTime = managedRoute.getLastProcessingTime();
-                    this.load01 = managedRoute.getLoad01();
-                    this.load05 = managedRoute.getLoad05();
-                    this.load15 = managedRoute.getLoad15();
-                    this.maxProcessingTime = managedRoute.getMaxProcessingTime();
-                    this.meanProcessingTime = managedRoute.getMeanProcessingTime();
-                    this.minProcessingTime = managedRoute.getMinProcessingTime();
-                    this.oldestInflightDuration = managedRoute.getOldestInflightDuration();
-                    this.oldestInflightExchangeId = managedRoute.getOldestInflightExchangeId();
-                    this.redeliveries = managedRoute.getRedeliveries();
-                    this.totalProcessingTime = managedRoute.getTotalProcessingTime();
-                    this.hasRouteController = managedRoute.getHasRouteController();
-                } catch (Exception e) {
-                    // Ignore
-                }
+            RouteDetails(Map<String, Object> attributes) {
+                this.deltaProcessingTime = longValue(attributes.get("DeltaProcessingTime"));
+                this.exchangesInflight = longValue(attributes.get("ExchangesInflight"));
+                this.exchangesTotal = longValue(attributes.get("ExchangesTotal"));
+                this.exchangesFailed = longValue(attributes.get("ExchangesFailed"));
+                this.externalRedeliveries = longValue(attributes.get("ExternalRedeliveries"));
+                this.failuresHandled = longValue(attributes.get("FailuresHandled"));
+                this.firstExchangeCompletedExchangeId = (String) attributes.get("FirstExchangeCompletedExchangeId");
+                this.firstExchangeCompletedTimestamp = (Date) attributes.get("FirstExchangeCompletedTimestamp");
+                this.firstExchangeFailureExchangeId = (String) attributes.get("FirstExchangeFailureExchangeId");
+                this.firstExchangeFailureTimestamp = (Date) attributes.get("FirstExchangeFailureTimestamp");
+                this.lastExchangeCompletedExchangeId = (String) attributes.get("LastExchangeCompletedExchangeId");
+                this.lastExchangeCompletedTimestamp = (Date) attributes.get("LastExchangeCompletedTimestamp");
+                this.lastExchangeFailureExchangeId = (String) attributes.get("LastExchangeFailureExchangeId");
+                this.lastExchangeFailureTimestamp = (Date) attributes.get("LastExchangeFailureTimestamp");
+                this.lastProcessingTime = longValue(attributes.get("LastProcessingTime"));
+                this.load01 = (String) attributes.get("Load01");
+                this.load05 = (String) attributes.get("Load05");
+                this.load15 = (String) attributes.get("Load15");
+                this.maxProcessingTime = longValue(attributes.get("MaxProcessingTime"));
+                this.meanProcessingTime = longValue(attributes.get("MeanProcessingTime"));
+                this.minProcessingTime = longValue(attributes.get("MinProcessingTime"));
+                this.oldestInflightDuration = (Long) attributes.get("OldestInflightDuration");
+                this.oldestInflightExchangeId = (String) attributes.get("OldestInflightExchangeId");
+                this.redeliveries = longValue(attributes.get("Redeliveries"));
+                this.totalProcessingTime = longValue(attributes.get("TotalProcessingTime"));
+                this.hasRouteController = Boolean.TRUE.equals(attributes.get("HasRouteController"));
+            }
+
+            private static long longValue(Object value) {
+                return value instanceof Number ? ((Number) value).longValue() : 0;
             }
 
             public long getDeltaProcessingTime() {
@@ -336,6 +567,10 @@ public class CamelRoutesEndpoint {
                 return exchangesTotal;
             }
 
+            public long getExchangesFailed() {
+                return exchangesFailed;
+            }
+
             public long getExternalRedeliveries() {
                 return externalRedeliveries;
             }
@@ -445,6 +680,23 @@ public class CamelRoutesEndpoint {
         INFO
     }
 
+    /*
+     * Statistics the route details can be sorted by, highest first
+     */
+    public enum DetailsSort {
+        MEAN_PROCESSING_TIME(RouteDetailsEndpointInfo.RouteDetails::getMeanProcessingTime),
+        MAX_PROCESSING_TIME(RouteDetailsEndpointInfo.RouteDetails::getMaxProcessingTime),
+        FAILURES(RouteDetailsEndpointInfo.RouteDetails::getExchangesFailed),
+        INFLIGHT(RouteDetailsEndpointInfo.RouteDetails::getExchangesInflight);
+
+        private final Comparator<RouteDetailsEndpointInfo> comparator;
+
+        DetailsSort(ToLongFunction<RouteDetailsEndpointInfo.RouteDetails> statistic) {
+            this.comparator = Comparator.<RouteDetailsEndpointInfo> comparingLong(
+                    info -> info.getRouteDetails() != null ? statistic.applyAsLong(info.getRouteDetails()) : 0).reversed();
+        }
+    }
+
     /*
      * Optional time information for the actions
      */
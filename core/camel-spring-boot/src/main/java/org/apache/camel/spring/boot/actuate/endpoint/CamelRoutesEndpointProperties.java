@@ -27,6 +27,12 @@ public class CamelRoutesEndpointProperties {
      */
     private boolean readOnly = true;
 
+    /**
+     * Time in milliseconds the list of routes is cached for, so frequent polling of the Camel Routes actuator does
+     * not build the information of all the routes on every request (such as 1000). The cache is disabled by default.
+     */
+    private long snapshotTtl;
+
     public boolean isReadOnly() {
         return readOnly;
     }
@@ -34,5 +40,13 @@ public class CamelRoutesEndpointProperties {
     public void setReadOnly(boolean readOnly) {
         this.readOnly = readOnly;
     }
+
+    public long getSnapshotTtl() {
+        return snapshotTtl;
+    }
+
+    public void setSnapshotTtl(long snapshotTtl) {
+        this.snapshotTtl = snapshotTtl;
+    }
     
 }
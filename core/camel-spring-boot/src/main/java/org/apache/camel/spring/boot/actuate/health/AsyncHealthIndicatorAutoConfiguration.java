@@ -16,22 +16,35 @@
  */
 package org.apache.camel.spring.boot.actuate.health;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.SupervisingRouteController;
 import org.apache.camel.spring.boot.actuate.health.liveness.CamelLivenessStateHealthIndicator;
 import org.apache.camel.spring.boot.actuate.health.readiness.CamelReadinessStateHealthIndicator;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.backoff.BackOffTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthContributorRegistry;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.actuate.health.NamedContributor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Configuration class that replace synchronous Camel Health Checks with asynchronous ones.
@@ -39,6 +52,9 @@ import java.time.ZonedDateTime;
  * This implementation is based on https://github.com/spring-projects/spring-boot/issues/2652 that most probably
  * will be added in spring boot 3.2.x as a new feature in the future.
  *
+ * The health checks are either executed at a fixed delay, or in event-driven mode only when the state of Camel
+ * changes (see {@link HealthStateRefresher}).
+ *
  * TODO: To be refactored once async health contributors feature will be added in spring boot.
  */
 @Configuration
@@ -47,13 +63,16 @@ public class AsyncHealthIndicatorAutoConfiguration implements InitializingBean {
 	private static final Logger log = LoggerFactory.getLogger(AsyncHealthIndicatorAutoConfiguration.class);
 
 	private HealthContributorRegistry healthContributorRegistry;
-	private TaskScheduler taskScheduler;
+	private ThreadPoolTaskScheduler taskScheduler;
 	private CamelHealthCheckConfigurationProperties config;
+	private ObjectProvider<CamelContext> camelContext;
 
 	public AsyncHealthIndicatorAutoConfiguration(HealthContributorRegistry healthContributorRegistry,
-												 CamelHealthCheckConfigurationProperties config) {
+												 CamelHealthCheckConfigurationProperties config,
+												 ObjectProvider<CamelContext> camelContext) {
 		this.healthContributorRegistry = healthContributorRegistry;
 		this.config = config;
+		this.camelContext = camelContext;
 
 		ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
 		threadPoolTaskScheduler.setPoolSize(config.getHealthCheckPoolSize());
@@ -64,6 +83,17 @@ public class AsyncHealthIndicatorAutoConfiguration implements InitializingBean {
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
+		CamelContext context = camelContext.getIfAvailable();
+		HealthStateRefresher refresher = null;
+		if (config.isHealthCheckEventDriven()) {
+			if (context != null) {
+				refresher = new HealthStateRefresher(context, taskScheduler,
+						TimeUnit.SECONDS.toNanos(config.getHealthCheckMaxAge()));
+			} else {
+				log.warn("Cannot find CamelContext, the Camel health checks are executed at a fixed delay instead");
+			}
+		}
+
 		for (NamedContributor<?> namedContributor : healthContributorRegistry) {
 			final String name = namedContributor.getName();
 			final Object contributor = namedContributor.getContributor();
@@ -77,22 +107,33 @@ public class AsyncHealthIndicatorAutoConfiguration implements InitializingBean {
 				WrappedHealthIndicator wrappedHealthIndicator =
 						new WrappedHealthIndicator(camelHealthCheckIndicator);
 				healthContributorRegistry.registerContributor(name, wrappedHealthIndicator);
-				taskScheduler.scheduleWithFixedDelay(
-						wrappedHealthIndicator, Duration.ofSeconds(config.getHealthCheckFrequency()));
+				if (refresher != null) {
+					refresher.addIndicator(wrappedHealthIndicator);
+				} else {
+					taskScheduler.scheduleWithFixedDelay(
+							wrappedHealthIndicator, Duration.ofSeconds(config.getHealthCheckFrequency()));
+				}
 			}
 		}
+
+		if (refresher != null) {
+			// state changes without a Camel event are looked for at the health check frequency
+			taskScheduler.scheduleWithFixedDelay(refresher, Duration.ofSeconds(config.getHealthCheckFrequency()));
+			ServiceHelper.startService(refresher.notifier);
+			context.getManagementStrategy().addEventNotifier(refresher.notifier);
+		}
 	}
 
 	/**
 	 * Health Check Indicator that executes Health Checks within a Task Scheduler
 	 */
-	private static class WrappedHealthIndicator implements HealthIndicator, Runnable {
+	static class WrappedHealthIndicator implements HealthIndicator, Runnable {
 		private static final String LAST_CHECKED_KEY = "lastChecked";
 		private static final String LAST_DURATION_KEY = "lastDuration";
 
 		private HealthIndicator wrappedHealthIndicator;
 
-		private Health lastHealth;
+		private volatile Health lastHealth;
 
 		public WrappedHealthIndicator(HealthIndicator wrappedHealthIndicator) {
 			this.wrappedHealthIndicator = wrappedHealthIndicator;
@@ -138,4 +179,111 @@ public class AsyncHealthIndicatorAutoConfiguration implements InitializingBean {
 			this.lastHealth = lastHealth;
 		}
 	}
+
+	/**
+	 * Executes the health checks of the wrapped health indicators only when the state of Camel changes, so reading
+	 * the health returns the last (immutable) {@link Health} without executing any health check.
+	 * <p>
+	 * The routes and Camel context lifecycle events (such as a consumer failing to start, or a route restarted by the
+	 * supervising route controller) refresh the health right away. The changes Camel does not publish events for
+	 * (health checks registered or enabled, routes being restarted or exhausted by the supervising route controller)
+	 * are looked for at a fixed delay, which is cheap as no health check is executed. The health is also refreshed
+	 * once it is older than the max age, as some health checks change state without any of the above.
+	 * <p>
+	 * The refreshes are coalesced, so a burst of events (such as all the routes being started) refreshes the health
+	 * once. They are executed one at a time, so an older refresh cannot overwrite the health of a newer one, and an
+	 * event received during a refresh is followed by another refresh.
+	 */
+	static class HealthStateRefresher implements Runnable {
+
+		private final CamelContext camelContext;
+		private final Executor executor;
+		private final long maxAge;
+		private final List<WrappedHealthIndicator> indicators = new ArrayList<>();
+		private final AtomicBoolean pending = new AtomicBoolean();
+		private final AtomicBoolean running = new AtomicBoolean();
+		private final EventNotifierSupport notifier = new EventNotifierSupport() {
+			@Override
+			public void notify(CamelEvent event) throws Exception {
+				refresh();
+			}
+
+			@Override
+			public boolean isEnabled(CamelEvent event) {
+				return event instanceof CamelEvent.RouteEvent
+						|| event instanceof CamelEvent.CamelContextEvent
+						|| event instanceof CamelEvent.ServiceEvent;
+			}
+		};
+		private volatile List<Object> lastState;
+		private volatile long lastRefresh = System.nanoTime();
+
+		HealthStateRefresher(CamelContext camelContext, Executor executor, long maxAge) {
+			this.camelContext = camelContext;
+			this.executor = executor;
+			this.maxAge = maxAge;
+			notifier.setIgnoreExchangeEvents(true);
+			notifier.setIgnoreStepEvents(true);
+		}
+
+		void addIndicator(WrappedHealthIndicator indicator) {
+			indicators.add(indicator);
+		}
+
+		void refresh() {
+			pending.set(true);
+			if (running.compareAndSet(false, true)) {
+				executor.execute(this::doRefresh);
+			}
+		}
+
+		private void doRefresh() {
+			do {
+				try {
+					while (pending.getAndSet(false)) {
+						lastRefresh = System.nanoTime();
+						indicators.forEach(WrappedHealthIndicator::run);
+					}
+				} finally {
+					running.set(false);
+				}
+				// a refresh requested after the last check, but before running is cleared, is not missed
+			} while (pending.get() && running.compareAndSet(false, true));
+		}
+
+		@Override
+		public void run() {
+			List<Object> state = currentState();
+			boolean changed = lastState != null && !lastState.equals(state);
+			lastState = state;
+			if (changed || (maxAge > 0 && System.nanoTime() - lastRefresh >= maxAge)) {
+				refresh();
+			}
+		}
+
+		private List<Object> currentState() {
+			List<Object> state = new ArrayList<>();
+			HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+			if (registry != null) {
+				state.add(registry.isEnabled());
+				registry.stream().forEach(check -> {
+					state.add(check.getId());
+					state.add(check.isEnabled());
+				});
+			}
+			if (camelContext.getRouteController().isSupervising()) {
+				SupervisingRouteController src = camelContext.getRouteController().adapt(SupervisingRouteController.class);
+				for (Route route : src.getRestartingRoutes()) {
+					BackOffTimer.Task task = src.getRestartingRouteState(route.getId());
+					state.add(route.getId());
+					state.add(task != null ? task.getCurrentAttempts() : 0L);
+				}
+				state.add("exhausted");
+				for (Route route : src.getExhaustedRoutes()) {
+					state.add(route.getId());
+				}
+			}
+			return state;
+		}
+	}
 }
@@ -135,7 +135,8 @@ public class CamelHealthCheckAutoConfiguration {
                 }
             }
 
-            return new CamelHealthCheckIndicator(applicationContext, camelContext, config.getExposureLevel());
+            return new CamelHealthCheckIndicator(applicationContext, camelContext, config.getExposureLevel(),
+                    config.getHealthCheckParallelism(), config.getHealthCheckTimeout());
         }
     }
 
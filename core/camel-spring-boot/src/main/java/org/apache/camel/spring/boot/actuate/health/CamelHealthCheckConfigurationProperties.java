@@ -78,6 +78,20 @@ public class CamelHealthCheckConfigurationProperties {
      */
     private String healthCheckThreadNamePrefix = "CamelHealthTaskScheduler";
 
+    /**
+     * Number of threads used to invoke the Camel health checks in parallel, so a slow health check does not delay the
+     * other ones.
+     * <p>
+     * By default (0) the health checks are invoked one after the other
+     */
+    private int healthCheckParallelism;
+
+    /**
+     * Maximum time in milliseconds to wait for a Camel health check invoked in parallel. A health check that does not
+     * complete in time is reported with its last known result (or as UNKNOWN if it never completed).
+     */
+    private long healthCheckTimeout = 5000;
+
     /**
      * Whether Camel Health Checks are executed asynchronously
      * <p>
@@ -85,6 +99,22 @@ public class CamelHealthCheckConfigurationProperties {
      */
     private boolean asyncCamelHealthCheck = false;
 
+    /**
+     * Whether asynchronous Camel Health Checks are executed when the state of Camel changes (such as routes being
+     * started, stopped or restarted, or health checks being registered) rather than at the health check frequency.
+     * The health check frequency is then used to look for the state changes Camel does not publish events for.
+     * <p>
+     * disabled by default
+     */
+    private boolean healthCheckEventDriven = false;
+
+    /**
+     * Maximum age in seconds of the result of the event-driven asynchronous Camel Health Checks. The health checks are
+     * executed once their result is older, even if the state of Camel did not change, as some health checks change
+     * state on their own (such as a consumer failing to poll). Use 0 to only execute the health checks on changes.
+     */
+    private int healthCheckMaxAge = 60;
+
     /**
      * Sets the level of details to exposure as result of invoking health checks. There are the following levels: full,
      * default, oneline
@@ -205,6 +235,38 @@ public class CamelHealthCheckConfigurationProperties {
         this.healthCheckThreadNamePrefix = healthCheckThreadNamePrefix;
     }
 
+    public int getHealthCheckParallelism() {
+        return healthCheckParallelism;
+    }
+
+    public void setHealthCheckParallelism(int healthCheckParallelism) {
+        this.healthCheckParallelism = healthCheckParallelism;
+    }
+
+    public long getHealthCheckTimeout() {
+        return healthCheckTimeout;
+    }
+
+    public void setHealthCheckTimeout(long healthCheckTimeout) {
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    public boolean isHealthCheckEventDriven() {
+        return healthCheckEventDriven;
+    }
+
+    public void setHealthCheckEventDriven(boolean healthCheckEventDriven) {
+        this.healthCheckEventDriven = healthCheckEventDriven;
+    }
+
+    public int getHealthCheckMaxAge() {
+        return healthCheckMaxAge;
+    }
+
+    public void setHealthCheckMaxAge(int healthCheckMaxAge) {
+        this.healthCheckMaxAge = healthCheckMaxAge;
+    }
+
     public boolean isAsyncCamelHealthCheck() {
         return asyncCamelHealthCheck;
     }
@@ -16,12 +16,23 @@
  */
 package org.apache.camel.spring.boot.actuate.health;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.health.HealthCheck;
-import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
 import org.apache.camel.impl.health.AbstractHealthCheck;
 import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.actuate.health.Health;
@@ -30,18 +41,50 @@ import org.springframework.context.ApplicationContext;
 
 /**
  * Camel {@link HealthIndicator}.
+ * <p/>
+ * The health checks are invoked one after the other on the thread requesting the health, unless a parallelism is
+ * configured, in which case they are invoked in parallel on a bounded thread pool. A health check that does not
+ * complete within the timeout is reported with its last known result.
  */
 public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
 
+    static final String INVOCATION_DURATION = "invocation.duration";
+    static final String INVOCATION_TIMEOUT = "invocation.timeout";
+
+    private static final Map<String, Object> OPTIONS = Map.of(HealthCheck.CHECK_KIND, HealthCheck.Kind.ALL);
+
     private final ApplicationContext applicationContext;
     private final CamelContext camelContext;
 
     private final String exposureLevel;
+    private final long timeout;
+    private final ExecutorService executorService;
+    private final Map<HealthCheck, Invocation> invocations = new ConcurrentHashMap<>();
+    private final Map<HealthCheck, HealthCheck.Result> lastResults = new ConcurrentHashMap<>();
 
     public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext, String exposureLevel) {
+        this(applicationContext, camelContext, exposureLevel, 0, 0);
+    }
+
+    /**
+     * @param parallelism number of threads to invoke the health checks in parallel, 0 to invoke them one after the
+     *                    other on the thread requesting the health
+     * @param timeout     maximum time in milliseconds to wait for a health check invoked in parallel, 0 to wait
+     *                    until it completes
+     */
+    public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext, String exposureLevel,
+                                     int parallelism, long timeout) {
         this.applicationContext = applicationContext;
         this.camelContext = camelContext;
         this.exposureLevel = exposureLevel;
+        this.timeout = timeout;
+        if (parallelism > 0) {
+            // the thread pool is shutdown together with the CamelContext
+            this.executorService = camelContext.getExecutorServiceManager()
+                    .newFixedThreadPool(this, "CamelHealthCheck", parallelism);
+        } else {
+            this.executorService = null;
+        }
     }
 
     @Override
@@ -49,7 +92,7 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
         builder.withDetail("name", "camel-health-check");
         builder.up();
 
-        Collection<HealthCheck.Result> results = HealthCheckHelper.invoke(camelContext);
+        Collection<HealthCheck.Result> results = invoke();
 
         for (HealthCheck.Result result : results) {
             Map<String, Object> details = result.getDetails();
@@ -71,4 +114,124 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
         }
     }
 
+    /**
+     * Invokes the health checks, in the same way as
+     * {@link org.apache.camel.health.HealthCheckHelper#invoke(CamelContext)}, also recording the time spent in
+     * each health check.
+     */
+    private Collection<HealthCheck.Result> invoke() throws InterruptedException {
+        HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+        if (registry == null) {
+            return Collections.emptyList();
+        }
+        List<HealthCheck> checks = registry.stream()
+                .filter(check -> !registry.isExcluded(check))
+                .sorted(Comparator.comparingInt(HealthCheck::getOrder))
+                .distinct()
+                .toList();
+
+        List<HealthCheck.Result> results = new ArrayList<>(checks.size());
+        if (executorService == null) {
+            for (HealthCheck check : checks) {
+                long start = System.nanoTime();
+                HealthCheck.Result result = check.call(OPTIONS);
+                results.add(withDuration(result, System.nanoTime() - start));
+            }
+        } else {
+            // start all the health checks before waiting for any of them
+            List<Invocation> started = checks.stream().map(this::submit).toList();
+            for (Invocation invocation : started) {
+                results.add(await(invocation));
+            }
+        }
+        return filter(results, registry.getExposureLevel());
+    }
+
+    private Invocation submit(HealthCheck check) {
+        // a health check still running from a previous request is not invoked again, so a hanging
+        // health check cannot exhaust the thread pool
+        return invocations.compute(check, (key, invocation) -> {
+            if (invocation != null && !invocation.future.isDone()) {
+                return invocation;
+            }
+            return new Invocation(check);
+        });
+    }
+
+    private HealthCheck.Result await(Invocation invocation) throws InterruptedException {
+        HealthCheck check = invocation.check;
+        try {
+            HealthCheck.Result result;
+            if (timeout > 0) {
+                long remaining = invocation.start + TimeUnit.MILLISECONDS.toNanos(timeout) - System.nanoTime();
+                result = invocation.future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            } else {
+                result = invocation.future.get();
+            }
+            return withDuration(result, invocation.duration);
+        } catch (TimeoutException e) {
+            HealthCheck.Result last = lastResults.get(check);
+            HealthCheckResultBuilder builder;
+            if (last != null) {
+                builder = copyOf(last);
+            } else {
+                builder = HealthCheckResultBuilder.on(check).unknown()
+                        .error(new TimeoutException("Health check did not complete within " + timeout + " millis"));
+            }
+            return builder
+                    .detail(INVOCATION_DURATION, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - invocation.start))
+                    .detail(INVOCATION_TIMEOUT, true)
+                    .build();
+        } catch (ExecutionException e) {
+            return HealthCheckResultBuilder.on(check).down().error(e.getCause()).build();
+        }
+    }
+
+    private static HealthCheck.Result withDuration(HealthCheck.Result result, long nanos) {
+        return copyOf(result).detail(INVOCATION_DURATION, TimeUnit.NANOSECONDS.toMillis(nanos)).build();
+    }
+
+    private static HealthCheckResultBuilder copyOf(HealthCheck.Result result) {
+        HealthCheckResultBuilder builder = HealthCheckResultBuilder.on(result.getCheck())
+                .state(result.getState())
+                .details(result.getDetails());
+        result.getMessage().ifPresent(builder::message);
+        result.getError().ifPresent(builder::error);
+        return builder;
+    }
+
+    private static Collection<HealthCheck.Result> filter(List<HealthCheck.Result> results, String exposureLevel) {
+        if (results.isEmpty() || "full".equals(exposureLevel)) {
+            return results;
+        }
+        List<HealthCheck.Result> downs = results.stream()
+                .filter(result -> result.getState() == HealthCheck.State.DOWN)
+                .toList();
+        if (!downs.isEmpty()) {
+            return "oneline".equals(exposureLevel) ? List.of(downs.get(0)) : downs;
+        }
+        return List.of(results.get(0));
+    }
+
+    /**
+     * A health check invoked on the thread pool.
+     */
+    private final class Invocation {
+
+        private final HealthCheck check;
+        private final long start = System.nanoTime();
+        private final CompletableFuture<HealthCheck.Result> future;
+        private volatile long duration;
+
+        private Invocation(HealthCheck check) {
+            this.check = check;
+            this.future = CompletableFuture.supplyAsync(() -> {
+                HealthCheck.Result result = check.call(OPTIONS);
+                duration = System.nanoTime() - start;
+                lastResults.put(check, result);
+                return result;
+            }, executorService);
+        }
+    }
+
 }
@@ -18,12 +18,15 @@ package org.apache.camel.spring.boot.actuate.info;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.util.CamelConditionEvaluationReport;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.info.ConditionalOnEnabledInfoContributor;
 import org.springframework.boot.actuate.info.InfoContributor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -31,6 +34,7 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnClass({InfoContributor.class})
 @ConditionalOnBean(CamelAutoConfiguration.class)
 @AutoConfigureAfter(CamelAutoConfiguration.class)
+@EnableConfigurationProperties(CamelInfoContributorProperties.class)
 public class CamelInfoAutoConfiguration {
 
     @ConditionalOnClass({CamelContext.class})
@@ -39,8 +43,11 @@ public class CamelInfoAutoConfiguration {
     protected static class CamelInfoContributorInitializer {
 
         @Bean
-        public InfoContributor camelInfoContributor(CamelContext camelContext) {
-            return new CamelInfoContributor(camelContext);
+        public InfoContributor camelInfoContributor(CamelContext camelContext, CamelInfoContributorProperties properties,
+                                                    ObjectProvider<CamelConditionEvaluationReport> conditionEvaluationReport) {
+            return new CamelInfoContributor(camelContext,
+                    properties.isConditionsEnabled() ? conditionEvaluationReport.getIfAvailable() : null,
+                    properties.isPropertiesLookupCacheEnabled());
         }
 
     }
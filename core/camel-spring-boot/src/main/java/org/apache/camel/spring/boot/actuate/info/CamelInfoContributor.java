@@ -16,7 +16,13 @@
  */
 package org.apache.camel.spring.boot.actuate.info;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.apache.camel.CamelContext;
+import org.apache.camel.component.properties.PropertiesComponent;
+import org.apache.camel.spring.boot.SpringPropertiesParser;
+import org.apache.camel.spring.boot.util.CamelConditionEvaluationReport;
 import org.apache.camel.support.CamelContextHelper;
 import org.springframework.boot.actuate.info.Info;
 import org.springframework.boot.actuate.info.InfoContributor;
@@ -27,9 +33,18 @@ import org.springframework.boot.actuate.info.InfoContributor;
 public class CamelInfoContributor implements InfoContributor {
 
     private final CamelContext camelContext;
+    private final CamelConditionEvaluationReport conditionEvaluationReport;
+    private final boolean propertiesLookupCache;
 
     public CamelInfoContributor(CamelContext camelContext) {
+        this(camelContext, null, false);
+    }
+
+    public CamelInfoContributor(CamelContext camelContext, CamelConditionEvaluationReport conditionEvaluationReport,
+                                boolean propertiesLookupCache) {
         this.camelContext = camelContext;
+        this.conditionEvaluationReport = conditionEvaluationReport;
+        this.propertiesLookupCache = propertiesLookupCache;
     }
 
     @Override
@@ -42,6 +57,30 @@ public class CamelInfoContributor implements InfoContributor {
                 builder.withDetail("camel.uptimeMillis", CamelContextHelper.getUptimeMillis(camelContext));
             }
             builder.withDetail("camel.status", camelContext.getStatus().name());
+            if (propertiesLookupCache && camelContext.getPropertiesComponent() instanceof PropertiesComponent pc
+                    && pc.getPropertiesParser() instanceof SpringPropertiesParser parser && parser.isCacheEnabled()) {
+                Map<String, Object> cache = new LinkedHashMap<>();
+                cache.put("size", parser.getCacheSize());
+                cache.put("hits", parser.getCacheHits());
+                cache.put("misses", parser.getCacheMisses());
+                builder.withDetail("camel.propertiesLookupCache", cache);
+            }
+        }
+        if (conditionEvaluationReport != null) {
+            // time spent evaluating the conditions of the auto configurations (slowest first)
+            Map<String, Object> conditions = new LinkedHashMap<>();
+            conditions.put("evaluations", conditionEvaluationReport.getEvaluations());
+            conditions.put("timeMicros", conditionEvaluationReport.getNanos() / 1000);
+            Map<String, Object> autoConfigurations = new LinkedHashMap<>();
+            for (CamelConditionEvaluationReport.Entry entry : conditionEvaluationReport.getEntries()) {
+                Map<String, Object> details = new LinkedHashMap<>();
+                details.put("evaluations", entry.getEvaluations());
+                details.put("timeMicros", entry.getNanos() / 1000);
+                details.put("match", entry.isMatch());
+                autoConfigurations.put(entry.getSource(), details);
+            }
+            conditions.put("autoConfigurations", autoConfigurations);
+            builder.withDetail("camel.conditions", conditions);
         }
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.info;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("management.info.camel")
+public class CamelInfoContributorProperties {
+
+    /**
+     * Whether to include the time spent evaluating the conditions of the Camel auto configurations (per auto
+     * configuration class) in the Camel info. This is intended for troubleshooting the startup time, and is
+     * disabled by default as it lists all the Camel auto configurations.
+     */
+    private boolean conditionsEnabled;
+
+    /**
+     * Whether to include the statistics of the properties lookup cache (camel.springboot.properties-lookup-cache)
+     * in the Camel info.
+     */
+    private boolean propertiesLookupCacheEnabled;
+
+    public boolean isConditionsEnabled() {
+        return conditionsEnabled;
+    }
+
+    public void setConditionsEnabled(boolean conditionsEnabled) {
+        this.conditionsEnabled = conditionsEnabled;
+    }
+
+    public boolean isPropertiesLookupCacheEnabled() {
+        return propertiesLookupCacheEnabled;
+    }
+
+    public void setPropertiesLookupCacheEnabled(boolean propertiesLookupCacheEnabled) {
+        this.propertiesLookupCacheEnabled = propertiesLookupCacheEnabled;
+    }
+
+}
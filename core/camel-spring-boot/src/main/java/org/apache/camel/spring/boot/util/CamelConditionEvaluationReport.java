@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * Records the time spent evaluating the conditions of the Camel auto configurations (such as the ones generated for
+ * the Camel starters), per auto configuration class.
+ * <p/>
+ * There is one report per bean factory, registered as the {@link #BEAN_NAME} singleton, in the same way Spring Boot
+ * registers its own condition evaluation report.
+ */
+public final class CamelConditionEvaluationReport {
+
+    public static final String BEAN_NAME = "camelConditionEvaluationReport";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private CamelConditionEvaluationReport() {
+    }
+
+    /**
+     * Gets the report of the given bean factory, creating it if needed.
+     *
+     * @param beanFactory the bean factory
+     * @return the report
+     */
+    public static CamelConditionEvaluationReport get(ConfigurableListableBeanFactory beanFactory) {
+        synchronized (beanFactory) {
+            if (beanFactory.containsSingleton(BEAN_NAME)) {
+                return beanFactory.getBean(BEAN_NAME, CamelConditionEvaluationReport.class);
+            }
+            CamelConditionEvaluationReport report = new CamelConditionEvaluationReport();
+            beanFactory.registerSingleton(BEAN_NAME, report);
+            return report;
+        }
+    }
+
+    /**
+     * Records the evaluation of a condition.
+     *
+     * @param context  the condition context
+     * @param metadata the metadata of the annotated class or method
+     * @param nanos    the time spent evaluating the condition
+     * @param match    whether the condition matched
+     */
+    static void record(ConditionContext context, AnnotatedTypeMetadata metadata, long nanos, boolean match) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (beanFactory == null) {
+            return;
+        }
+        String source;
+        if (metadata instanceof ClassMetadata cm) {
+            source = cm.getClassName();
+        } else if (metadata instanceof MethodMetadata mm) {
+            source = mm.getDeclaringClassName();
+        } else {
+            return;
+        }
+        get(beanFactory).entries.computeIfAbsent(source, Entry::new).record(nanos, match);
+    }
+
+    /**
+     * The evaluations, sorted by the time spent (longest first).
+     */
+    public List<Entry> getEntries() {
+        List<Entry> answer = new ArrayList<>(entries.values());
+        answer.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+        return answer;
+    }
+
+    /**
+     * Total number of condition evaluations.
+     */
+    public long getEvaluations() {
+        return entries.values().stream().mapToLong(Entry::getEvaluations).sum();
+    }
+
+    /**
+     * Total time spent evaluating the conditions in nanoseconds.
+     */
+    public long getNanos() {
+        return entries.values().stream().mapToLong(Entry::getNanos).sum();
+    }
+
+    /**
+     * The condition evaluations of an auto configuration class.
+     */
+    public static final class Entry {
+
+        private final String source;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private volatile boolean match = true;
+
+        private Entry(String source) {
+            this.source = source;
+        }
+
+        private void record(long time, boolean matched) {
+            evaluations.increment();
+            nanos.add(time);
+            if (!matched) {
+                match = false;
+            }
+        }
+
+        /**
+         * The auto configuration class.
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Number of conditions evaluated.
+         */
+        public long getEvaluations() {
+            return evaluations.sum();
+        }
+
+        /**
+         * Time spent evaluating the conditions in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * Whether all the conditions matched.
+         */
+        public boolean isMatch() {
+            return match;
+        }
+    }
+}
@@ -98,31 +98,14 @@ public final class CamelPropertiesHelper {
             Map.Entry<String, Object> entry = it.next();
             String name = entry.getKey();
             Object value = entry.getValue();
-            String stringValue = value != null ? value.toString() : null;
-            boolean hit = false;
-            try {
-                hit = PropertyBindingSupport.build()
-                        .withConfigurer(configurer)
-                        .withIgnoreCase(true)
-                        .bind(context, target, name, value);
-            } catch (PropertyBindingException e) {
-                // no we could not and this would be thrown if we attempted to set a value on a property which we cannot do type conversion as
-                // then maybe the value refers to a spring bean in the registry so try this
-                if (stringValue != null) {
-                    if (stringValue.startsWith("#")) {
-                        stringValue = stringValue.substring(1);
-                    }
-                    // use #bean: to lookup
-                    stringValue = "#bean:" + stringValue;
-                    hit = PropertyBindingSupport.build().withIgnoreCase(true).bind(context, target, name, stringValue);
-                }
-            }
+            boolean hit = bindProperty(context, target, configurer, name, value);
 
             if (hit) {
                 // must remove as its a valid option and we could configure it
                 it.remove();
                 rc = true;
             } else if (failIfNotSet) {
+                String stringValue = value != null ? value.toString() : null;
                 throw new IllegalArgumentException("Cannot configure option [" + name + "] with value [" + stringValue
                     + "] as the bean class [" + ObjectHelper.classCanonicalName(target)
                     + "] has no suitable setter method, or not possible to lookup a bean with the id [" + stringValue + "] in Spring Boot registry");
@@ -132,6 +115,47 @@ public final class CamelPropertiesHelper {
         return rc;
     }
 
+    /**
+     * Creates a binder to set the options of a component, one by one, from the getters of its Spring Boot
+     * configuration.
+     * <p/>
+     * This is used by the generated component auto configurations instead of {@link #copyProperties(CamelContext, Object, Object)}
+     * as it does not need to introspect the configuration bean.
+     *
+     * @param camelContext the camel context
+     * @param target       the component to configure
+     * @return the binder
+     */
+    public static ComponentPropertiesBinder bindComponent(CamelContext camelContext, Component target) {
+        ObjectHelper.notNull(camelContext, "camel context");
+        ObjectHelper.notNull(target, "target");
+
+        return new ComponentPropertiesBinder(camelContext, target);
+    }
+
+    static boolean bindProperty(CamelContext context, Object target, PropertyConfigurer configurer, String name, Object value) {
+        String stringValue = value != null ? value.toString() : null;
+        boolean hit = false;
+        try {
+            hit = PropertyBindingSupport.build()
+                    .withConfigurer(configurer)
+                    .withIgnoreCase(true)
+                    .bind(context, target, name, value);
+        } catch (PropertyBindingException e) {
+            // no we could not and this would be thrown if we attempted to set a value on a property which we cannot do type conversion as
+            // then maybe the value refers to a spring bean in the registry so try this
+            if (stringValue != null) {
+                if (stringValue.startsWith("#")) {
+                    stringValue = stringValue.substring(1);
+                }
+                // use #bean: to lookup
+                stringValue = "#bean:" + stringValue;
+                hit = PropertyBindingSupport.build().withIgnoreCase(true).bind(context, target, name, stringValue);
+            }
+        }
+        return hit;
+    }
+
     /**
      * Gets all the non-null properties from the given object,
      *
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.spi.PropertyConfigurer;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * Sets the options of a component from its Spring Boot configuration, one option at a time.
+ * <p/>
+ * Values are set directly through the {@link PropertyConfigurer} of the component. Only when the configurer cannot
+ * set the value, or when the value is a string that may be a property placeholder or a bean reference, the binding
+ * is delegated to {@link CamelPropertiesHelper#setCamelProperties(CamelContext, Object, java.util.Map, boolean)}
+ * semantics. <tt>null</tt> values are ignored.
+ *
+ * @see CamelPropertiesHelper#bindComponent(CamelContext, Component)
+ */
+public final class ComponentPropertiesBinder {
+
+    private final CamelContext camelContext;
+    private final Component target;
+    private final PropertyConfigurer configurer;
+
+    ComponentPropertiesBinder(CamelContext camelContext, Component target) {
+        this.camelContext = camelContext;
+        this.target = target;
+        // the component needs to be initialized to have the configurer ready
+        ServiceHelper.initService(target);
+        this.configurer = target.getComponentPropertyConfigurer();
+    }
+
+    /**
+     * Sets the given option on the component if the value is not <tt>null</tt>.
+     *
+     * @param name  the name of the option
+     * @param value the value, may be <tt>null</tt>
+     * @return this binder
+     */
+    public ComponentPropertiesBinder bind(String name, Object value) {
+        if (value == null) {
+            return this;
+        }
+
+        if (configurer != null && !isReference(value)) {
+            try {
+                if (configurer.configure(camelContext, target, name, value, true)) {
+                    return this;
+                }
+            } catch (Exception e) {
+                // the value cannot be converted to the type of the option, so let property binding
+                // have a go as the value may refer to a bean in the registry
+            }
+        }
+
+        CamelPropertiesHelper.bindProperty(camelContext, target, configurer, name, value);
+        return this;
+    }
+
+    private static boolean isReference(Object value) {
+        if (value instanceof String str) {
+            return str.startsWith("#") || str.contains("{{");
+        }
+        return false;
+    }
+}
@@ -16,21 +16,57 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
-import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.ConfigurationCondition;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches when both the {@link CamelContext} and the {@link CamelAutoConfiguration} beans are registered, which is
+ * the condition of all the Camel starters.
+ * <p/>
+ * The answer is computed once per bean factory for all the starters: as bean definitions are only added while the
+ * auto configurations are processed, once both beans are found the condition matches for all the starters that
+ * follow, without looking up the bean definitions by type again.
+ */
+public class ConditionalOnCamelContextAndAutoConfigurationBeans extends SpringBootCondition implements ConfigurationCondition {
 
-public class ConditionalOnCamelContextAndAutoConfigurationBeans extends AllNestedConditions {
-    public ConditionalOnCamelContextAndAutoConfigurationBeans() {
-        super(ConfigurationPhase.REGISTER_BEAN);
+    private static final Map<ConfigurableListableBeanFactory, Boolean> MATCHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public ConfigurationPhase getConfigurationPhase() {
+        return ConfigurationPhase.REGISTER_BEAN;
     }
 
-    @ConditionalOnBean(CamelContext.class)
-    static class OnCamelContext {
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        long start = System.nanoTime();
+        ConditionMessage.Builder message = ConditionMessage.forCondition("CamelContext and CamelAutoConfiguration beans");
+
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        boolean match = beanFactory != null && (MATCHES.containsKey(beanFactory) || hasBeans(beanFactory));
+        if (match) {
+            MATCHES.put(beanFactory, Boolean.TRUE);
+        }
+
+        CamelConditionEvaluationReport.record(context, metadata, System.nanoTime() - start, match);
+        return match
+            ? ConditionOutcome.match(message.found("beans").items(CamelContext.class.getName(), CamelAutoConfiguration.class.getName()))
+            : ConditionOutcome.noMatch(message.didNotFind("beans").items(CamelContext.class.getName(), CamelAutoConfiguration.class.getName()));
     }
 
-    @ConditionalOnBean(CamelAutoConfiguration.class)
-    static class OnCamelAutoConfiguration {
+    private static boolean hasBeans(ConfigurableListableBeanFactory beanFactory) {
+        return BeanFactoryUtils.beanNamesForTypeIncludingAncestors(beanFactory, CamelContext.class, true, false).length > 0
+            && BeanFactoryUtils.beanNamesForTypeIncludingAncestors(beanFactory, CamelAutoConfiguration.class, true, false).length > 0;
     }
 }
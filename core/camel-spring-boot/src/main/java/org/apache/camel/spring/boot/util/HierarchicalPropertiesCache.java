@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Cache of the resolved "enabled" flags used by {@link HierarchicalPropertiesEvaluator}.
+ *
+ * There is one cache per {@link Environment}, holding the bound value (or the absence of a value) of each
+ * <code>prefix.enabled</code> key that has been looked up. The cache is dropped automatically when property sources
+ * are added to or removed from the environment, and it can be invalidated explicitly when the content of the
+ * property sources changes (see {@link HierarchicalPropertiesCacheInvalidator}).
+ */
+public final class HierarchicalPropertiesCache {
+
+    private static final Map<Environment, HierarchicalPropertiesCache> CACHES
+            = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Optional<Boolean>> values = new ConcurrentHashMap<>();
+    private volatile int stamp;
+
+    private HierarchicalPropertiesCache() {
+    }
+
+    /**
+     * Gets the cache associated to the given environment, creating it if needed.
+     *
+     * @param environment the environment
+     * @return the cache
+     */
+    public static HierarchicalPropertiesCache get(Environment environment) {
+        return CACHES.computeIfAbsent(environment, e -> new HierarchicalPropertiesCache());
+    }
+
+    /**
+     * Invalidates the cache associated to the given environment, if any.
+     *
+     * @param environment the environment
+     */
+    public static void invalidate(Environment environment) {
+        HierarchicalPropertiesCache cache = CACHES.get(environment);
+        if (cache != null) {
+            cache.invalidate();
+        }
+    }
+
+    /**
+     * Gets the value of the key `enabled` for the given prefix.
+     *
+     * @param environment the environment this cache belongs to
+     * @param prefix the prefix
+     * @return the value of the key `enabled` or empty if the key is not set
+     */
+    public Optional<Boolean> getEnabled(Environment environment, String prefix) {
+        int current = computeStamp(environment);
+        if (current != stamp) {
+            // property sources have been added or removed so cached values may be stale
+            values.clear();
+            stamp = current;
+        }
+
+        Optional<Boolean> answer = values.get(prefix);
+        if (answer == null) {
+            String property = prefix.endsWith(".") ? prefix + "enabled" : prefix + ".enabled";
+            Binder binder = Binder.get(environment);
+            answer = Optional.ofNullable(binder.bind(property, Bindable.of(Boolean.class)).orElse(null));
+            values.put(prefix, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Removes all the cached values.
+     */
+    public void invalidate() {
+        values.clear();
+    }
+
+    /**
+     * Number of cached values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private static int computeStamp(Environment environment) {
+        int answer = 1;
+        if (environment instanceof ConfigurableEnvironment cev) {
+            for (PropertySource<?> source : cev.getPropertySources()) {
+                answer = 31 * answer + System.identityHashCode(source);
+            }
+        }
+        return answer;
+    }
+}
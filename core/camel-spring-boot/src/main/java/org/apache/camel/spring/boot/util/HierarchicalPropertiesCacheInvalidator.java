@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * Invalidates the {@link HierarchicalPropertiesCache} when the application context is refreshed or when the
+ * environment has been changed (<code>EnvironmentChangeEvent</code> from spring-cloud-context, which is detected by
+ * name as spring-cloud is an optional dependency).
+ */
+public class HierarchicalPropertiesCacheInvalidator implements ApplicationListener<ApplicationEvent> {
+
+    public static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private final ApplicationContext applicationContext;
+
+    public HierarchicalPropertiesCacheInvalidator(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent refreshed) {
+            if (refreshed.getApplicationContext() == applicationContext) {
+                HierarchicalPropertiesCache.invalidate(applicationContext.getEnvironment());
+            }
+        } else if (ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+            HierarchicalPropertiesCache.invalidate(applicationContext.getEnvironment());
+        }
+    }
+}
@@ -18,8 +18,6 @@ package org.apache.camel.spring.boot.util;
 
 import java.util.Collection;
 
-import org.springframework.boot.context.properties.bind.Bindable;
-import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
@@ -47,6 +45,7 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, String... prefixes) {
+        final HierarchicalPropertiesCache cache = HierarchicalPropertiesCache.get(environment);
         boolean answer = true;
 
         // Loop over all the prefixes to find out the value of the key `enabled`
@@ -55,7 +54,7 @@ public final class HierarchicalPropertiesEvaluator {
             // evaluate the value of the current prefix using the parent one
             // as default value so if the enabled property is not set, the parent
             // one is used.
-            answer = isEnabled(environment, prefix, answer);
+            answer = cache.getEnabled(environment, prefix).orElse(answer);
         }
 
         return answer;
@@ -69,6 +68,7 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, Collection<String> prefixes) {
+        final HierarchicalPropertiesCache cache = HierarchicalPropertiesCache.get(environment);
         boolean answer = true;
 
         // Loop over all the prefixes to find out the value of the key `enabled`
@@ -77,15 +77,9 @@ public final class HierarchicalPropertiesEvaluator {
             // evaluate the value of the current prefix using the parent one
             // as default value so if the enabled property is not set, the parent
             // one is used.
-            answer = isEnabled(environment, prefix, answer);
+            answer = cache.getEnabled(environment, prefix).orElse(answer);
         }
 
         return answer;
     }
-
-    private static boolean isEnabled(Environment environment, String prefix, boolean defaultValue) {
-        String property = prefix.endsWith(".") ? prefix + "enabled" : prefix + ".enabled";
-        Binder binder = Binder.get(environment);
-        return binder.bind(property, Bindable.of(Boolean.class)).orElse(defaultValue);
-    }
 }
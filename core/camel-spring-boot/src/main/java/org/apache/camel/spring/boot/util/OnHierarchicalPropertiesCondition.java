@@ -51,7 +51,11 @@ public class OnHierarchicalPropertiesCondition extends SpringBootCondition {
         final ConditionMessage.Builder message = ConditionMessage.forCondition(values.get(0));
         final Environment environment = context.getEnvironment();
 
-        return HierarchicalPropertiesEvaluator.evaluate(environment, values)
+        long start = System.nanoTime();
+        boolean match = HierarchicalPropertiesEvaluator.evaluate(environment, values);
+        CamelConditionEvaluationReport.record(context, metadata, System.nanoTime() - start, match);
+
+        return match
             ? ConditionOutcome.match(message.because("enabled"))
             : ConditionOutcome.noMatch(message.because("not enabled"));
     }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = CamelParallelRoutesLoadingTest.class,
+    properties = {
+        "camel.springboot.routes-include-pattern=file:src/test/resources/routes/foo.xml,file:src/test/resources/routes/bar.xml",
+        "camel.springboot.routes-load-parallel=true",
+        "camel.springboot.routes-load-parallelism=2",
+        "camel.springboot.startup-recorder=backlog"}
+)
+public class CamelParallelRoutesLoadingTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldLoadRoutesInOrder() {
+        assertNotNull(camelContext.getRoute("foo"));
+        assertNotNull(camelContext.getRoute("bar"));
+
+        // the routes are added in the same order as when loaded sequentially
+        List<String> ids = camelContext.getCamelContextExtension().getContextPlugin(Model.class).getRouteDefinitions()
+                .stream().map(RouteDefinition::getRouteId).toList();
+        assertEquals(List.of("foo", "bar"), ids);
+    }
+
+    @Test
+    public void shouldRecordStartupSteps() {
+        BacklogStartupStepRecorder recorder = assertInstanceOf(BacklogStartupStepRecorder.class,
+                camelContext.getCamelContextExtension().getStartupStepRecorder());
+        List<StartupStep> steps = recorder.steps().toList();
+        StartupStep parent = steps.stream().filter(step -> "Load Routes".equals(step.getName())).findFirst().orElseThrow();
+
+        // a step per route resource, nested in the step of the parallel loading
+        List<String> names = steps.stream().filter(step -> step.getParentId() == parent.getId())
+                .map(StartupStep::getName).toList();
+        assertEquals(List.of("file:src/test/resources/routes/foo.xml", "file:src/test/resources/routes/bar.xml"), names);
+        steps.stream().filter(step -> step.getParentId() == parent.getId())
+                .forEach(step -> assertEquals(parent.getLevel() + 1, step.getLevel()));
+    }
+
+}
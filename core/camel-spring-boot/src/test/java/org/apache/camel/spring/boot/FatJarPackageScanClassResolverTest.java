@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FatJarPackageScanClassResolverTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void testScanIndex() throws Exception {
+        File fatJar = createFatJar("org/bar/App.class", "org/bar/Other.class");
+
+        File indexDir = new File(dir, "index");
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        resolver.setIndexDirectory(indexDir.getPath());
+
+        List<String> entries;
+        try (InputStream is = new FileInputStream(fatJar)) {
+            entries = resolver.doLoadJarClassEntries(is, fatJar.getPath());
+        }
+        Assertions.assertEquals(List.of("org/bar/App.class", "org/bar/Other.class", "org/foo/Nested.class"), entries);
+        Assertions.assertEquals(1, indexDir.listFiles().length);
+
+        // the jar is not read again, even when touched
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Should not read the jar");
+            }
+        };
+        Assertions.assertTrue(fatJar.setLastModified(fatJar.lastModified() - 10000));
+        Assertions.assertEquals(entries, resolver.doLoadJarClassEntries(failing, fatJar.getPath()));
+
+        // the index is ignored once the content of the jar is changed
+        createFatJar("org/bar/App.class");
+        try (InputStream is = new FileInputStream(fatJar)) {
+            Assertions.assertEquals(List.of("org/bar/App.class", "org/foo/Nested.class"),
+                    resolver.doLoadJarClassEntries(is, fatJar.getPath()));
+        }
+        Assertions.assertEquals(2, indexDir.listFiles().length);
+    }
+
+    @Test
+    public void testScanIndexNotWritten() throws Exception {
+        File fatJar = createFatJar("org/bar/App.class");
+
+        File indexDir = new File(dir, "index");
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        resolver.setIndexDirectory(indexDir.getPath());
+        try (InputStream is = new FileInputStream(fatJar)) {
+            resolver.doLoadJarClassEntries(is, fatJar.getPath());
+        }
+
+        // replace the index by a directory so it cannot be written again
+        File index = indexDir.listFiles()[0];
+        Assertions.assertTrue(index.delete());
+        Assertions.assertTrue(new File(index, "dummy").mkdirs());
+        try (InputStream is = new FileInputStream(fatJar)) {
+            Assertions.assertEquals(List.of("org/bar/App.class", "org/foo/Nested.class"),
+                    resolver.doLoadJarClassEntries(is, fatJar.getPath()));
+        }
+
+        // the temporary index is deleted
+        Assertions.assertArrayEquals(new File[] { index }, indexDir.listFiles());
+    }
+
+    private File createFatJar(String... classes) throws IOException {
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(nested)) {
+            addEntry(jar, "org/foo/Nested.class", new byte[] { 1 });
+        }
+        File fatJar = new File(dir, "app.jar");
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(fatJar))) {
+            for (String name : classes) {
+                addEntry(jar, "BOOT-INF/classes/" + name, new byte[] { 1 });
+            }
+            addEntry(jar, "BOOT-INF/lib/nested.jar", nested.toByteArray());
+        }
+        return fatJar;
+    }
+
+    private static void addEntry(JarOutputStream jar, String name, byte[] data) throws IOException {
+        jar.putNextEntry(new ZipEntry(name));
+        jar.write(data);
+        jar.closeEntry();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FatJarPackageScanResourceResolverTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void testNestedJars() throws Exception {
+        File fatJar = new File(dir, "app.jar");
+        try (FileOutputStream fos = new FileOutputStream(fatJar)) {
+            // a launch script prepended to the jar
+            fos.write("#!/bin/sh\nexit 0\n".getBytes());
+            try (JarOutputStream jar = new JarOutputStream(fos)) {
+                addEntry(jar, "BOOT-INF/classes/camel/app-routes.xml", new byte[] { 1 }, false);
+                addEntry(jar, "BOOT-INF/classes/camel/App.class", new byte[] { 1 }, false);
+                addEntry(jar, "BOOT-INF/classes/other/other.xml", new byte[] { 1 }, false);
+                addEntry(jar, "BOOT-INF/lib/stored.jar", nestedJar("camel/stored-routes.xml"), true);
+                addEntry(jar, "BOOT-INF/lib/deflated.jar", nestedJar("camel/deflated-routes.xml"), false);
+            }
+        }
+
+        FatJarPackageScanResourceResolver resolver = new FatJarPackageScanResourceResolver();
+        List<String> entries;
+        try (InputStream is = new FileInputStream(fatJar)) {
+            entries = resolver.doLoadImplementationsInJar("camel/", is, fatJar.getPath());
+        }
+        Assertions.assertEquals(List.of("camel/app-routes.xml", "camel/stored-routes.xml", "camel/deflated-routes.xml"), entries);
+
+        entries = resolver.doLoadImplementationsInJar("META-INF/services/org/apache/camel/", new FileInputStream(fatJar),
+                fatJar.getPath());
+        Assertions.assertEquals(List.of("META-INF/services/org/apache/camel/component/stored",
+                "META-INF/services/org/apache/camel/component/deflated"), entries);
+    }
+
+    private static byte[] nestedJar(String route) throws IOException {
+        String name = route.substring(route.indexOf('/') + 1, route.indexOf('-'));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(bos)) {
+            addEntry(jar, route, new byte[] { 1 }, false);
+            addEntry(jar, "META-INF/services/org/apache/camel/component/" + name, new byte[] { 1 }, false);
+        }
+        return bos.toByteArray();
+    }
+
+    private static void addEntry(JarOutputStream jar, String name, byte[] data, boolean stored) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(data.length);
+            entry.setCrc(crc.getValue());
+        }
+        jar.putNextEntry(entry);
+        jar.write(data);
+        jar.closeEntry();
+    }
+}
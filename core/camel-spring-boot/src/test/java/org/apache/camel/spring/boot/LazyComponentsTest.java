@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.component.seda.SedaComponent;
+import org.apache.camel.spi.ComponentCustomizer;
+import org.apache.camel.spring.boot.util.ComponentCustomizerBean;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = LazyComponentsTest.TestConfiguration.class,
+    properties = "camel.springboot.lazy-components=true"
+)
+public class LazyComponentsTest {
+
+    private static final AtomicInteger CREATED = new AtomicInteger();
+    private static final List<String> CONFIGURED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    LazyComponentCustomizerPostProcessor postProcessor;
+
+    @Test
+    public void testLazyComponents() {
+        Assertions.assertEquals(0, CREATED.get());
+        Assertions.assertEquals(2, postProcessor.getPendingSize());
+        Assertions.assertFalse(applicationContext.containsBeanDefinition("configureSedaComponent"));
+        // only the marked customizers are deferred
+        Assertions.assertTrue(applicationContext.containsBeanDefinition("configureMockComponent"));
+
+        SedaComponent seda = camelContext.getComponent("seda", SedaComponent.class);
+        Assertions.assertEquals(1, CREATED.get());
+        Assertions.assertEquals(123, seda.getQueueSize());
+        Assertions.assertEquals(0, postProcessor.getPendingSize());
+        // the lazy customizers are sorted by their own order together with the other customizers
+        Assertions.assertEquals(List.of("configureSedaComponent", "configureSedaOrdered", "configureSedaLate"), CONFIGURED);
+        // the lazy customizers are created with the bean post processors of the application
+        Assertions.assertEquals(7, seda.getConcurrentConsumers());
+
+        // the customizer is now found directly and it is not created again
+        SedaComponent seda2 = new SedaComponent();
+        camelContext.addComponent("seda2", seda2);
+        Assertions.assertEquals(1, CREATED.get());
+        Assertions.assertEquals(123, seda2.getQueueSize());
+        Assertions.assertEquals(7, seda2.getConcurrentConsumers());
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Lazy
+        @Bean
+        @ComponentCustomizerBean(SedaComponent.class)
+        public ComponentCustomizer configureSedaComponent() {
+            CREATED.incrementAndGet();
+            return new ComponentCustomizer() {
+                @Override
+                public void configure(String name, Component target) {
+                    CONFIGURED.add("configureSedaComponent");
+                    ((SedaComponent) target).setQueueSize(123);
+                }
+
+                @Override
+                public boolean isEnabled(String name, Component target) {
+                    return target instanceof SedaComponent;
+                }
+            };
+        }
+
+        @Lazy
+        @Bean
+        @ComponentCustomizerBean(SedaComponent.class)
+        public ComponentCustomizer configureSedaLate() {
+            return new LateSedaCustomizer();
+        }
+
+        @Bean
+        public ComponentCustomizer configureSedaOrdered() {
+            return new ComponentCustomizer() {
+                @Override
+                public void configure(String name, Component target) {
+                    CONFIGURED.add("configureSedaOrdered");
+                    ((SedaComponent) target).setConcurrentConsumers(3);
+                }
+
+                @Override
+                public boolean isEnabled(String name, Component target) {
+                    return target instanceof SedaComponent;
+                }
+
+                @Override
+                public int getOrder() {
+                    return 5;
+                }
+            };
+        }
+
+        @Bean
+        public SedaSettings sedaSettings() {
+            return new SedaSettings(7);
+        }
+
+        @Bean
+        public ComponentCustomizer configureMockComponent() {
+            return new ComponentCustomizer() {
+                @Override
+                public void configure(String name, Component target) {
+                }
+
+                @Override
+                public boolean isEnabled(String name, Component target) {
+                    return false;
+                }
+            };
+        }
+    }
+
+    public record SedaSettings(int concurrentConsumers) {
+    }
+
+    public static class LateSedaCustomizer implements ComponentCustomizer {
+
+        @Autowired
+        private SedaSettings settings;
+
+        @Override
+        public void configure(String name, Component target) {
+            CONFIGURED.add("configureSedaLate");
+            ((SedaComponent) target).setConcurrentConsumers(settings.concurrentConsumers());
+        }
+
+        @Override
+        public boolean isEnabled(String name, Component target) {
+            return target instanceof SedaComponent;
+        }
+
+        @Override
+        public int getOrder() {
+            return 10;
+        }
+    }
+}
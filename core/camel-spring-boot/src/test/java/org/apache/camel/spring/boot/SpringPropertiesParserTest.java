@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.RandomValuePropertySource;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+public class SpringPropertiesParserTest {
+
+    @Test
+    public void testLookupCache() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("foo", "bar");
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        SpringPropertiesParser parser = new SpringPropertiesParser(env);
+        parser.setCacheEnabled(true);
+
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        Assertions.assertNull(parser.customLookup("missing"));
+        Assertions.assertEquals(0, parser.getCacheHits());
+        Assertions.assertEquals(2, parser.getCacheMisses());
+        Assertions.assertEquals(2, parser.getCacheSize());
+
+        // served from the cache, including the missing key
+        properties.put("foo", "baz");
+        properties.put("missing", "found");
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        Assertions.assertNull(parser.customLookup("missing"));
+        Assertions.assertEquals(2, parser.getCacheHits());
+        Assertions.assertEquals(2, parser.getCacheMisses());
+
+        // the cache is cleared on refresh
+        parser.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+        Assertions.assertEquals(0, parser.getCacheSize());
+        Assertions.assertEquals("baz", parser.customLookup("foo"));
+        Assertions.assertEquals("found", parser.customLookup("missing"));
+        Assertions.assertEquals(4, parser.getCacheMisses());
+
+        parser.resetStatistics();
+        Assertions.assertEquals(0, parser.getCacheHits());
+        Assertions.assertEquals(0, parser.getCacheMisses());
+    }
+
+    @Test
+    public void testLookupCacheDisabled() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("foo", "bar");
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        SpringPropertiesParser parser = new SpringPropertiesParser(env);
+
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        properties.put("foo", "baz");
+        Assertions.assertEquals("baz", parser.customLookup("foo"));
+        Assertions.assertEquals(0, parser.getCacheSize());
+    }
+
+    @Test
+    public void testMaxCacheSize() {
+        SpringPropertiesParser parser = new SpringPropertiesParser(new StandardEnvironment());
+        parser.setCacheEnabled(true);
+        parser.setMaxCacheSize(1);
+
+        Assertions.assertNull(parser.customLookup("a"));
+        Assertions.assertNull(parser.customLookup("b"));
+        Assertions.assertNull(parser.customLookup("b"));
+        Assertions.assertEquals(1, parser.getCacheSize());
+        Assertions.assertEquals(3, parser.getCacheMisses());
+    }
+
+    @Test
+    public void testLookupCacheDynamicValues() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("foo", "${random.uuid}");
+        properties.put("bar", "static");
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        RandomValuePropertySource.addToEnvironment(env);
+        SpringPropertiesParser parser = new SpringPropertiesParser(env);
+        parser.setCacheEnabled(true);
+
+        // random values and values referring to other properties are not cached
+        Assertions.assertNotEquals(parser.customLookup("random.uuid"), parser.customLookup("random.uuid"));
+        Assertions.assertNotEquals(parser.customLookup("foo"), parser.customLookup("foo"));
+        Assertions.assertEquals("static", parser.customLookup("bar"));
+        Assertions.assertNull(parser.customLookup("missing"));
+        Assertions.assertEquals(2, parser.getCacheSize());
+    }
+}
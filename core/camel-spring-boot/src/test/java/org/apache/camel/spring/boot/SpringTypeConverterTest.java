@@ -19,6 +19,7 @@ package org.apache.camel.spring.boot;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,6 +72,26 @@ public class SpringTypeConverterTest {
         Assertions.assertNull(converter.convertTo(String.class, source));
     }
 
+    @Test
+    public void testLookupCache() {
+        SpringTypeConverter springTypeConverter = new SpringTypeConverter(List.of(conversionService));
+
+        Assertions.assertEquals(42, springTypeConverter.convertTo(Integer.class, "42"));
+        Assertions.assertEquals(43, springTypeConverter.convertTo(Integer.class, "43"));
+        Assertions.assertNull(springTypeConverter.convertTo(AtomicBoolean.class, "44"));
+        Assertions.assertNull(springTypeConverter.convertTo(AtomicBoolean.class, "45"));
+
+        Assertions.assertEquals(2, springTypeConverter.getCacheSize());
+        Assertions.assertEquals(2, springTypeConverter.getCacheMisses());
+        Assertions.assertEquals(2, springTypeConverter.getCacheHits());
+
+        springTypeConverter.clearCache();
+        springTypeConverter.setMaxCacheSize(0);
+        Assertions.assertEquals(46, springTypeConverter.convertTo(Integer.class, "46"));
+        Assertions.assertEquals(0, springTypeConverter.getCacheSize());
+        Assertions.assertEquals(3, springTypeConverter.getCacheMisses());
+    }
+
     public static class Person {
         private String name;
         private int age;
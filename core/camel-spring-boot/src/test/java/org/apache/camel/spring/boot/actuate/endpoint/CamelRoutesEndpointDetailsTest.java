@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.DetailsSort;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.ReadAction;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteDetailsEndpointInfo;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.apache.camel.test.spring.junit5.DisableJmx;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Test for the bulk route details of the {@link CamelRoutesEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@DisableJmx(false)
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+                           properties = {"management.endpoints.web.exposure.include=*"})
+public class CamelRoutesEndpointDetailsTest {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @BeforeEach
+    public void addRoutes() throws Exception {
+        if (camelContext.getRoute("slow-route") != null) {
+            return;
+        }
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:slow").routeId("slow-route").delay(50).to("log:slow");
+                from("direct:failing").routeId("failing-route").throwException(new IllegalStateException("Forced"));
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("direct:slow", "Hello");
+            template.send("direct:failing", e -> e.getMessage().setBody("Hello"));
+        }
+    }
+
+    @Test
+    public void testDetails() throws Exception {
+        List<RouteDetailsEndpointInfo> details = endpoint.doReadAllAction(ReadAction.DETAIL, null, null);
+
+        Assertions.assertEquals(camelContext.getRoutes().size(), details.size());
+        RouteDetailsEndpointInfo slow = details.stream().filter(d -> "slow-route".equals(d.getId())).findFirst().get();
+        Assertions.assertEquals(3, slow.getRouteDetails().getExchangesTotal());
+        Assertions.assertTrue(slow.getRouteDetails().getMaxProcessingTime() >= 50);
+        RouteDetailsEndpointInfo failing
+                = details.stream().filter(d -> "failing-route".equals(d.getId())).findFirst().get();
+        Assertions.assertEquals(3, failing.getRouteDetails().getExchangesFailed());
+        Assertions.assertNotNull(failing.getRouteDetails().getLastExchangeFailureTimestamp());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> endpoint.doReadAllAction(ReadAction.INFO, null, null));
+    }
+
+    @Test
+    public void testTopRoutes() throws Exception {
+        Assertions.assertEquals(List.of("slow-route"),
+                ids(endpoint.doReadAllAction(ReadAction.DETAIL, DetailsSort.MEAN_PROCESSING_TIME, 1)));
+        Assertions.assertEquals(List.of("slow-route"),
+                ids(endpoint.doReadAllAction(ReadAction.DETAIL, DetailsSort.MAX_PROCESSING_TIME, 1)));
+        Assertions.assertEquals(List.of("failing-route"),
+                ids(endpoint.doReadAllAction(ReadAction.DETAIL, DetailsSort.FAILURES, 1)));
+        Assertions.assertEquals(2, endpoint.doReadAllAction(ReadAction.DETAIL, DetailsSort.INFLIGHT, 2).size());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        List<RouteDetailsEndpointInfo> details = endpoint.doReadAllAction(ReadAction.DETAIL, DetailsSort.FAILURES, 1);
+
+        JsonNode json = new ObjectMapper().readTree(new ObjectMapper().writeValueAsString(details));
+        Assertions.assertEquals(1, json.size());
+        Assertions.assertEquals("failing-route", json.get(0).get("id").asText());
+        Assertions.assertEquals(3, json.get(0).get("details").get("exchangesFailed").asLong());
+        Assertions.assertFalse(json.get(0).has("routeDetails"));
+    }
+
+    private static List<String> ids(List<RouteDetailsEndpointInfo> details) {
+        return details.stream().map(RouteDetailsEndpointInfo::getId).collect(Collectors.toList());
+    }
+
+}
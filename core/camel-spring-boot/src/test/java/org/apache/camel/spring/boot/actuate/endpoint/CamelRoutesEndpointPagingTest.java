@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RoutesEndpointInfo;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Test for the paging, filtering and projection of the {@link CamelRoutesEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+                           properties = {"management.endpoints.web.exposure.include=*"})
+public class CamelRoutesEndpointPagingTest {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Autowired
+    CamelRoutesEndpointProperties properties;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @BeforeEach
+    public void addRoutes() throws Exception {
+        if (camelContext.getRoute("bar-route-1") != null) {
+            return;
+        }
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:bar1").routeId("bar-route-1").routeGroup("bar-route-group").to("log:bar");
+                from("direct:bar2").routeId("bar-route-2").routeGroup("bar-route-group").to("log:bar");
+                from("direct:bar3").routeId("bar-route-3").routeGroup("bar-route-group").autoStartup(false).to("log:bar");
+            }
+        });
+    }
+
+    @Test
+    public void testPaging() throws Exception {
+        Assertions.assertEquals(camelContext.getRoutes().size(),
+                endpoint.readRoutes(null, null, null, null, null, null).size());
+        Assertions.assertEquals(List.of("bar-route-1", "bar-route-2", "bar-route-3"),
+                ids(endpoint.readRoutes(null, null, null, null, "bar-*", null)));
+        Assertions.assertEquals(List.of("bar-route-2", "bar-route-3"),
+                ids(endpoint.readRoutes(1, 2, null, null, "bar-*", null)));
+        Assertions.assertEquals(List.of("bar-route-3"),
+                ids(endpoint.readRoutes(2, 10, null, null, "bar-*", null)));
+        Assertions.assertTrue(endpoint.readRoutes(3, null, null, null, "bar-*", null).isEmpty());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> endpoint.readRoutes(-1, null, null, null, null, null));
+    }
+
+    @Test
+    public void testFiltering() throws Exception {
+        Assertions.assertEquals(List.of("bar-route-1", "bar-route-2", "bar-route-3"),
+                ids(endpoint.readRoutes(null, null, "bar-route-group", null, null, null)));
+        Assertions.assertEquals(List.of("bar-route-3"),
+                ids(endpoint.readRoutes(null, null, null, "stopped", null, null)));
+        Assertions.assertEquals(List.of("bar-route-1", "bar-route-2"),
+                ids(endpoint.readRoutes(null, null, "bar-route-group", "Started", null, null)));
+        Assertions.assertEquals(List.of("bar-route-2", "bar-route-3"),
+                ids(endpoint.readRoutes(null, null, null, null, "bar-route-[23]", null)));
+        Assertions.assertEquals(List.of("bar-route-2"),
+                ids(endpoint.readRoutes(1, 1, null, null, "bar-*", null)));
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        RoutesEndpointInfo routes = endpoint.readRoutes(null, null, null, null, "foo-route", "id, status");
+
+        Assertions.assertEquals(List.of(Map.of("id", "foo-route", "status", "Started")), new ArrayList<>(routes));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> endpoint.readRoutes(null, null, null, null, null, "id,unknown"));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        RoutesEndpointInfo routes = endpoint.readRoutes(null, 2, "bar-route-group", null, null, "id,group");
+
+        JsonNode json = new ObjectMapper().readTree(new ObjectMapper().writeValueAsString(routes));
+        Assertions.assertTrue(json.isArray());
+        Assertions.assertEquals(2, json.size());
+        Assertions.assertEquals("bar-route-1", json.get(0).get("id").asText());
+        Assertions.assertEquals("bar-route-group", json.get(0).get("group").asText());
+        Assertions.assertEquals("bar-route-2", json.get(1).get("id").asText());
+        Assertions.assertEquals(2, json.get(1).size());
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        int size = camelContext.getRoutes().size();
+        properties.setSnapshotTtl(60000);
+        try {
+            Assertions.assertEquals(size, endpoint.readRoutes(null, null, null, null, null, null).size());
+
+            camelContext.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:baz").routeId("baz-route").to("log:baz");
+                }
+            });
+            // the routes are read from the snapshot
+            Assertions.assertEquals(size, endpoint.readRoutes(null, null, null, null, null, null).size());
+            Assertions.assertEquals(List.of("bar-route-3"),
+                    ids(endpoint.readRoutes(null, null, null, "Stopped", null, null)));
+
+            properties.setSnapshotTtl(0);
+            Assertions.assertEquals(size + 1, endpoint.readRoutes(null, null, null, null, null, null).size());
+        } finally {
+            properties.setSnapshotTtl(0);
+            camelContext.getRouteController().stopRoute("baz-route");
+            camelContext.removeRoute("baz-route");
+        }
+    }
+
+    private static List<String> ids(RoutesEndpointInfo routes) {
+        return routes.stream().map(r -> ((RouteEndpointInfo) r).getId()).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {
+        "camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+        "camel.health.async-camel-health-check=true",
+        "camel.health.health-check-event-driven=true",
+        "camel.health.health-check-frequency=1",
+        "camel.health.health-check-max-age=0"})
+public class CamelHealthEventDrivenTest {
+
+    @Autowired
+    HealthContributorRegistry registry;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldRefreshHealthOnRouteEvents() throws Exception {
+        HealthIndicator indicator = (HealthIndicator) registry.getContributor("camelHealth");
+        Assertions.assertFalse(indicator instanceof CamelHealthCheckIndicator);
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertEquals("UP", indicator.health().getStatus().getCode()));
+
+        // the refreshes while nothing changes are covered by HealthStateRefresherTest, as the startup may refresh the
+        // health at any time
+        camelContext.getRouteController().stopRoute("foo-route");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertEquals("DOWN", indicator.health().getStatus().getCode()));
+
+        camelContext.getRouteController().startRoute("foo-route");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertEquals("UP", indicator.health().getStatus().getCode()));
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {
+        "camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+        "camel.health.exposure-level=full",
+        "camel.health.health-check-parallelism=2",
+        "camel.health.health-check-timeout=200"})
+public class CamelHealthParallelTest {
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    CamelHealthCheckIndicator indicator;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void releaseChecks() {
+        release.countDown();
+    }
+
+    @Test
+    public void shouldReportDuration() throws Exception {
+        Health health = indicator.health();
+
+        Assertions.assertEquals("UP", health.getStatus().getCode());
+        Assertions.assertEquals("UP", health.getDetails().get("context"));
+        Assertions.assertTrue(data(health, "context").containsKey(CamelHealthCheckIndicator.INVOCATION_DURATION));
+    }
+
+    @Test
+    public void shouldUseLastKnownResultOnTimeout() throws Exception {
+        SlowHealthCheck check = new SlowHealthCheck("slow-last-known");
+        HealthCheckRegistry.get(camelContext).register(check);
+        try {
+            CamelHealthCheckIndicator full = new CamelHealthCheckIndicator(applicationContext, camelContext, "full", 2, 200);
+            Assertions.assertEquals("UP", full.health().getDetails().get("slow-last-known"));
+
+            check.block = true;
+            long start = System.nanoTime();
+            Health health = full.health();
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+
+            // the last known result of the slow health check, and the other health checks are not delayed
+            Assertions.assertEquals("UP", health.getDetails().get("slow-last-known"));
+            Assertions.assertEquals("true", data(health, "slow-last-known").get(CamelHealthCheckIndicator.INVOCATION_TIMEOUT));
+            Assertions.assertEquals("UP", health.getDetails().get("context"));
+            Assertions.assertNull(data(health, "context").get(CamelHealthCheckIndicator.INVOCATION_TIMEOUT));
+
+            // the hanging health check is not invoked again
+            full.health();
+            Assertions.assertEquals(2, check.invocations);
+        } finally {
+            HealthCheckRegistry.get(camelContext).unregister(check);
+        }
+    }
+
+    @Test
+    public void shouldBeUnknownOnFirstTimeout() throws Exception {
+        SlowHealthCheck check = new SlowHealthCheck("slow-unknown");
+        check.block = true;
+        HealthCheckRegistry.get(camelContext).register(check);
+        try {
+            Health health = indicator.health();
+
+            Assertions.assertEquals("UP", health.getStatus().getCode());
+            Assertions.assertEquals("UNKNOWN", health.getDetails().get("slow-unknown"));
+        } finally {
+            HealthCheckRegistry.get(camelContext).unregister(check);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> data(Health health, String id) {
+        return (Map<String, String>) health.getDetails().get(id + ".data");
+    }
+
+    private final class SlowHealthCheck extends AbstractHealthCheck {
+
+        private volatile boolean block;
+        private volatile int invocations;
+
+        private SlowHealthCheck(String id) {
+            super("test", id);
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            invocations++;
+            if (block) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            builder.up();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spring.boot.actuate.health.AsyncHealthIndicatorAutoConfiguration.HealthStateRefresher;
+import org.apache.camel.spring.boot.actuate.health.AsyncHealthIndicatorAutoConfiguration.WrappedHealthIndicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HealthStateRefresherTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final AtomicInteger checks = new AtomicInteger();
+    private CamelContext camelContext;
+
+    @BeforeEach
+    public void setUp() {
+        camelContext = new DefaultCamelContext();
+    }
+
+    @Test
+    public void shouldCoalesceRefreshes() {
+        HealthStateRefresher refresher = new HealthStateRefresher(camelContext, tasks::add, 0);
+        WrappedHealthIndicator indicator = new WrappedHealthIndicator(
+                () -> Health.up().withDetail("check", checks.incrementAndGet()).build());
+        refresher.addIndicator(indicator);
+
+        refresher.refresh();
+        refresher.refresh();
+        refresher.refresh();
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals(1, checks.get());
+        assertEquals(1, indicator.health().getDetails().get("check"));
+    }
+
+    @Test
+    public void shouldRefreshOneAtATime() {
+        HealthStateRefresher refresher = new HealthStateRefresher(camelContext, tasks::add, 0);
+        // an event received while the health checks are executed
+        WrappedHealthIndicator indicator = new WrappedHealthIndicator(() -> {
+            int check = checks.incrementAndGet();
+            if (check == 1) {
+                refresher.refresh();
+            }
+            return Health.up().withDetail("check", check).build();
+        });
+        refresher.addIndicator(indicator);
+
+        refresher.refresh();
+        tasks.remove(0).run();
+
+        // refreshed again by the running refresh, instead of a concurrent one
+        assertEquals(0, tasks.size());
+        assertEquals(2, checks.get());
+        assertEquals(2, indicator.health().getDetails().get("check"));
+
+        refresher.refresh();
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void shouldNotRefreshWhileNothingChanges() {
+        HealthStateRefresher refresher = new HealthStateRefresher(camelContext, tasks::add, 0);
+        WrappedHealthIndicator indicator = new WrappedHealthIndicator(
+                () -> Health.up().withDetail("check", checks.incrementAndGet()).build());
+        refresher.addIndicator(indicator);
+        Health health = indicator.health();
+
+        refresher.run();
+        refresher.run();
+        refresher.run();
+        assertEquals(0, tasks.size());
+        assertSame(health, indicator.health());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.info;
+
+import java.util.Map;
+
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.properties.PropertiesComponentAutoConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelInfoAutoConfiguration.class},
+    properties = {
+        "camel.springboot.properties-lookup-cache=true",
+        "management.info.camel.conditions-enabled=true",
+        "management.info.camel.properties-lookup-cache-enabled=true"})
+public class CamelInfoDetailsTest {
+
+    @Autowired
+    CamelInfoContributor indicator;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldHaveDetails() throws Exception {
+        Info.Builder builder = new Info.Builder();
+        indicator.contribute(builder);
+        Assertions.assertNotNull(builder);
+
+        Map<String, Object> conditions = (Map<String, Object>) builder.build().get("camel.conditions");
+        Assertions.assertNotNull(conditions);
+        Map<String, Object> autoConfigurations = (Map<String, Object>) conditions.get("autoConfigurations");
+        Assertions.assertTrue(autoConfigurations.containsKey(PropertiesComponentAutoConfiguration.class.getName()));
+
+        Assertions.assertNotNull(builder.build().get("camel.propertiesLookupCache"));
+    }
+
+}
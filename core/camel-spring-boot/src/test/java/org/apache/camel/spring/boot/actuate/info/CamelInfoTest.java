@@ -47,6 +47,10 @@ public class CamelInfoTest {
 
         Assertions.assertEquals(camelContext.getName(), builder.build().get("camel.name"));
         Assertions.assertEquals(camelContext.getVersion(), builder.build().get("camel.version"));
+
+        // the condition timings and the properties lookup cache statistics are disabled by default
+        Assertions.assertNull(builder.build().get("camel.conditions"));
+        Assertions.assertNull(builder.build().get("camel.propertiesLookupCache"));
     }
 
 }
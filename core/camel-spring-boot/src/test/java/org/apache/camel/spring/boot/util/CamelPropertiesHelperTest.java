@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.component.seda.SedaComponent;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -144,6 +145,23 @@ public class CamelPropertiesHelperTest {
         Assertions.assertSame(camelContext, target.getCamelContext());
     }
 
+    @Test
+    public void testBindComponent() throws Exception {
+        SedaComponent target = new SedaComponent();
+        target.setCamelContext(camelContext);
+
+        CamelPropertiesHelper.bindComponent(camelContext, target)
+                .bind("queueSize", 123)
+                .bind("concurrentConsumers", "4")
+                .bind("defaultBlockWhenFull", Boolean.TRUE)
+                .bind("defaultPollTimeout", null);
+
+        Assertions.assertEquals(123, target.getQueueSize());
+        Assertions.assertEquals(4, target.getConcurrentConsumers());
+        Assertions.assertTrue(target.isDefaultBlockWhenFull());
+        Assertions.assertEquals(1000, target.getDefaultPollTimeout());
+    }
+
     @Test
     public void testSetCamelPropertiesType() throws Exception {
         MyClass target = new MyClass();
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+public class HierarchicalPropertiesCacheTest {
+
+    @Test
+    public void testCache() {
+        StandardEnvironment environment = new StandardEnvironment();
+        Map<String, Object> props = new HashMap<>();
+        props.put("test.group1.enabled", "true");
+        props.put("test.group1.subgroup1.enabled", "false");
+        environment.getPropertySources().addFirst(new MapPropertySource("test", props));
+
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup1"));
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup2"));
+
+        HierarchicalPropertiesCache cache = HierarchicalPropertiesCache.get(environment);
+        Assertions.assertEquals(3, cache.size());
+
+        // changing the content of a property source requires an explicit invalidation
+        props.put("test.group1.subgroup1.enabled", "true");
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup1"));
+        HierarchicalPropertiesCache.invalidate(environment);
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup1"));
+
+        // adding a property source drops the cache automatically
+        environment.getPropertySources().addFirst(new MapPropertySource("override", Map.of("test.group1.subgroup2.enabled", "false")));
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup2"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.jmh;
+
+import java.io.ByteArrayInputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * The application of the benchmarks, with trivial routes so the benchmarks measure the platform-http request path.
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+
+    static final byte[] LARGE_BODY = new byte[1024 * 1024];
+
+    @Bean
+    public RouteBuilder benchmarkRoutes() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("platform-http:/bench/json?httpMethodRestrict=POST")
+                        .setHeader("Content-Type").constant("application/json")
+                        .setBody().constant("{\"status\":\"ok\"}");
+
+                // the request body is streamed back as is
+                from("platform-http:/bench/upload?httpMethodRestrict=POST")
+                        .setHeader("Content-Type").constant("application/octet-stream");
+
+                from("platform-http:/bench/download?httpMethodRestrict=GET")
+                        .setHeader("Content-Type").constant("application/octet-stream")
+                        .setBody().exchange(e -> new ByteArrayInputStream(LARGE_BODY));
+
+                rest("/bench/items")
+                        .get("/{id}/parts/{part}").to("direct:part");
+                from("direct:part")
+                        .setBody().simple("${header.id}/${header.part}");
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Benchmarks the platform-http request path: the request is dispatched by the Spring MVC DispatcherServlet to the
+ * CamelRequestHandlerMapping, which hands it over to the SpringBootPlatformHttpConsumer that routes it.
+ * <p/>
+ * The requests are performed with MockMvc, so neither the network nor an HTTP client is measured. The throughput and
+ * the latency percentiles are reported by the throughput and sample time modes, and the allocation per request by the
+ * gc.alloc.rate.norm metric of the GC profiler.
+ * <p/>
+ * Run with <tt>mvn test -DskipTests=false</tt>. The number of forks, iterations and threads can be set with the
+ * <tt>jmh.forks</tt>, <tt>jmh.iterations</tt> and <tt>jmh.threads</tt> system properties, and the benchmarks to run
+ * with <tt>jmh.include</tt>. The results are written to <tt>target/jmh-result.json</tt>.
+ */
+public class PlatformHttpBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", this.getClass().getName() + ".*"))
+                .mode(Mode.Throughput)
+                .mode(Mode.SampleTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .threads(Integer.getInteger("jmh.threads", 1))
+                .warmupIterations(Integer.getInteger("jmh.iterations", 5))
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(2))
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        /**
+         * Whether the request and response bodies are streamed by the binding.
+         */
+        @Param({ "false", "true" })
+        boolean streaming;
+
+        ConfigurableApplicationContext context;
+        MockMvc mockMvc;
+        RequestBuilder smallJson;
+        RequestBuilder largeUpload;
+        RequestBuilder largeDownload;
+        RequestBuilder restPathParameters;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                    .properties(
+                            "server.address=127.0.0.1",
+                            "server.port=0",
+                            "logging.level.root=WARN",
+                            "camel.springboot.stream-caching-enabled=false",
+                            "camel.component.platform-http.streaming=" + streaming)
+                    .run();
+            mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+            smallJson = post("/bench/json")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"id\":1,\"name\":\"camel\"}");
+            largeUpload = post("/bench/upload")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .content(BenchmarkApplication.LARGE_BODY);
+            largeDownload = get("/bench/download");
+            restPathParameters = get("/bench/items/42/parts/7");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        MvcResult perform(RequestBuilder request) throws Exception {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            if (result.getResponse().getStatus() != 200) {
+                throw new IllegalStateException("Unexpected response status: " + result.getResponse().getStatus());
+            }
+            return result;
+        }
+    }
+
+    @Benchmark
+    public byte[] smallJson(BenchmarkState state) throws Exception {
+        return state.perform(state.smallJson).getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] largeUpload(BenchmarkState state) throws Exception {
+        return state.perform(state.largeUpload).getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] largeDownload(BenchmarkState state) throws Exception {
+        return state.perform(state.largeDownload).getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] restPathParameters(BenchmarkState state) throws Exception {
+        return state.perform(state.restPathParameters).getResponse().getContentAsByteArray();
+    }
+}
@@ -1279,6 +1279,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addImport("org.apache.camel.spring.boot.CamelAutoConfiguration");
         javaClass.addImport("org.apache.camel.spring.boot.ComponentConfigurationProperties");
         javaClass.addImport("org.apache.camel.spring.boot.util.CamelPropertiesHelper");
+        javaClass.addImport("org.apache.camel.spring.boot.util.ComponentCustomizerBean");
         javaClass.addImport("org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans");
         javaClass.addImport("org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator");
         javaClass.addImport(model.getJavaType());
@@ -1290,8 +1291,15 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         Method ctr = javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext");
         ctr.setBody("this.camelContext = camelContext;\n");
 
+        // the options are bound one by one from the getters of the configuration
+        // so the configuration bean does not have to be introspected at runtime
+        List<String> options = model.getComponentOptions().stream()
+                .filter(o -> !skipComponentOption(model, o))
+                .map(ComponentOptionModel::getName)
+                .collect(Collectors.toList());
+
         // add method for auto configure
-        String body = createComponentBody(model.getShortJavaType(), componentName);
+        String body = createComponentBody(model.getShortJavaType(), componentName, options);
         String methodName = "configure" + model.getShortJavaType();
 
         Method method = javaClass.addMethod()
@@ -1301,6 +1309,9 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                 .setReturnType(loadType("org.apache.camel.spi.ComponentCustomizer"));
         method.addAnnotation(Lazy.class);
         method.addAnnotation(Bean.class);
+        // marks the customizer so its creation can be deferred (camel.springboot.lazy-components)
+        method.addAnnotation(loadClass("org.apache.camel.spring.boot.util.ComponentCustomizerBean"))
+                .setLiteralValue(model.getShortJavaType() + ".class");
 
         sortImports(javaClass);
 
@@ -1666,12 +1677,17 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         writeComponentSpringFactorySource(packageName, name);
     }
 
-    private static String createComponentBody(String shortJavaType, String name) {
-        return new StringBuilder()
+    private static String createComponentBody(String shortJavaType, String name, List<String> options) {
+        StringBuilder sb = new StringBuilder()
                 .append("return new ComponentCustomizer() {\n")
                 .append("    @Override\n")
                 .append("    public void configure(String name, Component target) {\n")
-                .append("        CamelPropertiesHelper.copyProperties(camelContext, configuration, target);\n")
+                .append("        CamelPropertiesHelper.bindComponent(camelContext, target)");
+        for (String option : options) {
+            sb.append("\n                .bind(\"").append(option).append("\", configuration.get")
+                    .append(StringUtils.capitalize(option)).append("())");
+        }
+        return sb.append(";\n")
                 .append("    }\n")
                 .append("    @Override\n")
                 .append("    public boolean isEnabled(String name, Component target) {\n")